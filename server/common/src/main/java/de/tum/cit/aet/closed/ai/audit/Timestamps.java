@@ -0,0 +1,36 @@
+package de.tum.cit.aet.closed.ai.audit;
+
+import org.springframework.data.auditing.DateTimeProvider;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+/**
+ * Timestamps at the microsecond precision of PostgreSQL's {@code timestamp(6)} columns. A nanosecond
+ * {@link Instant} would be rounded when it is stored, so an ETag built from the instance that was
+ * written could differ from the one built from the row read back afterwards.
+ */
+public final class Timestamps {
+
+    private Timestamps() {
+    }
+
+    /** The current time, truncated to microseconds. */
+    public static Instant now() {
+        return now(Clock.systemUTC());
+    }
+
+    static Instant now(Clock clock) {
+        return clock.instant().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    /**
+     * {@link DateTimeProvider} for {@code @EnableJpaAuditing(dateTimeProviderRef = ...)}, so that
+     * {@code @CreatedDate} and {@code @LastModifiedDate} are set at the stored precision as well.
+     */
+    public static DateTimeProvider dateTimeProvider() {
+        return () -> Optional.of(now());
+    }
+}
@@ -0,0 +1,244 @@
+package de.tum.cit.aet.closed.ai.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.tum.cit.aet.closed.ai.event.ChangesMissedEvent;
+import de.tum.cit.aet.closed.ai.event.ProjectChangedEvent;
+import de.tum.cit.aet.closed.ai.event.UserChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.postgresql.Driver;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Announces changed users and projects to all instances of all services, so that their caches do
+ * not serve a changed entry until it expires. The services share one database, whose {@code
+ * LISTEN}/{@code NOTIFY} carries the announcements.
+ *
+ * <p>Every {@link UserChangedEvent} and {@link ProjectChangedEvent} is sent as a notification on
+ * the {@value #CHANNEL} channel. It is sent within the transaction that made the change, so
+ * PostgreSQL delivers it once that transaction commits and drops it if it rolls back; without a
+ * transaction it is delivered right away.
+ *
+ * <p>Every instance listens on a connection of its own, outside the connection pool, and publishes
+ * the notifications of the other instances as the same events, on which the local caches drop the
+ * entry. Notifications are not stored, so the ones sent while an instance was not listening are
+ * lost: whenever the connection is (re)opened a {@link ChangesMissedEvent} is published instead. A
+ * lost connection is reopened with a growing delay.
+ *
+ * <p>Notifications are counted as {@code cache.invalidation.notifications} with {@code
+ * direction=sent} or {@code received}; {@code cache.invalidation.listening} is 1 while this
+ * instance is listening.
+ */
+@Component
+@ConditionalOnProperty(name = "cache-invalidation.enabled", havingValue = "true")
+public class CacheInvalidationBus implements SmartLifecycle {
+
+    static final String CHANNEL = "cache_invalidation";
+    static final String USER = "user";
+    static final String PROJECT = "project";
+
+    private static final Logger log = LoggerFactory.getLogger(CacheInvalidationBus.class);
+
+    private static final String NOTIFY = "SELECT pg_notify(?, ?)";
+    private static final int POLL_TIMEOUT_MILLIS = 1000;
+    private static final long VALIDATION_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+    private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+    private static final long MIN_RECONNECT_DELAY_MILLIS = 1000;
+    private static final long MAX_RECONNECT_DELAY_MILLIS = 30_000;
+
+    // identifies the notifications of this instance, whose events were already published here
+    private final String origin = UUID.randomUUID().toString();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final DataSource listenerDataSource;
+
+    private final Counter sent;
+    private final Counter received;
+
+    // set while an event of another instance is published here, so that it is not sent back
+    private final ThreadLocal<Boolean> delivering = ThreadLocal.withInitial(() -> false);
+
+    private volatile boolean running;
+    private volatile boolean listening;
+    private Thread listener;
+
+    public CacheInvalidationBus(
+            JdbcTemplate jdbcTemplate,
+            ApplicationEventPublisher eventPublisher,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${spring.datasource.url}") String url,
+            @Value("${spring.datasource.username}") String username,
+            @Value("${spring.datasource.password}") String password) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.listenerDataSource = new SimpleDriverDataSource(new Driver(), url, username, password);
+        this.sent = notifications(meterRegistry, "sent");
+        this.received = notifications(meterRegistry, "received");
+        Gauge.builder("cache.invalidation.listening", this, bus -> bus.listening ? 1 : 0)
+                .description("Whether this instance receives the cache invalidations of the others")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        send(USER, event.userId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        send(PROJECT, event.projectId());
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        // one long-lived thread that mostly waits on the socket
+        listener = Thread.ofPlatform().name("cache-invalidation-listener").daemon().start(this::listen);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (listener == null) {
+            return;
+        }
+        // ends a reconnect delay; a poll ends by itself within its timeout
+        listener.interrupt();
+        try {
+            listener.join(2L * POLL_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void send(String entity, Long id) {
+        if (delivering.get()) {
+            return;
+        }
+        try {
+            String payload = objectMapper.writeValueAsString(new Notification(entity, id, origin));
+            jdbcTemplate.queryForList(NOTIFY, CHANNEL, payload);
+            sent.increment();
+        } catch (JsonProcessingException | DataAccessException e) {
+            // the other instances drop the entry when it expires
+            log.warn("Could not announce the change of {} {}", entity, id, e);
+        }
+    }
+
+    void receive(String payload) {
+        Notification notification;
+        try {
+            notification = objectMapper.readValue(payload, Notification.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Ignoring malformed cache invalidation {}", payload, e);
+            return;
+        }
+        if (notification.entity() == null || notification.id() == null || origin.equals(notification.origin())) {
+            return;
+        }
+        Object event = switch (notification.entity()) {
+            case USER -> new UserChangedEvent(notification.id());
+            case PROJECT -> new ProjectChangedEvent(notification.id());
+            // an entity this version does not cache
+            default -> null;
+        };
+        if (event == null) {
+            return;
+        }
+        received.increment();
+        delivering.set(true);
+        try {
+            eventPublisher.publishEvent(event);
+        } finally {
+            delivering.remove();
+        }
+    }
+
+    private void listen() {
+        long reconnectDelayMillis = MIN_RECONNECT_DELAY_MILLIS;
+        while (running) {
+            try (Connection connection = listenerDataSource.getConnection()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                listening = true;
+                reconnectDelayMillis = MIN_RECONNECT_DELAY_MILLIS;
+                eventPublisher.publishEvent(new ChangesMissedEvent());
+                poll(connection);
+            } catch (SQLException e) {
+                log.warn("Cache invalidation listener is not connected, retrying in {} ms", reconnectDelayMillis, e);
+            } finally {
+                listening = false;
+            }
+            if (running) {
+                try {
+                    Thread.sleep(reconnectDelayMillis);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                reconnectDelayMillis = Math.min(2 * reconnectDelayMillis, MAX_RECONNECT_DELAY_MILLIS);
+            }
+        }
+    }
+
+    private void poll(Connection connection) throws SQLException {
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        long validatedAt = System.nanoTime();
+        while (running) {
+            PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+            if (notifications != null && notifications.length > 0) {
+                for (PGNotification notification : notifications) {
+                    receive(notification.getParameter());
+                }
+            } else if (System.nanoTime() - validatedAt >= VALIDATION_INTERVAL_NANOS) {
+                // a connection that was dropped without a reset would otherwise wait forever
+                if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    throw new SQLException("Listener connection is no longer valid");
+                }
+                validatedAt = System.nanoTime();
+            }
+        }
+    }
+
+    private Counter notifications(MeterRegistry meterRegistry, String direction) {
+        return Counter.builder("cache.invalidation.notifications")
+                .description("Cache invalidations exchanged with the other instances, by direction")
+                .tag("direction", direction)
+                .register(meterRegistry);
+    }
+
+    /** Payload of a notification, as JSON. */
+    record Notification(String entity, Long id, String origin) {
+    }
+}
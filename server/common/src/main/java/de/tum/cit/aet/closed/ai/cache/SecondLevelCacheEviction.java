@@ -0,0 +1,43 @@
+package de.tum.cit.aet.closed.ai.cache;
+
+import de.tum.cit.aet.closed.ai.event.ChangesMissedEvent;
+import de.tum.cit.aet.closed.ai.event.ProjectChangedEvent;
+import de.tum.cit.aet.closed.ai.event.UserChangedEvent;
+import de.tum.cit.aet.closed.ai.model.Project;
+import de.tum.cit.aet.closed.ai.model.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drops changed users and projects from the Hibernate second-level cache.
+ *
+ * <p>A change made through Hibernate already updates the cache of the instance that made it. The
+ * copies other instances hold are dropped here when the {@link CacheInvalidationBus} delivers the
+ * event of the change to them, and otherwise only when they expire (see application.conf).
+ */
+@Component
+public class SecondLevelCacheEviction {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public SecondLevelCacheEviction(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        entityManagerFactory.getCache().evict(User.class, event.userId());
+    }
+
+    @EventListener
+    public void onProjectChanged(ProjectChangedEvent event) {
+        entityManagerFactory.getCache().evict(Project.class, event.projectId());
+    }
+
+    @EventListener
+    public void onChangesMissed(ChangesMissedEvent event) {
+        entityManagerFactory.getCache().evict(User.class);
+        entityManagerFactory.getCache().evict(Project.class);
+    }
+}
@@ -0,0 +1,228 @@
+package de.tum.cit.aet.closed.ai.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Stops calling a service that keeps failing, so that callers fail fast instead of waiting for
+ * timeouts.
+ *
+ * <p>While closed, the outcomes of the last {@code slidingWindowSize} calls are kept; once at least
+ * {@code minimumCalls} of them were made and the share of failures reaches {@code
+ * failureRateThreshold} percent, the breaker opens and permits no calls for {@code openDuration}.
+ * It then turns half-open and permits {@code halfOpenCalls} probes: if all of them succeed it
+ * closes again, the first failing probe opens it for another {@code openDuration}.
+ *
+ * <p>Every permitted call holds a {@link Permit} of the state it was permitted in. Outcomes are
+ * only counted for permits of the current state, so that e.g. a slow call permitted while closed
+ * does not count as a probe when it ends after the breaker turned half-open.
+ *
+ * <p>The current state is exported as {@code client.circuit.state} (1 for the current state, 0 for
+ * the others) and every transition is counted as {@code client.circuit.transitions}.
+ */
+class CircuitBreaker {
+
+    enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureRateThreshold;
+    private final int minimumCalls;
+    private final long openNanos;
+    private final int halfOpenCalls;
+    private final LongSupplier nanoTime;
+
+    // not synchronized: the breaker is used on virtual threads
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile State state = State.CLOSED;
+
+    // ring buffer of the outcomes while closed, true for a failure
+    private final boolean[] outcomes;
+    private int recorded;
+    private int next;
+    private int failures;
+
+    // incremented on every transition, see Permit
+    private long generation;
+
+    private long openUntil;
+    private int probesStarted;
+    private int probesSucceeded;
+
+    private final Map<State, Counter> transitions = new EnumMap<>(State.class);
+
+    CircuitBreaker(
+            String client,
+            MeterRegistry meterRegistry,
+            int failureRateThreshold,
+            int slidingWindowSize,
+            int minimumCalls,
+            Duration openDuration,
+            int halfOpenCalls,
+            LongSupplier nanoTime) {
+        this.failureRateThreshold = failureRateThreshold;
+        this.minimumCalls = Math.min(minimumCalls, slidingWindowSize);
+        this.openNanos = openDuration.toNanos();
+        this.halfOpenCalls = halfOpenCalls;
+        this.nanoTime = nanoTime;
+        this.outcomes = new boolean[slidingWindowSize];
+        for (State each : State.values()) {
+            String name = each.name().toLowerCase(Locale.ROOT);
+            Gauge.builder("client.circuit.state", this, breaker -> breaker.state == each ? 1 : 0)
+                    .description("Whether the circuit breaker of calls to another service is in this state")
+                    .tag("client", client)
+                    .tag("state", name)
+                    .register(meterRegistry);
+            transitions.put(each, Counter.builder("client.circuit.transitions")
+                    .description("Circuit breaker transitions of calls to another service, by new state")
+                    .tag("client", client)
+                    .tag("state", name)
+                    .register(meterRegistry));
+        }
+    }
+
+    State state() {
+        return state;
+    }
+
+    /**
+     * The permit for a call that may be made now, or {@code null} if it may not. Every permit must
+     * be settled by {@link #onSuccess}, {@link #onFailure} or {@link #release}; only the first of
+     * them counts.
+     */
+    Permit tryAcquire() {
+        lock.lock();
+        try {
+            if (state == State.OPEN) {
+                if (nanoTime.getAsLong() - openUntil < 0) {
+                    return null;
+                }
+                transition(State.HALF_OPEN);
+            }
+            if (state == State.HALF_OPEN) {
+                if (probesStarted == halfOpenCalls) {
+                    return null;
+                }
+                probesStarted++;
+            }
+            return new Permit(generation);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void onSuccess(Permit permit) {
+        lock.lock();
+        try {
+            if (!settle(permit)) {
+                return;
+            }
+            if (state == State.HALF_OPEN) {
+                if (++probesSucceeded == halfOpenCalls) {
+                    transition(State.CLOSED);
+                }
+            } else if (state == State.CLOSED) {
+                record(false);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void onFailure(Permit permit) {
+        lock.lock();
+        try {
+            if (!settle(permit)) {
+                return;
+            }
+            if (state == State.HALF_OPEN) {
+                transition(State.OPEN);
+            } else if (state == State.CLOSED) {
+                record(true);
+                if (recorded >= minimumCalls && failures * 100 >= failureRateThreshold * recorded) {
+                    transition(State.OPEN);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Settles a permit without an outcome: the call was not made after all, or ended with neither a
+     * success nor a failure of the service (e.g. an {@link Error}). It counts neither way; a probe
+     * is permitted again. Does nothing for a permit that is already settled.
+     */
+    void release(Permit permit) {
+        lock.lock();
+        try {
+            if (settle(permit) && state == State.HALF_OPEN) {
+                probesStarted--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Marks the permit as settled; whether its outcome counts for the current state. */
+    private boolean settle(Permit permit) {
+        if (permit.settled) {
+            return false;
+        }
+        permit.settled = true;
+        return permit.generation == generation;
+    }
+
+    private void record(boolean failure) {
+        if (recorded == outcomes.length) {
+            if (outcomes[next]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        outcomes[next] = failure;
+        if (failure) {
+            failures++;
+        }
+        next = (next + 1) % outcomes.length;
+    }
+
+    private void transition(State newState) {
+        switch (newState) {
+            case OPEN -> openUntil = nanoTime.getAsLong() + openNanos;
+            case HALF_OPEN -> {
+                probesStarted = 0;
+                probesSucceeded = 0;
+            }
+            case CLOSED -> {
+                recorded = 0;
+                next = 0;
+                failures = 0;
+            }
+        }
+        state = newState;
+        generation++;
+        transitions.get(newState).increment();
+    }
+
+    /** Permission for one call, see {@link #tryAcquire}. Only accessed under the breaker's lock. */
+    static final class Permit {
+
+        // the breaker's generation when the permit was granted
+        private final long generation;
+        private boolean settled;
+
+        private Permit(long generation) {
+            this.generation = generation;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package de.tum.cit.aet.closed.ai.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Loads values from another service so that concurrent callers never ask for the same key twice.
+ *
+ * <p>The first caller of a key makes the remote call; callers asking for that key while the call
+ * is outstanding wait for it and share its result or exception (single flight). Nothing is kept
+ * once the call completes; caching is up to the client.
+ *
+ * <p>With a batch window, the first caller additionally waits that long (or until {@code
+ * maxBatchSize} keys are collected) for callers of other keys and loads all of them with one
+ * batch call. This trades a few milliseconds of latency for fewer requests when many different
+ * keys are looked up at once.
+ *
+ * <p>Lookups are counted as {@code client.lookups} with {@code result=called} for keys that were
+ * requested remotely and {@code result=coalesced} for keys that joined an outstanding call; the
+ * number of keys per remote call is recorded as {@code client.lookups.batch.size}.
+ */
+class CoalescingLoader<K, V> {
+
+    private final Function<K, V> loader;
+    private final Function<Set<K>, Map<K, V>> batchLoader;
+    private final Duration batchWindow;
+    private final int maxBatchSize;
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    // not synchronized: a waiting batch must not pin its virtual thread
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition batchFull = lock.newCondition();
+    private Map<K, CompletableFuture<V>> openBatch;
+
+    private final Counter called;
+    private final Counter coalesced;
+    private final DistributionSummary batchSize;
+
+    /** Single flight only; every key is loaded by its own call. */
+    CoalescingLoader(String client, MeterRegistry meterRegistry, Function<K, V> loader) {
+        this(client, meterRegistry, loader, null, Duration.ZERO, 1);
+    }
+
+    /**
+     * Single flight and, if {@code batchWindow} is positive, micro-batching. {@code batchLoader} must
+     * return a value for every requested key.
+     */
+    CoalescingLoader(
+            String client,
+            MeterRegistry meterRegistry,
+            Function<K, V> loader,
+            Function<Set<K>, Map<K, V>> batchLoader,
+            Duration batchWindow,
+            int maxBatchSize) {
+        this.loader = loader;
+        this.batchLoader = batchLoader;
+        this.batchWindow = batchWindow;
+        this.maxBatchSize = maxBatchSize;
+        this.called = Counter.builder("client.lookups")
+                .description("Keys looked up in another service, by whether a remote call was made for them")
+                .tag("client", client)
+                .tag("result", "called")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("client.lookups")
+                .description("Keys looked up in another service, by whether a remote call was made for them")
+                .tag("client", client)
+                .tag("result", "coalesced")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("client.lookups.batch.size")
+                .description("Keys loaded by one remote call")
+                .tag("client", client)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    V load(K key) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> outstanding = inFlight.putIfAbsent(key, call);
+        if (outstanding != null) {
+            coalesced.increment();
+            return join(outstanding);
+        }
+        called.increment();
+        if (batchLoader != null && batchWindow.isPositive()) {
+            loadInBatch(key, call);
+        } else {
+            complete(Map.of(key, call), keys -> Map.of(key, loader.apply(key)));
+        }
+        return join(call);
+    }
+
+    private void loadInBatch(K key, CompletableFuture<V> call) {
+        Map<K, CompletableFuture<V>> batch;
+        boolean first;
+        lock.lock();
+        try {
+            first = openBatch == null;
+            if (first) {
+                openBatch = new LinkedHashMap<>();
+            }
+            batch = openBatch;
+            batch.put(key, call);
+            if (batch.size() >= maxBatchSize) {
+                openBatch = null;
+                batchFull.signalAll();
+            }
+            if (!first) {
+                return;
+            }
+            // the first caller collects keys for the window, then loads the batch for everyone
+            long remaining = batchWindow.toNanos();
+            while (openBatch == batch && remaining > 0) {
+                remaining = batchFull.awaitNanos(remaining);
+            }
+            if (openBatch == batch) {
+                openBatch = null;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (openBatch == batch) {
+                openBatch = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+        complete(batch, batchLoader);
+    }
+
+    private void complete(Map<K, CompletableFuture<V>> calls, Function<Set<K>, Map<K, V>> load) {
+        batchSize.record(calls.size());
+        try {
+            Map<K, V> values = load.apply(calls.keySet());
+            calls.forEach((key, call) -> call.complete(values.get(key)));
+        } catch (RuntimeException | Error e) {
+            calls.values().forEach(call -> call.completeExceptionally(e));
+        } finally {
+            calls.forEach(inFlight::remove);
+        }
+    }
+
+    private static <V> V join(CompletableFuture<V> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            // the exception of the remote call, as if the caller had made the call itself
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
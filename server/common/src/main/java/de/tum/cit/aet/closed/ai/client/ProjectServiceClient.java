@@ -1,11 +1,11 @@
 package de.tum.cit.aet.closed.ai.client;
 
 import de.tum.cit.aet.closed.ai.dto.ProjectDto;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClient;
-import org.springframework.web.server.ResponseStatusException;
 
 import java.util.Optional;
 
@@ -14,13 +14,29 @@ public class ProjectServiceClient {
 
     private final RestClient restClient;
 
-    public ProjectServiceClient(@Value("${project-service.url}") String projectServiceUrl) {
-        this.restClient = RestClient.builder()
+    private final RemoteCallPolicy policy;
+
+    // concurrent lookups of the same project share one request
+    private final CoalescingLoader<Long, Optional<ProjectDto>> lookups;
+
+    public ProjectServiceClient(
+            RestClient.Builder restClientBuilder,
+            RemoteCallPolicies remoteCallPolicies,
+            MeterRegistry meterRegistry,
+            @Value("${project-service.url}") String projectServiceUrl) {
+        this.restClient = restClientBuilder
                 .baseUrl(projectServiceUrl)
                 .build();
+        this.policy = remoteCallPolicies.forClient("project-service");
+        this.lookups = new CoalescingLoader<>(
+                "project-service", meterRegistry, id -> policy.callHedged(() -> fetchById(id)));
     }
 
     public Optional<ProjectDto> findById(Long id) {
+        return lookups.load(id);
+    }
+
+    private Optional<ProjectDto> fetchById(Long id) {
         try {
             ProjectDto projectDto = restClient.get()
                     .uri("/projects/{id}", id)
@@ -32,11 +48,8 @@ public class ProjectServiceClient {
             }
 
             return Optional.of(projectDto);
-        } catch (ResponseStatusException e) {
-            if (e.getStatusCode() == HttpStatus.NOT_FOUND) {
-                return Optional.empty();
-            }
-            throw e;
+        } catch (HttpClientErrorException.NotFound e) {
+            return Optional.empty();
         }
     }
 }
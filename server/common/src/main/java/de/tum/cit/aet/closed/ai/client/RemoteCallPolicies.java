@@ -0,0 +1,63 @@
+package de.tum.cit.aet.closed.ai.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+
+/**
+ * Creates the {@link RemoteCallPolicy} of each client. Every service that is called gets its own
+ * circuit breaker and bulkhead, so that a failing service does not affect calls to the others; the
+ * {@link RetryBudget}s for retries and for hedged requests are shared by all of them.
+ */
+public class RemoteCallPolicies {
+
+    private final MeterRegistry meterRegistry;
+    private final Settings settings;
+    private final RetryBudget retryBudget;
+    private final RetryBudget hedgingBudget;
+
+    public RemoteCallPolicies(MeterRegistry meterRegistry, Settings settings) {
+        this.meterRegistry = meterRegistry;
+        this.settings = settings;
+        this.retryBudget = new RetryBudget(settings.retryBudgetRatio(), settings.retryBudgetReserve());
+        this.hedgingBudget = new RetryBudget(settings.hedgingBudgetRatio(), settings.hedgingBudgetReserve());
+    }
+
+    RemoteCallPolicy forClient(String client) {
+        CircuitBreaker circuitBreaker = new CircuitBreaker(
+                client,
+                meterRegistry,
+                settings.failureRateThreshold(),
+                settings.slidingWindowSize(),
+                settings.minimumCalls(),
+                settings.openDuration(),
+                settings.halfOpenCalls(),
+                System::nanoTime);
+        RequestHedging hedging = settings.hedging()
+                ? new RequestHedging(
+                        client, meterRegistry, settings.hedgingPercentile(), settings.hedgingMinDelay(), hedgingBudget)
+                : null;
+        return new RemoteCallPolicy(client, meterRegistry, settings, retryBudget, circuitBreaker, hedging);
+    }
+
+    /** See the {@code http-client.*} properties in application-shared.properties. */
+    public record Settings(
+            int maxConcurrentCalls,
+            Duration maxWait,
+            int failureRateThreshold,
+            int slidingWindowSize,
+            int minimumCalls,
+            Duration openDuration,
+            int halfOpenCalls,
+            int maxRetries,
+            Duration initialBackoff,
+            Duration maxBackoff,
+            double retryBudgetRatio,
+            int retryBudgetReserve,
+            boolean hedging,
+            double hedgingPercentile,
+            Duration hedgingMinDelay,
+            double hedgingBudgetRatio,
+            int hedgingBudgetReserve) {
+    }
+}
@@ -0,0 +1,177 @@
+package de.tum.cit.aet.closed.ai.client;
+
+import de.tum.cit.aet.closed.ai.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Fault isolation for the calls to one service: a {@link CircuitBreaker}, a bulkhead and retries.
+ *
+ * <p>The bulkhead bounds the calls in progress; a call that gets no permit within {@code max-wait}
+ * is rejected instead of queueing behind a slow service. Rejected calls fail with {@link
+ * ServiceUnavailableException} and are counted as {@code client.calls.rejected}.
+ *
+ * <p>Calls that failed without reaching the service (connection errors, timeouts) or with 502, 503
+ * or 504 are retried after a random backoff of up to {@code initial-backoff} doubled per attempt,
+ * as long as the shared {@link RetryBudget} allows. Retries are counted as {@code client.retries}.
+ * Only idempotent reads go through a policy, so a retry cannot apply a change twice.
+ *
+ * <p>Lookups of a single entity can additionally be hedged ({@link RequestHedging}); a hedged call
+ * and its duplicate request count as one call for the bulkhead and the circuit breaker.
+ */
+class RemoteCallPolicy {
+
+    private final String client;
+    private final RemoteCallPolicies.Settings settings;
+    private final RetryBudget retryBudget;
+    private final CircuitBreaker circuitBreaker;
+    private final Semaphore bulkhead;
+    private final RequestHedging hedging;
+
+    private final Counter rejectedByBulkhead;
+    private final Counter rejectedByCircuitBreaker;
+    private final Counter retried;
+    private final Counter retriesOverBudget;
+
+    RemoteCallPolicy(
+            String client,
+            MeterRegistry meterRegistry,
+            RemoteCallPolicies.Settings settings,
+            RetryBudget retryBudget,
+            CircuitBreaker circuitBreaker,
+            RequestHedging hedging) {
+        this.client = client;
+        this.settings = settings;
+        this.retryBudget = retryBudget;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = new Semaphore(settings.maxConcurrentCalls());
+        this.hedging = hedging;
+        this.rejectedByBulkhead = rejections(meterRegistry, "bulkhead");
+        this.rejectedByCircuitBreaker = rejections(meterRegistry, "circuit_open");
+        this.retried = retries(meterRegistry, "retried");
+        this.retriesOverBudget = retries(meterRegistry, "budget_exhausted");
+    }
+
+    <T> T call(Supplier<T> call) {
+        return call(call, false);
+    }
+
+    /**
+     * Like {@link #call(Supplier)}, but with {@link RequestHedging} if it is enabled. Only for a
+     * single idempotent GET, which can be sent twice without any effect.
+     */
+    <T> T callHedged(Supplier<T> call) {
+        return call(call, hedging != null);
+    }
+
+    private <T> T call(Supplier<T> call, boolean hedged) {
+        retryBudget.onCall();
+        RuntimeException lastFailure = null;
+        for (int attempt = 0; ; attempt++) {
+            if (attempt > 0) {
+                backOff(attempt, lastFailure);
+            }
+            CircuitBreaker.Permit permit = circuitBreaker.tryAcquire();
+            if (permit == null) {
+                rejectedByCircuitBreaker.increment();
+                throw lastFailure != null
+                        ? lastFailure
+                        : new ServiceUnavailableException(client + " is failing, calls are suspended");
+            }
+            acquireBulkhead(permit);
+            try {
+                T result = hedged ? hedging.call(call) : call.get();
+                circuitBreaker.onSuccess(permit);
+                return result;
+            } catch (RuntimeException e) {
+                if (!isFailure(e)) {
+                    // the service answered, e.g. with 404
+                    circuitBreaker.onSuccess(permit);
+                    throw e;
+                }
+                circuitBreaker.onFailure(permit);
+                if (!isRetryable(e) || attempt == settings.maxRetries()) {
+                    throw e;
+                }
+                if (!retryBudget.tryRetry()) {
+                    retriesOverBudget.increment();
+                    throw e;
+                }
+                retried.increment();
+                lastFailure = e;
+            } finally {
+                // only settles a permit that got no outcome, e.g. after an Error
+                circuitBreaker.release(permit);
+                bulkhead.release();
+            }
+        }
+    }
+
+    CircuitBreaker circuitBreaker() {
+        return circuitBreaker;
+    }
+
+    private void acquireBulkhead(CircuitBreaker.Permit permit) {
+        boolean acquired;
+        try {
+            acquired = bulkhead.tryAcquire(settings.maxWait().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            circuitBreaker.release(permit);
+            rejectedByBulkhead.increment();
+            throw new ServiceUnavailableException(client + " has too many calls in progress");
+        }
+    }
+
+    private void backOff(int attempt, RuntimeException lastFailure) {
+        long ceiling = Math.min(
+                settings.maxBackoff().toNanos(), settings.initialBackoff().toNanos() << Math.min(attempt - 1, 20));
+        try {
+            // full jitter spreads the retries of many callers over the whole backoff
+            TimeUnit.NANOSECONDS.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw lastFailure;
+        }
+    }
+
+    private static boolean isFailure(RuntimeException e) {
+        return e instanceof ResourceAccessException || e instanceof HttpServerErrorException;
+    }
+
+    private static boolean isRetryable(RuntimeException e) {
+        if (e instanceof HttpServerErrorException serverError) {
+            return serverError.getStatusCode().isSameCodeAs(HttpStatus.BAD_GATEWAY)
+                    || serverError.getStatusCode().isSameCodeAs(HttpStatus.SERVICE_UNAVAILABLE)
+                    || serverError.getStatusCode().isSameCodeAs(HttpStatus.GATEWAY_TIMEOUT);
+        }
+        return e instanceof ResourceAccessException;
+    }
+
+    private Counter rejections(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("client.calls.rejected")
+                .description("Calls to another service that were not made, by reason")
+                .tag("client", client)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private Counter retries(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("client.retries")
+                .description("Retries of failed calls to another service, by whether the retry budget allowed them")
+                .tag("client", client)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
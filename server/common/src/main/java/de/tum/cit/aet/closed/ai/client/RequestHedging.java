@@ -0,0 +1,143 @@
+package de.tum.cit.aet.closed.ai.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Sends a second copy of a slow request so that a single slow response does not set the caller's
+ * latency (hedged requests). Only for idempotent reads.
+ *
+ * <p>If the request has not completed after the {@code percentile} of the recent request latencies
+ * (but at least {@code minDelay}), the same request is sent again; the first successful response
+ * is used and the other request is cancelled. Only the slowest requests are hedged this way, and a
+ * {@link RetryBudget} of its own limits hedges to a share of the requests, so a service that is
+ * slow across the board does not get twice the load.
+ *
+ * <p>Request latencies are exported as {@code client.request.latency}, hedges as {@code
+ * client.hedges} with {@code result=sent} for hedges that were sent, {@code won} for those that
+ * answered first and {@code budget_exhausted} for those that were not sent.
+ */
+class RequestHedging {
+
+    private static final long DELAY_REFRESH_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final String client;
+    private final long minDelayNanos;
+    private final RetryBudget budget;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Timer latency;
+    private final Counter sent;
+    private final Counter won;
+    private final Counter overBudget;
+
+    // the percentile is read from the timer at most once per DELAY_REFRESH_NANOS
+    private volatile long delayNanos;
+    private volatile long delayRefreshedAt = System.nanoTime() - DELAY_REFRESH_NANOS;
+
+    RequestHedging(
+            String client, MeterRegistry meterRegistry, double percentile, Duration minDelay, RetryBudget budget) {
+        this.client = client;
+        this.minDelayNanos = minDelay.toNanos();
+        this.delayNanos = minDelayNanos;
+        this.budget = budget;
+        this.latency = Timer.builder("client.request.latency")
+                .description("Latency of successful requests to another service")
+                .tag("client", client)
+                .publishPercentiles(percentile)
+                .register(meterRegistry);
+        this.sent = hedges(meterRegistry, "sent");
+        this.won = hedges(meterRegistry, "won");
+        this.overBudget = hedges(meterRegistry, "budget_exhausted");
+    }
+
+    <T> T call(Supplier<T> request) {
+        budget.onCall();
+        CompletionService<T> completion = new ExecutorCompletionService<>(executor);
+        List<Future<T>> requests = new ArrayList<>(2);
+        requests.add(completion.submit(() -> timed(request)));
+        try {
+            Future<T> done = completion.poll(hedgeDelay(), TimeUnit.NANOSECONDS);
+            if (done == null) {
+                if (budget.tryRetry()) {
+                    sent.increment();
+                    requests.add(completion.submit(() -> timed(request)));
+                } else {
+                    overBudget.increment();
+                }
+            }
+            RuntimeException failure = null;
+            for (int outstanding = requests.size(); outstanding > 0; outstanding--) {
+                Future<T> next = done != null ? done : completion.take();
+                done = null;
+                try {
+                    T result = next.get();
+                    if (next != requests.getFirst()) {
+                        won.increment();
+                    }
+                    return result;
+                } catch (ExecutionException e) {
+                    // the other request may still succeed
+                    failure = unwrap(e);
+                }
+            }
+            throw failure;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for " + client);
+        } finally {
+            requests.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private <T> T timed(Supplier<T> request) {
+        long start = System.nanoTime();
+        T result = request.get();
+        latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return result;
+    }
+
+    private long hedgeDelay() {
+        long now = System.nanoTime();
+        if (now - delayRefreshedAt >= DELAY_REFRESH_NANOS) {
+            ValueAtPercentile[] percentiles = latency.takeSnapshot().percentileValues();
+            long percentileNanos = percentiles.length > 0 ? (long) percentiles[0].value(TimeUnit.NANOSECONDS) : 0;
+            delayNanos = Math.max(minDelayNanos, percentileNanos);
+            delayRefreshedAt = now;
+        }
+        return delayNanos;
+    }
+
+    private static RuntimeException unwrap(ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (e.getCause() instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(e.getCause());
+    }
+
+    private Counter hedges(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("client.hedges")
+                .description("Hedged requests to another service, by result")
+                .tag("client", client)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
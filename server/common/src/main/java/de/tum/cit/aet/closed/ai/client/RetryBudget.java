@@ -0,0 +1,43 @@
+package de.tum.cit.aet.closed.ai.client;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limits retries to a share of the calls, shared by all clients, so that retries cannot multiply
+ * the load on a service that is already failing.
+ *
+ * <p>A token bucket: every call adds {@code ratio} tokens and every retry takes one. The bucket
+ * holds at most {@code reserve} tokens and starts full, which allows a short burst of retries
+ * after a quiet period; beyond that, retries are at most {@code ratio} of the calls.
+ */
+class RetryBudget {
+
+    // tokens are counted in thousandths so that fractional deposits need no floating point state
+    private static final long SCALE = 1000;
+
+    private final long deposit;
+    private final long capacity;
+    private final AtomicLong balance;
+
+    RetryBudget(double ratio, int reserve) {
+        this.deposit = Math.round(ratio * SCALE);
+        this.capacity = reserve * SCALE;
+        this.balance = new AtomicLong(capacity);
+    }
+
+    void onCall() {
+        balance.accumulateAndGet(deposit, (current, added) -> Math.min(capacity, current + added));
+    }
+
+    /** Takes a token for a retry; false if the budget is used up and the call must not be retried. */
+    boolean tryRetry() {
+        long current;
+        do {
+            current = balance.get();
+            if (current < SCALE) {
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - SCALE));
+        return true;
+    }
+}
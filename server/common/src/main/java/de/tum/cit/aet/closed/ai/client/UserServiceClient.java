@@ -1,43 +1,221 @@
 package de.tum.cit.aet.closed.ai.client;
 
-import de.tum.cit.aet.closed.ai.dto.ProjectDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import de.tum.cit.aet.closed.ai.dto.UserDto;
+import de.tum.cit.aet.closed.ai.event.ChangesMissedEvent;
+import de.tum.cit.aet.closed.ai.event.UserChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpStatus;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClient;
-import org.springframework.web.server.ResponseStatusException;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Component
 public class UserServiceClient {
 
+    static final String CACHE_NAME = "user-service-client";
+
+    // the user service rejects larger batches, see UserController.MAX_BATCH_SIZE
+    static final int MAX_BATCH_SIZE = 1000;
+
+    private static final int GENERATION_STRIPES = 1024;
+
     private final RestClient restClient;
 
-    public UserServiceClient(@Value("${user-service.url}") String userServiceUrl) {
-        this.restClient = RestClient.builder()
+    private final RemoteCallPolicy policy;
+
+    // found users are kept for the full TTL, unknown IDs (404) only for the shorter negative TTL
+    private final Cache<Long, Optional<UserDto>> cache;
+
+    // concurrent misses for the same user share one request; with a batch window, misses for
+    // different users are merged into one batch request
+    private final CoalescingLoader<Long, Optional<UserDto>> lookups;
+
+    // bumped for a user before its entry is evicted, so that a fetch that was already in flight
+    // does not put back what it read before the change; users share stripes, so an eviction may
+    // also keep a fetched entry of another user out of the cache, which only costs a later request
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public UserServiceClient(
+            RestClient.Builder restClientBuilder,
+            RemoteCallPolicies remoteCallPolicies,
+            MeterRegistry meterRegistry,
+            @Value("${user-service.url}") String userServiceUrl,
+            @Value("${user-service.cache.maximum-size:10000}") long maximumSize,
+            @Value("${user-service.cache.ttl:60s}") Duration ttl,
+            @Value("${user-service.cache.negative-ttl:5s}") Duration negativeTtl,
+            @Value("${user-service.batch-window:0ms}") Duration batchWindow,
+            @Value("${user-service.batch-max-size:100}") int batchMaxSize) {
+        this.restClient = restClientBuilder
                 .baseUrl(userServiceUrl)
                 .build();
+        this.policy = remoteCallPolicies.forClient("user-service");
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new FoundOrMissingExpiry(ttl, negativeTtl))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        this.lookups = new CoalescingLoader<>(
+                "user-service", meterRegistry, this::fetchById, this::fetchBatch, batchWindow, batchMaxSize);
     }
 
     public Optional<UserDto> findById(Long id) {
+        // not cache.get(id, this::fetchById): that runs the request inside a synchronized block of
+        // the cache's map, which pins a virtual thread to its carrier for the whole call
+        Optional<UserDto> cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return cached;
+        }
+        return lookups.load(id);
+    }
+
+    /**
+     * Resolves many users at once. Cached entries are served locally and all remaining IDs are
+     * fetched with batch requests of up to {@value #MAX_BATCH_SIZE} IDs each. Unknown IDs are
+     * absent from the returned map.
+     */
+    public Map<Long, UserDto> findAllByIds(Collection<Long> ids) {
+        List<Long> distinctIds = ids.stream().filter(Objects::nonNull).distinct().toList();
+        if (distinctIds.isEmpty()) {
+            return Map.of();
+        }
+        // not cache.getAll(ids, ...): it would put the fetched users without checking generations
+        Map<Long, Optional<UserDto>> users = new HashMap<>(cache.getAllPresent(distinctIds));
+        Set<Long> missing = distinctIds.stream()
+                .filter(id -> !users.containsKey(id))
+                .collect(Collectors.toSet());
+        if (!missing.isEmpty()) {
+            users.putAll(fetchBatch(missing));
+        }
+        return users.entrySet().stream()
+                .filter(entry -> entry.getValue().isPresent())
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().get()));
+    }
+
+    public void evict(Long id) {
+        // bumped before the entry is removed, see putIfUnchanged
+        generations.incrementAndGet(stripe(id));
+        cache.invalidate(id);
+    }
+
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        evict(event.userId());
+    }
+
+    @EventListener
+    public void onChangesMissed(ChangesMissedEvent event) {
+        for (int stripe = 0; stripe < GENERATION_STRIPES; stripe++) {
+            generations.incrementAndGet(stripe);
+        }
+        cache.invalidateAll();
+    }
+
+    private Optional<UserDto> fetchById(Long id) {
+        long generation = generations.get(stripe(id));
+        Optional<UserDto> user = policy.callHedged(() -> requestById(id));
+        // cached once by the caller that made the request, not again by every caller sharing it
+        putIfUnchanged(id, user, generation);
+        return user;
+    }
+
+    private Optional<UserDto> requestById(Long id) {
         try {
             UserDto userDto = restClient.get()
                     .uri("/users/{id}", id)
                     .retrieve()
                     .body(UserDto.class);
 
-            if (userDto == null) {
-                return Optional.empty();
-            }
+            return Optional.ofNullable(userDto);
+        } catch (HttpClientErrorException.NotFound e) {
+            return Optional.empty();
+        }
+    }
+
+    /** A micro-batch of {@link #findById} misses, cached like {@link #fetchById}. */
+    private Map<Long, Optional<UserDto>> fetchBatch(Set<Long> ids) {
+        Map<Long, Long> generationsById = ids.stream()
+                .collect(Collectors.toMap(Function.identity(), id -> generations.get(stripe(id))));
+        Map<Long, Optional<UserDto>> users = fetchAllByIds(ids);
+        users.forEach((id, user) -> putIfUnchanged(id, user, generationsById.get(id)));
+        return users;
+    }
+
+    /**
+     * Caches a fetched user unless it was evicted since its generation was read. The check runs
+     * within the cache's lock for the entry, so an eviction either happens before it and keeps the
+     * user out, or waits for the put and removes it again.
+     */
+    private void putIfUnchanged(Long id, Optional<UserDto> user, long generation) {
+        cache.asMap().compute(id, (key, cached) -> generations.get(stripe(key)) == generation ? user : cached);
+    }
+
+    private static int stripe(Long id) {
+        return Long.hashCode(id) & (GENERATION_STRIPES - 1);
+    }
+
+    private Map<Long, Optional<UserDto>> fetchAllByIds(Set<Long> ids) {
+        List<Long> idList = List.copyOf(ids);
+        Map<Long, Optional<UserDto>> result = new HashMap<>();
+        for (int from = 0; from < idList.size(); from += MAX_BATCH_SIZE) {
+            result.putAll(fetchChunk(idList.subList(from, Math.min(from + MAX_BATCH_SIZE, idList.size()))));
+        }
+        return result;
+    }
+
+    private Map<Long, Optional<UserDto>> fetchChunk(List<Long> ids) {
+        List<UserDto> found = policy.call(() -> restClient.post()
+                .uri("/users/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ids)
+                .retrieve()
+                .body(new ParameterizedTypeReference<List<UserDto>>() {
+                }));
+        Map<Long, UserDto> byId = found == null
+                ? Map.of()
+                : found.stream().collect(Collectors.toMap(UserDto::id, Function.identity()));
+
+        // every requested ID gets an entry so that unknown ones are negatively cached as well
+        Map<Long, Optional<UserDto>> result = new HashMap<>();
+        ids.forEach(id -> result.put(id, Optional.ofNullable(byId.get(id))));
+        return result;
+    }
+
+    private record FoundOrMissingExpiry(Duration ttl, Duration negativeTtl)
+            implements Expiry<Long, Optional<UserDto>> {
+
+        @Override
+        public long expireAfterCreate(Long key, Optional<UserDto> value, long currentTime) {
+            return (value.isPresent() ? ttl : negativeTtl).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(Long key, Optional<UserDto> value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
 
-            return Optional.of(userDto);
-        } catch (ResponseStatusException e) {
-            if (e.getStatusCode() == HttpStatus.NOT_FOUND) {
-                return Optional.empty();
-            }
-            throw e;
+        @Override
+        public long expireAfterRead(Long key, Optional<UserDto> value, long currentTime, long currentDuration) {
+            return currentDuration;
         }
     }
 }
@@ -0,0 +1,132 @@
+package de.tum.cit.aet.closed.ai.config;
+
+import de.tum.cit.aet.closed.ai.client.RemoteCallPolicies;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestClientCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import java.time.Duration;
+
+/**
+ * HTTP transport of every {@code RestClient.Builder}, i.e. of the calls between the services.
+ *
+ * <p>Connections are pooled and kept alive, with a limit per target service ({@code
+ * max-connections-per-route}) so that one slow service cannot take the whole pool. Each phase of a
+ * call has its own timeout: waiting for a pooled connection, connecting, and waiting for response
+ * data. A stalled service therefore fails calls after a bounded time instead of holding the
+ * calling threads. Idle and expired connections are closed in the background. The pool is
+ * reported as {@code httpcomponents.httpclient.pool.*} with {@code httpclient=inter-service}.
+ *
+ * <p>On top of the transport, the clients guard their calls with {@link RemoteCallPolicies}.
+ */
+@Configuration
+public class HttpClientConfig {
+
+    static final String POOL_NAME = "inter-service";
+
+    private static final Duration VALIDATE_AFTER_INACTIVITY = Duration.ofSeconds(2);
+
+    @Bean
+    public PoolingHttpClientConnectionManager interServiceConnectionManager(
+            MeterRegistry meterRegistry,
+            @Value("${http-client.max-connections:200}") int maxConnections,
+            @Value("${http-client.max-connections-per-route:50}") int maxConnectionsPerRoute,
+            @Value("${http-client.connect-timeout:1s}") Duration connectTimeout,
+            @Value("${http-client.read-timeout:5s}") Duration readTimeout,
+            @Value("${http-client.time-to-live:5m}") Duration timeToLive) {
+        PoolingHttpClientConnectionManager connectionManager = connectionManager(
+                maxConnections, maxConnectionsPerRoute, connectTimeout, readTimeout, timeToLive);
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, POOL_NAME).bindTo(meterRegistry);
+        return connectionManager;
+    }
+
+    @Bean
+    public CloseableHttpClient interServiceHttpClient(
+            PoolingHttpClientConnectionManager interServiceConnectionManager,
+            @Value("${http-client.connection-request-timeout:1s}") Duration connectionRequestTimeout,
+            @Value("${http-client.read-timeout:5s}") Duration readTimeout,
+            @Value("${http-client.idle-timeout:30s}") Duration idleTimeout) {
+        return httpClient(interServiceConnectionManager, connectionRequestTimeout, readTimeout, idleTimeout);
+    }
+
+    @Bean
+    public RestClientCustomizer interServiceRestClientCustomizer(CloseableHttpClient interServiceHttpClient) {
+        return builder -> builder.requestFactory(new HttpComponentsClientHttpRequestFactory(interServiceHttpClient));
+    }
+
+    @Bean
+    public RemoteCallPolicies remoteCallPolicies(
+            MeterRegistry meterRegistry,
+            @Value("${http-client.bulkhead.max-concurrent-calls:50}") int maxConcurrentCalls,
+            @Value("${http-client.bulkhead.max-wait:100ms}") Duration maxWait,
+            @Value("${http-client.circuit-breaker.failure-rate-threshold:50}") int failureRateThreshold,
+            @Value("${http-client.circuit-breaker.sliding-window-size:20}") int slidingWindowSize,
+            @Value("${http-client.circuit-breaker.minimum-calls:10}") int minimumCalls,
+            @Value("${http-client.circuit-breaker.open-duration:10s}") Duration openDuration,
+            @Value("${http-client.circuit-breaker.half-open-calls:3}") int halfOpenCalls,
+            @Value("${http-client.retry.max-retries:2}") int maxRetries,
+            @Value("${http-client.retry.initial-backoff:50ms}") Duration initialBackoff,
+            @Value("${http-client.retry.max-backoff:500ms}") Duration maxBackoff,
+            @Value("${http-client.retry.budget-ratio:0.1}") double retryBudgetRatio,
+            @Value("${http-client.retry.budget-reserve:10}") int retryBudgetReserve,
+            @Value("${http-client.hedging.enabled:false}") boolean hedging,
+            @Value("${http-client.hedging.percentile:0.95}") double hedgingPercentile,
+            @Value("${http-client.hedging.min-delay:10ms}") Duration hedgingMinDelay,
+            @Value("${http-client.hedging.budget-ratio:0.05}") double hedgingBudgetRatio,
+            @Value("${http-client.hedging.budget-reserve:10}") int hedgingBudgetReserve) {
+        return new RemoteCallPolicies(meterRegistry, new RemoteCallPolicies.Settings(
+                maxConcurrentCalls, maxWait,
+                failureRateThreshold, slidingWindowSize, minimumCalls, openDuration, halfOpenCalls,
+                maxRetries, initialBackoff, maxBackoff, retryBudgetRatio, retryBudgetReserve,
+                hedging, hedgingPercentile, hedgingMinDelay, hedgingBudgetRatio, hedgingBudgetReserve));
+    }
+
+    static PoolingHttpClientConnectionManager connectionManager(
+            int maxConnections,
+            int maxConnectionsPerRoute,
+            Duration connectTimeout,
+            Duration readTimeout,
+            Duration timeToLive) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setSocketTimeout(Timeout.of(readTimeout))
+                        // bounds how long a connection to a replaced instance can be reused
+                        .setTimeToLive(TimeValue.of(timeToLive))
+                        // a connection the server closed while idle is detected before it is used
+                        .setValidateAfterInactivity(TimeValue.of(VALIDATE_AFTER_INACTIVITY))
+                        .build())
+                .build();
+    }
+
+    static CloseableHttpClient httpClient(
+            PoolingHttpClientConnectionManager connectionManager,
+            Duration connectionRequestTimeout,
+            Duration readTimeout,
+            Duration idleTimeout) {
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        // how long a call waits for a connection when its route is at its limit
+                        .setConnectionRequestTimeout(Timeout.of(connectionRequestTimeout))
+                        .setResponseTimeout(Timeout.of(readTimeout))
+                        .build())
+                .evictIdleConnections(TimeValue.of(idleTimeout))
+                .evictExpiredConnections()
+                .build();
+    }
+}
@@ -0,0 +1,11 @@
+package de.tum.cit.aet.closed.ai.dto;
+
+import de.tum.cit.aet.closed.ai.model.TaskStatus;
+
+import java.util.List;
+
+public record BulkStatusUpdateDto(
+        List<Long> taskIds,
+        TaskStatus status
+) {
+}
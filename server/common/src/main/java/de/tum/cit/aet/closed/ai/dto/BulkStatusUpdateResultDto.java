@@ -0,0 +1,12 @@
+package de.tum.cit.aet.closed.ai.dto;
+
+import de.tum.cit.aet.closed.ai.model.TaskStatus;
+
+import java.util.List;
+
+public record BulkStatusUpdateResultDto(
+        TaskStatus status,
+        List<Long> updatedIds,
+        List<Long> notFoundIds
+) {
+}
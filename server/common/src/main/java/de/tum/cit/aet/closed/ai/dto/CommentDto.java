@@ -0,0 +1,21 @@
+package de.tum.cit.aet.closed.ai.dto;
+
+import de.tum.cit.aet.closed.ai.model.TaskComment;
+
+import java.time.Instant;
+
+public record CommentDto(
+        Long id,
+        Long taskId,
+        String content,
+        Instant createdAt
+) {
+    public static CommentDto fromComment(TaskComment comment) {
+        return new CommentDto(
+                comment.getId(),
+                comment.getTask().getId(),
+                comment.getContent(),
+                comment.getCreatedAt()
+        );
+    }
+}
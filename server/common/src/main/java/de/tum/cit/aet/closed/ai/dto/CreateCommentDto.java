@@ -0,0 +1,6 @@
+package de.tum.cit.aet.closed.ai.dto;
+
+public record CreateCommentDto(
+        String content
+) {
+}
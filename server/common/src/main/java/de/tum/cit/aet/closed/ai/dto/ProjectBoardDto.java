@@ -0,0 +1,45 @@
+package de.tum.cit.aet.closed.ai.dto;
+
+import de.tum.cit.aet.closed.ai.model.Project;
+import de.tum.cit.aet.closed.ai.model.TaskStatus;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+public record ProjectBoardDto(
+        Long id,
+        String name,
+        String color,
+        Map<TaskStatus, List<TaskDto>> columns,
+        Map<TaskStatus, Long> counts,
+        List<UserDto> assignees
+) {
+    /**
+     * Groups the tasks into one column per status, keeping their order. Every status has a
+     * column and a count, even when it has no tasks; tasks without a status go to the backlog.
+     */
+    public static ProjectBoardDto fromProject(
+            Project project, List<TaskDto> tasks, List<UserDto> assignees
+    ) {
+        Map<TaskStatus, List<TaskDto>> columns = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            columns.put(status, new ArrayList<>());
+        }
+        for (TaskDto task : tasks) {
+            TaskStatus status = task.taskStatus() != null ? task.taskStatus() : TaskStatus.BACKLOG;
+            columns.get(status).add(task);
+        }
+        Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+        columns.forEach((status, column) -> counts.put(status, (long) column.size()));
+        return new ProjectBoardDto(
+                project.getId(),
+                project.getName(),
+                project.getColor(),
+                columns,
+                counts,
+                assignees
+        );
+    }
+}
@@ -16,7 +16,14 @@ public record ProjectDto(
         List<Long> taskIds
 ) {
     public static ProjectDto fromProject(Project project) {
-        var taskIds = project.getTasks().stream().map(Task::getId).toList();
+        return fromProject(project, project.getTasks().stream().map(Task::getId).toList());
+    }
+
+    /**
+     * Builds the DTO from task IDs loaded separately, so the lazy task collection of the project
+     * is never initialized.
+     */
+    public static ProjectDto fromProject(Project project, List<Long> taskIds) {
         return new ProjectDto(
                 project.getId(), 
                 project.getName(), 
@@ -0,0 +1,33 @@
+package de.tum.cit.aet.closed.ai.dto;
+
+import de.tum.cit.aet.closed.ai.model.Project;
+import de.tum.cit.aet.closed.ai.model.TaskStatus;
+
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+
+public record ProjectSummaryDto(
+        Long id,
+        String name,
+        String color,
+        Instant createdAt,
+        Instant updatedAt,
+        Map<TaskStatus, Long> taskCounts
+) {
+    /** Every status is present in {@code taskCounts}; statuses without tasks count as zero. */
+    public static ProjectSummaryDto fromProject(Project project, Map<TaskStatus, Long> taskCounts) {
+        Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            counts.put(status, taskCounts.getOrDefault(status, 0L));
+        }
+        return new ProjectSummaryDto(
+                project.getId(),
+                project.getName(),
+                project.getColor(),
+                project.getCreatedAt(),
+                project.getUpdatedAt(),
+                counts
+        );
+    }
+}
@@ -16,11 +16,22 @@ public record TaskDto(
         TaskStatus taskStatus,
         Instant createdAt,
         Instant updatedAt,
+        // Always empty in responses and ignored in requests; comments are read and added through
+        // /tasks/{id}/comments. Kept so that existing clients can still parse tasks.
         List<String> comments,
         List<String> attachments,
-        Long assigneeId
+        Long assigneeId,
+        int commentCount
 ) {
     public static TaskDto fromTask(Task task) {
+        return fromTask(task, task.getAttachments());
+    }
+
+    /**
+     * Builds the DTO from attachments loaded separately, so the element collection of the task is
+     * never initialized.
+     */
+    public static TaskDto fromTask(Task task, List<String> attachments) {
         return new TaskDto(
                 task.getId(),
                 task.getTitle(),
@@ -28,9 +39,10 @@ public record TaskDto(
                 task.getStatus(),
                 task.getCreatedAt(),
                 task.getUpdatedAt(),
-                task.getComments(),
-                task.getAttachments(),
-                Optional.ofNullable(task.getAssignee()).map(User::getId).orElse(null)
+                List.of(),
+                attachments,
+                Optional.ofNullable(task.getAssignee()).map(User::getId).orElse(null),
+                task.getCommentCount()
         );
     }
 }
@@ -0,0 +1,28 @@
+package de.tum.cit.aet.closed.ai.dto;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * One attachment of a task, as read by the projection queries of the task repositories, which load
+ * the attachments of a whole result set at once instead of initializing each task's collection.
+ */
+public interface TaskElement {
+    Long getTaskId();
+
+    String getContent();
+
+    /**
+     * The contents of the elements per task, in the order of the elements, as passed to
+     * {@link TaskDto#fromTask(de.tum.cit.aet.closed.ai.model.Task, List)}. Tasks without elements
+     * are absent.
+     */
+    static Map<Long, List<String>> groupByTask(Collection<? extends TaskElement> elements) {
+        return elements.stream()
+                .collect(Collectors.groupingBy(
+                        TaskElement::getTaskId,
+                        Collectors.mapping(TaskElement::getContent, Collectors.toList())));
+    }
+}
@@ -0,0 +1,13 @@
+package de.tum.cit.aet.closed.ai.dto;
+
+/**
+ * One search result: the matching task, an excerpt of its title and description with the matched
+ * words wrapped in {@code <mark>} tags, and its rank. Without full-text search (H2) the
+ * highlight is null and all ranks are 0.
+ */
+public record TaskSearchHitDto(
+        TaskDto task,
+        String highlight,
+        float rank
+) {
+}
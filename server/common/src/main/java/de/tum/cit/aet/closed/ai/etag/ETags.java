@@ -0,0 +1,54 @@
+package de.tum.cit.aet.closed.ai.etag;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Strong entity tags built from {@code updatedAt} timestamps and {@link Fingerprint}s, so that
+ * freshness can be decided from a cheap query before anything is loaded.
+ *
+ * <p>Collections only get an ETag: their latest {@code updatedAt} does not move when a row is
+ * deleted, so it cannot serve as {@code Last-Modified}.
+ */
+public final class ETags {
+
+    private ETags() {
+    }
+
+    /** Quoted ETag of the given parts; instants are taken at microsecond precision. */
+    public static String of(Object... parts) {
+        return Arrays.stream(parts)
+                .map(ETags::format)
+                .collect(Collectors.joining("-", "\"", "\""));
+    }
+
+    /** Last-Modified value for {@code WebRequest#checkNotModified}, or -1 if unknown. */
+    public static long lastModified(Instant updatedAt) {
+        return updatedAt != null ? updatedAt.toEpochMilli() : -1;
+    }
+
+    /**
+     * Whether an {@code If-Match} header admits the current ETag: absent, {@code *}, or listing it.
+     * Weak tags never match, as If-Match uses strong comparison.
+     */
+    public static boolean matches(String ifMatch, String etag) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return true;
+        }
+        return Arrays.stream(ifMatch.split(","))
+                .map(String::trim)
+                .anyMatch(candidate -> candidate.equals("*") || candidate.equals(etag));
+    }
+
+    private static String format(Object part) {
+        return switch (part) {
+            case null -> "0";
+            case Instant instant ->
+                    Long.toString(instant.getEpochSecond() * 1_000_000 + instant.getNano() / 1_000);
+            case Fingerprint fingerprint ->
+                    format(fingerprint.getRowCount()) + "-" + format(fingerprint.getLastModified());
+            default -> part.toString();
+        };
+    }
+}
@@ -0,0 +1,14 @@
+package de.tum.cit.aet.closed.ai.etag;
+
+import java.time.Instant;
+
+/**
+ * Row count and latest {@code updatedAt} of a set of rows, queried as {@code count(x) as rowCount,
+ * max(x.updatedAt) as lastModified}. Every insert and update moves {@code lastModified} forward
+ * and every delete changes {@code rowCount}, so the pair changes whenever the set does.
+ */
+public interface Fingerprint {
+    Long getRowCount();
+
+    Instant getLastModified();
+}
@@ -0,0 +1,9 @@
+package de.tum.cit.aet.closed.ai.event;
+
+/**
+ * Published when changes made by other instances may not have been announced to this one, e.g.
+ * while it was not connected to the cache invalidation bus, so that all cached users and projects
+ * are dropped.
+ */
+public record ChangesMissedEvent() {
+}
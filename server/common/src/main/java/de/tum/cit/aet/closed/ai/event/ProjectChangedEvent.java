@@ -0,0 +1,10 @@
+package de.tum.cit.aet.closed.ai.event;
+
+/**
+ * Published by project-service whenever a project is updated or deleted, so that cached copies of
+ * that project can be dropped.
+ */
+public record ProjectChangedEvent(
+        Long projectId
+) {
+}
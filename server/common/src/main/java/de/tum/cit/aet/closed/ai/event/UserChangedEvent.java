@@ -0,0 +1,10 @@
+package de.tum.cit.aet.closed.ai.event;
+
+/**
+ * Published by user-service whenever a user is updated or deleted, so that cached copies of that
+ * user can be dropped.
+ */
+public record UserChangedEvent(
+        Long userId
+) {
+}
@@ -0,0 +1,63 @@
+package de.tum.cit.aet.closed.ai.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * RFC 4180 CSV with a header row. Collection values are written as one field with one element
+ * per line.
+ */
+public class CsvWriter<T> implements ExportWriter<T> {
+    private final Writer out;
+    private final List<Column<T>> columns;
+
+    public CsvWriter(OutputStream out, List<Column<T>> columns) throws IOException {
+        this.out = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        this.columns = columns;
+        writeRow(columns.stream().map(Column::header).toList());
+    }
+
+    @Override
+    public void write(T item) throws IOException {
+        writeRow(columns.stream().map(column -> column.value().apply(item)).toList());
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.flush();
+    }
+
+    private void writeRow(List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            out.write(escape(values.get(i)));
+        }
+        out.write("\r\n");
+    }
+
+    static String escape(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value instanceof Collection<?> collection
+                ? collection.stream().map(String::valueOf).collect(Collectors.joining("\n"))
+                : value.toString();
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+
+    public record Column<T>(String header, Function<T, ?> value) {
+    }
+}
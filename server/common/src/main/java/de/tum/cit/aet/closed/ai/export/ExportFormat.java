@@ -0,0 +1,46 @@
+package de.tum.cit.aet.closed.ai.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+public enum ExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String mediaType;
+    private final String extension;
+
+    ExportFormat(String mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public String mediaType() {
+        return mediaType;
+    }
+
+    /** Sets content type and an attachment file name, e.g. {@code tasks.ndjson}. */
+    public void prepare(HttpServletResponse response, String baseName) {
+        response.setContentType(mediaType);
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(
+                HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(baseName + "." + extension).build().toString());
+    }
+
+    /** Opens a writer for this format; the CSV columns are ignored for NDJSON. */
+    public <T> ExportWriter<T> open(
+            OutputStream out, ObjectMapper objectMapper, List<CsvWriter.Column<T>> csvColumns
+    ) throws IOException {
+        return switch (this) {
+            case NDJSON -> new NdjsonWriter<>(out, objectMapper);
+            case CSV -> new CsvWriter<>(out, csvColumns);
+        };
+    }
+}
@@ -0,0 +1,15 @@
+package de.tum.cit.aet.closed.ai.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Writes exported rows one at a time so that an export never has to be held in memory. Closing
+ * the writer flushes it but leaves the underlying stream open.
+ */
+public interface ExportWriter<T> extends Closeable {
+    /** JDBC fetch size of the cursors exports read from, bounding the rows held by the driver. */
+    String FETCH_SIZE = "500";
+
+    void write(T item) throws IOException;
+}
@@ -0,0 +1,43 @@
+package de.tum.cit.aet.closed.ai.export;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Merge join of child rows onto parents, for exports that stream parents and their children from
+ * separate cursors. Both cursors have to be sorted by parent ID in ascending order; then every
+ * child row is read exactly once and nothing is buffered beyond one parent's children.
+ */
+public class SortedChildRows<T> {
+    private final Iterator<T> rows;
+    private final Function<T, Long> parentIdOf;
+    private T next;
+
+    public SortedChildRows(Iterator<T> rows, Function<T, Long> parentIdOf) {
+        this.rows = rows;
+        this.parentIdOf = parentIdOf;
+        this.next = rows.hasNext() ? rows.next() : null;
+    }
+
+    /**
+     * Consumes the children of {@code parentId}. Children of smaller parent IDs that were never
+     * asked for, e.g. of parents deleted while the export ran, are skipped.
+     */
+    public <R> List<R> take(Long parentId, Function<T, R> mapper) {
+        while (next != null && parentIdOf.apply(next) < parentId) {
+            advance();
+        }
+        List<R> children = new ArrayList<>();
+        while (next != null && parentIdOf.apply(next).equals(parentId)) {
+            children.add(mapper.apply(next));
+            advance();
+        }
+        return children;
+    }
+
+    private void advance() {
+        next = rows.hasNext() ? rows.next() : null;
+    }
+}
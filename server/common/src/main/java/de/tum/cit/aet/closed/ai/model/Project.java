@@ -3,6 +3,8 @@ package de.tum.cit.aet.closed.ai.model;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -12,12 +14,18 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Project.CACHE_REGION)
 @Getter
 @Setter
 @EntityListeners(AuditingEntityListener.class)
 public class Project {
+    /** Second-level cache region, configured in application.conf. */
+    public static final String CACHE_REGION = "project";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "project_seq")
+    @SequenceGenerator(name = "project_seq", sequenceName = "project_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -35,7 +43,7 @@ public class Project {
     private Instant updatedAt;
 
     @OneToMany(
-            fetch = FetchType.EAGER,
+            fetch = FetchType.LAZY,
             mappedBy = "project",
             cascade = CascadeType.ALL,
             orphanRemoval = true
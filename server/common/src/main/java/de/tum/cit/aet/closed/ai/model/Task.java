@@ -3,6 +3,11 @@ package de.tum.cit.aet.closed.ai.model;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -11,19 +16,28 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
+// the schema, including indexes and the full-text search column, is defined in db/migration
 @Entity
 @Getter
 @Setter
 @EntityListeners(AuditingEntityListener.class)
+// only changed columns are written, so e.g. a status change does not rewrite the description
+@DynamicUpdate
 public class Task {
+    public static final int BATCH_FETCH_SIZE = 500;
+
+    // pooled sequence instead of IDENTITY so Hibernate can batch inserts
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_seq")
+    @SequenceGenerator(name = "task_seq", sequenceName = "task_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
     private String title;
 
-    @Lob
+    // text rather than @Lob, which PostgreSQL stores as a large object that to_tsvector cannot
+    // read; see V2 and V3 in db/migration
+    @Column(columnDefinition = "text")
     private String description;
 
     @Enumerated(EnumType.STRING)
@@ -37,12 +51,24 @@ public class Task {
     @Column(nullable = false)
     private Instant updatedAt;
 
-    @ElementCollection
-    @CollectionTable(name = "task_comments", joinColumns = @JoinColumn(name = "task_id"))
-    @Column(name = "comment")
-    private List<String> comments = new ArrayList<>();
+    // Guards against lost updates between loading and saving a task. Bulk updates in
+    // TaskRepository increment it themselves.
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;
 
+    // Comments are TaskComment rows; this count is kept in step with them by
+    // TaskRepository#incrementCommentCount so listings never have to touch the comments.
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int commentCount;
+
+    // Loaded for all tasks of the originating query at once (subselect); batches of up to
+    // BATCH_FETCH_SIZE tasks where no subselect can be built, e.g. for tasks loaded by ID.
     @ElementCollection
+    @Fetch(FetchMode.SUBSELECT)
+    @BatchSize(size = BATCH_FETCH_SIZE)
     @CollectionTable(name = "task_attachments", joinColumns = @JoinColumn(name = "task_id"))
     @Column(name = "attachment")
     private List<String> attachments = new ArrayList<>();
@@ -55,10 +81,6 @@ public class Task {
     @JoinColumn(name = "project_id")
     private Project project;
 
-    public void addComment(String c) {
-        comments.add(c);
-    }
-
     public void addAttachment(String a) {
         attachments.add(a);
     }
@@ -0,0 +1,41 @@
+package de.tum.cit.aet.closed.ai.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.Instant;
+
+/**
+ * A comment on a {@link Task}. Comments are append-only: each one is inserted on its own and never
+ * rewritten, and they are read page by page in the order they were written.
+ */
+@Entity
+@Getter
+@Setter
+@EntityListeners(AuditingEntityListener.class)
+public class TaskComment {
+    public static final int MAX_CONTENT_LENGTH = 4000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_comment_seq")
+    @SequenceGenerator(name = "task_comment_seq", sequenceName = "task_comment_seq", allocationSize = 50)
+    private Long id;
+
+    // the database removes the comments of a deleted task, so deleting a task never loads them
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "task_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Task task;
+
+    @Column(nullable = false, length = MAX_CONTENT_LENGTH)
+    private String content;
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt;
+}
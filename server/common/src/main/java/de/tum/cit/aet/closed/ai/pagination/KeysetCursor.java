@@ -0,0 +1,51 @@
+package de.tum.cit.aet.closed.ai.pagination;
+
+import de.tum.cit.aet.closed.ai.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in a listing ordered by a timestamp and the ID, such as tasks and projects by
+ * {@code (updatedAt desc, id desc)} or task comments by {@code (createdAt, id)}; {@code timestamp}
+ * holds whichever of them the listing is ordered by.
+ * The encoded form is an opaque, URL-safe token handed to clients as "next cursor".
+ */
+public record KeysetCursor(
+        Instant timestamp,
+        Long id
+) implements PageCursor {
+    /** Response header carrying the cursor of the following page, absent on the last page. */
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private static final String SEPARATOR = "|";
+
+    @Override
+    public String encode() {
+        String raw = timestamp.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** Decodes a cursor request parameter; a missing or blank token means "first page". */
+    public static KeysetCursor decodeOrNull(String token) {
+        return token == null || token.isBlank() ? null : decode(token);
+    }
+
+    public static KeysetCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidCursorException("Malformed cursor: " + token);
+            }
+            return new KeysetCursor(
+                    Instant.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException("Malformed cursor: " + token);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package de.tum.cit.aet.closed.ai.pagination;
+
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated listing. Repositories are asked for {@code pageSize + 1} rows;
+ * the extra row only signals that a further page exists and is not returned.
+ */
+public record KeysetPage<T>(
+        List<T> items,
+        PageCursor nextCursor
+) {
+    public static <T> KeysetPage<T> of(
+            List<T> rows, int pageSize, Function<T, ? extends PageCursor> cursorOf) {
+        if (rows.size() <= pageSize) {
+            return new KeysetPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, pageSize);
+        return new KeysetPage<>(items, cursorOf.apply(items.getLast()));
+    }
+
+    /** This page with {@code mapper} applied to each item; the next-page cursor is kept. */
+    public <R> KeysetPage<R> map(Function<T, R> mapper) {
+        return new KeysetPage<>(items.stream().map(mapper).toList(), nextCursor);
+    }
+
+    public <R> ResponseEntity<List<R>> toResponse(Function<T, R> mapper) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (nextCursor != null) {
+            response.header(KeysetCursor.NEXT_CURSOR_HEADER, nextCursor.encode());
+        }
+        return response.body(items.stream().map(mapper).toList());
+    }
+}
@@ -0,0 +1,8 @@
+package de.tum.cit.aet.closed.ai.pagination;
+
+/** Position after the last item of a page, handed to clients as an opaque "next cursor" token. */
+public sealed interface PageCursor permits KeysetCursor, RankCursor {
+
+    /** URL-safe token that the cursor's {@code decode} method turns back into the cursor. */
+    String encode();
+}
@@ -0,0 +1,45 @@
+package de.tum.cit.aet.closed.ai.pagination;
+
+import de.tum.cit.aet.closed.ai.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position in search results ordered by {@code (rank desc, id desc)}. The rank is kept as the
+ * database's single-precision value, so that comparing it with the stored rank is exact.
+ */
+public record RankCursor(
+        float rank,
+        Long id
+) implements PageCursor {
+
+    private static final String SEPARATOR = "|";
+
+    @Override
+    public String encode() {
+        String raw = Float.toString(rank) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** Decodes a cursor request parameter; a missing or blank token means "first page". */
+    public static RankCursor decodeOrNull(String token) {
+        return token == null || token.isBlank() ? null : decode(token);
+    }
+
+    public static RankCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidCursorException("Malformed cursor: " + token);
+            }
+            return new RankCursor(
+                    Float.parseFloat(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Malformed cursor: " + token);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+-- Schema of the entities in de.tum.cit.aet.closed.ai.model, as Hibernate expects it with
+-- ddl-auto=validate. Every statement is conditional because databases that Hibernate used to manage
+-- with ddl-auto=update are baselined below this version and already have most of these objects;
+-- V2 brings the columns of such databases up to date.
+
+CREATE SEQUENCE IF NOT EXISTS users_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS project_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS task_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS task_comment_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS users (
+    id              bigint                      NOT NULL PRIMARY KEY,
+    name            varchar(255)                NOT NULL,
+    profile_picture varchar(255),
+    created_at      timestamp(6) with time zone NOT NULL,
+    updated_at      timestamp(6) with time zone NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS project (
+    id         bigint                      NOT NULL PRIMARY KEY,
+    name       varchar(255)                NOT NULL,
+    color      varchar(255)                NOT NULL,
+    created_at timestamp(6) with time zone NOT NULL,
+    updated_at timestamp(6) with time zone NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS task (
+    id            bigint                      NOT NULL PRIMARY KEY,
+    title         varchar(255)                NOT NULL,
+    description   text,
+    status        varchar(255) CHECK (status IN ('BACKLOG', 'OPEN', 'IN_PROGRESS', 'DONE')),
+    created_at    timestamp(6) with time zone NOT NULL,
+    updated_at    timestamp(6) with time zone NOT NULL,
+    version       bigint                      NOT NULL DEFAULT 0,
+    comment_count integer                     NOT NULL DEFAULT 0,
+    assignee_id   bigint REFERENCES users (id),
+    project_id    bigint                      NOT NULL REFERENCES project (id)
+);
+
+CREATE TABLE IF NOT EXISTS task_attachments (
+    task_id    bigint NOT NULL REFERENCES task (id),
+    attachment varchar(255)
+);
+
+-- comments of a deleted task are removed by the database, see TaskComment#task
+CREATE TABLE IF NOT EXISTS task_comment (
+    id         bigint                      NOT NULL PRIMARY KEY,
+    task_id    bigint                      NOT NULL REFERENCES task (id) ON DELETE CASCADE,
+    content    varchar(4000)               NOT NULL,
+    created_at timestamp(6) with time zone NOT NULL
+);
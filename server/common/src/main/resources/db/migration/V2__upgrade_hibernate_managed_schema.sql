@@ -0,0 +1,44 @@
+-- Brings a schema that Hibernate created with ddl-auto=update up to V1. Each step only acts on
+-- what is actually out of date, so on a database created by V1 nothing changes.
+
+-- Columns added to task after such databases were created.
+ALTER TABLE task ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
+ALTER TABLE task ADD COLUMN IF NOT EXISTS comment_count integer NOT NULL DEFAULT 0;
+
+-- Tables created before the switch from IDENTITY to pooled sequences already hold IDs that a
+-- fresh sequence would hand out again. Set every sequence to the highest existing ID, so that the
+-- next block of 50 starts right above it. This includes a highest ID of 1: a fresh sequence
+-- reports 1 as well, but has not handed it out yet, and would start its first block at 1.
+SELECT setval('users_seq', (SELECT max(id) FROM users))
+WHERE (SELECT max(id) FROM users) >= (SELECT last_value FROM users_seq);
+SELECT setval('project_seq', (SELECT max(id) FROM project))
+WHERE (SELECT max(id) FROM project) >= (SELECT last_value FROM project_seq);
+SELECT setval('task_seq', (SELECT max(id) FROM task))
+WHERE (SELECT max(id) FROM task) >= (SELECT last_value FROM task_seq);
+
+DO $$
+BEGIN
+    -- Comments used to be an element collection in task_comments, rewritten as a whole on every
+    -- task update. Move them into task_comment in their stored order and count them.
+    IF to_regclass('task_comments') IS NOT NULL THEN
+        INSERT INTO task_comment (id, task_id, content, created_at)
+        SELECT nextval('task_comment_seq'), c.task_id, c.comment, t.created_at
+        FROM task_comments c JOIN task t ON t.id = c.task_id
+        ORDER BY c.task_id, c.ctid;
+        UPDATE task t SET comment_count = (SELECT count(*) FROM task_comment c WHERE c.task_id = t.id);
+        DROP TABLE task_comments;
+    END IF;
+
+    -- Descriptions used to be mapped with @Lob, which PostgreSQL stores as large objects (oid)
+    -- that to_tsvector cannot read. Copy them into a text column and release the large objects.
+    IF (SELECT data_type FROM information_schema.columns
+        WHERE table_name = 'task' AND column_name = 'description') = 'oid' THEN
+        ALTER TABLE task ADD COLUMN description_text text;
+        UPDATE task SET description_text = convert_from(lo_get(description), 'UTF8')
+        WHERE description IS NOT NULL;
+        PERFORM lo_unlink(description) FROM task WHERE description IS NOT NULL;
+        ALTER TABLE task DROP COLUMN description;
+        ALTER TABLE task RENAME COLUMN description_text TO description;
+    END IF;
+END
+$$;
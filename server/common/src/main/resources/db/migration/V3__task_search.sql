@@ -0,0 +1,8 @@
+-- Full-text search of GET /tasks/search. Title matches weigh more than description matches. The
+-- column is generated, so it never goes stale and Hibernate, which does not map it, never writes it.
+ALTER TABLE task ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('english', coalesce(title, '')), 'A')
+    || setweight(to_tsvector('english', coalesce(description, '')), 'B')
+) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_task_search_vector ON task USING GIN (search_vector);
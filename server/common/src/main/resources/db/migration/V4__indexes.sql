@@ -0,0 +1,27 @@
+-- Indexes for the queries of TaskRepository, ProjectTaskRepository, ProjectRepository,
+-- TaskCommentRepository and UserRepository. Databases that Hibernate managed already have the
+-- indexes that used to be declared on the entities, under the same names.
+
+-- Keyset pagination of GET /tasks on (updated_at desc, id desc), optionally narrowed by one
+-- filter. The leading filter column also serves the by-project and by-assignee listings, the
+-- per-project fingerprints and the foreign key checks when a user or project is deleted.
+CREATE INDEX IF NOT EXISTS idx_task_updated_at_id ON task (updated_at, id);
+CREATE INDEX IF NOT EXISTS idx_task_status_updated_at_id ON task (status, updated_at, id);
+CREATE INDEX IF NOT EXISTS idx_task_assignee_updated_at_id ON task (assignee_id, updated_at, id);
+CREATE INDEX IF NOT EXISTS idx_task_project_updated_at_id ON task (project_id, updated_at, id);
+
+-- Per-status task counts of a project (project summaries).
+CREATE INDEX IF NOT EXISTS idx_task_project_status ON task (project_id, status);
+
+-- Attachments are always read by task: joined to a project's or assignee's tasks, or fetched for
+-- a result set by subselect. Without this index each of those reads scans the whole table.
+CREATE INDEX IF NOT EXISTS idx_task_attachments_task_id ON task_attachments (task_id);
+
+-- Keyset pagination of a task's comments on (created_at, id); also serves the cascading delete.
+CREATE INDEX IF NOT EXISTS idx_task_comment_task_created_at_id ON task_comment (task_id, created_at, id);
+
+-- Keyset pagination of GET /projects on (updated_at desc, id desc).
+CREATE INDEX IF NOT EXISTS idx_project_updated_at_id ON project (updated_at, id);
+
+-- UserRepository#findByName.
+CREATE INDEX IF NOT EXISTS idx_users_name ON users (name);
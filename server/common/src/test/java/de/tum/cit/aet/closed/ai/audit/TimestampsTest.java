@@ -0,0 +1,34 @@
+package de.tum.cit.aet.closed.ai.audit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimestampsTest {
+
+    @Test
+    void testNowIsTruncatedNotRoundedToMicroseconds() {
+        // Given
+        Clock clock = Clock.fixed(Instant.parse("2025-06-01T12:00:00.123456789Z"), ZoneOffset.UTC);
+
+        // When
+        Instant now = Timestamps.now(clock);
+
+        // Then
+        assertEquals(Instant.parse("2025-06-01T12:00:00.123456Z"), now,
+                "Sub-microsecond part should be dropped, not rounded up");
+    }
+
+    @Test
+    void testDateTimeProviderHasNoSubMicrosecondPart() {
+        // When
+        Instant now = Instant.from(Timestamps.dateTimeProvider().getNow().orElseThrow());
+
+        // Then
+        assertEquals(0, now.getNano() % 1_000, "Audited timestamps should have microsecond precision");
+    }
+}
@@ -0,0 +1,128 @@
+package de.tum.cit.aet.closed.ai.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.tum.cit.aet.closed.ai.event.ProjectChangedEvent;
+import de.tum.cit.aet.closed.ai.event.UserChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CacheInvalidationBusTest {
+
+    private static final String NOTIFY = "SELECT pg_notify(?, ?)";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private MeterRegistry meterRegistry;
+    private CacheInvalidationBus bus;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        bus = new CacheInvalidationBus(
+                jdbcTemplate, eventPublisher, objectMapper, meterRegistry,
+                "jdbc:postgresql://localhost:5432/closedai", "postgres", "postgres");
+    }
+
+    @Test
+    void testUserChangedEventIsSentAsNotification() throws Exception {
+        // When
+        bus.onUserChanged(new UserChangedEvent(1L));
+
+        // Then
+        CacheInvalidationBus.Notification notification = objectMapper.readValue(sentPayload(),
+                CacheInvalidationBus.Notification.class);
+        assertEquals(CacheInvalidationBus.USER, notification.entity(), "Entity should be user");
+        assertEquals(1L, notification.id().longValue(), "ID should match");
+        assertNotNull(notification.origin(), "Origin should be set");
+        assertEquals(1.0, notifications("sent"), "Notification should be counted");
+    }
+
+    @Test
+    void testNotificationOfAnotherInstanceIsPublishedAsEvent() {
+        // When
+        bus.receive("{\"entity\":\"project\",\"id\":7,\"origin\":\"another-instance\"}");
+
+        // Then
+        verify(eventPublisher).publishEvent(new ProjectChangedEvent(7L));
+        assertEquals(1.0, notifications("received"), "Notification should be counted");
+    }
+
+    @Test
+    void testOwnNotificationIsIgnored() {
+        // Given
+        bus.onProjectChanged(new ProjectChangedEvent(7L));
+
+        // When
+        bus.receive(sentPayload());
+
+        // Then
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+        assertEquals(0.0, notifications("received"), "Own notification should not be counted");
+    }
+
+    @Test
+    void testReceivedEventIsNotSentBack() {
+        // Given
+        doAnswer(invocation -> {
+            bus.onUserChanged(invocation.getArgument(0));
+            return null;
+        }).when(eventPublisher).publishEvent(any(Object.class));
+
+        // When
+        bus.receive("{\"entity\":\"user\",\"id\":1,\"origin\":\"another-instance\"}");
+
+        // Then
+        verify(eventPublisher).publishEvent(new UserChangedEvent(1L));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void testMalformedAndUnknownNotificationsAreIgnored() {
+        // When
+        bus.receive("not json");
+        bus.receive("{\"entity\":\"task\",\"id\":1,\"origin\":\"another-instance\"}");
+        bus.receive("{\"entity\":\"user\",\"origin\":\"another-instance\"}");
+
+        // Then
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void testFailedNotificationDoesNotFailTheChange() {
+        // Given
+        when(jdbcTemplate.queryForList(eq(NOTIFY), eq(CacheInvalidationBus.CHANNEL), any(String.class)))
+                .thenThrow(new DataAccessResourceFailureException("Connection refused"));
+
+        // When & Then
+        assertDoesNotThrow(() -> bus.onUserChanged(new UserChangedEvent(1L)), "Change should not fail");
+        assertEquals(0.0, notifications("sent"), "Failed notification should not be counted");
+    }
+
+    private String sentPayload() {
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate).queryForList(eq(NOTIFY), eq(CacheInvalidationBus.CHANNEL), payload.capture());
+        return payload.getValue();
+    }
+
+    private double notifications(String direction) {
+        return meterRegistry.get("cache.invalidation.notifications").tag("direction", direction).counter().count();
+    }
+}
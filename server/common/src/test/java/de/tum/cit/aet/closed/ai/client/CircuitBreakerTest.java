@@ -0,0 +1,212 @@
+package de.tum.cit.aet.closed.ai.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(10);
+
+    private final AtomicLong now = new AtomicLong();
+    private MeterRegistry meterRegistry;
+    private CircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // opens once half of at least 4 of the last 10 calls failed; closes after 2 good probes
+        breaker = new CircuitBreaker("test", meterRegistry, 50, 10, 4, OPEN_DURATION, 2, now::get);
+    }
+
+    @Test
+    void testStaysClosedBelowMinimumCalls() {
+        // When
+        fail(3);
+
+        // Then
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state(), "Too few calls should not open the circuit");
+        assertNotNull(breaker.tryAcquire(), "Calls should be permitted");
+    }
+
+    @Test
+    void testStaysClosedBelowFailureRate() {
+        // When
+        succeed(6);
+        fail(4);
+
+        // Then
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state(), "4 of 10 calls failing should not open the circuit");
+    }
+
+    @Test
+    void testOpensAtFailureRateAndRejectsCalls() {
+        // Given
+        succeed(2);
+
+        // When
+        fail(2);
+
+        // Then
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state(), "Half of the calls failing should open the circuit");
+        assertNull(breaker.tryAcquire(), "Calls should be rejected while open");
+        assertEquals(1.0, state("open"), "Open state should be exported");
+        assertEquals(1.0, meterRegistry.get("client.circuit.transitions").tag("state", "open").counter().count(),
+                "Transition should be counted");
+    }
+
+    @Test
+    void testOnlyRecentCallsCount() {
+        // Given
+        fail(3);
+
+        // When
+        succeed(10);
+
+        // Then
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state(), "Old failures should leave the window");
+        fail(4);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state(), "4 of the last 10 calls failing should not open");
+    }
+
+    @Test
+    void testHalfOpenPermitsLimitedProbesAndClosesWhenTheySucceed() {
+        // Given
+        fail(4);
+        now.addAndGet(OPEN_DURATION.toNanos());
+
+        // When
+        CircuitBreaker.Permit first = breaker.tryAcquire();
+        CircuitBreaker.Permit second = breaker.tryAcquire();
+        CircuitBreaker.Permit third = breaker.tryAcquire();
+
+        // Then
+        assertNotNull(first, "Probes should be permitted once the open duration is over");
+        assertNotNull(second, "Probes should be permitted once the open duration is over");
+        assertNull(third, "Only the configured number of probes should be permitted");
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state(), "Circuit should be half-open");
+        breaker.onSuccess(first);
+        breaker.onSuccess(second);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state(), "Successful probes should close the circuit");
+        assertEquals(1.0, state("closed"), "Closed state should be exported");
+    }
+
+    @Test
+    void testFailedProbeOpensAgain() {
+        // Given
+        fail(4);
+        now.addAndGet(OPEN_DURATION.toNanos());
+        CircuitBreaker.Permit probe = breaker.tryAcquire();
+        assertNotNull(probe, "Probe should be permitted");
+
+        // When
+        breaker.onFailure(probe);
+
+        // Then
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state(), "Failed probe should open the circuit");
+        assertNull(breaker.tryAcquire(), "Calls should be rejected for another open duration");
+    }
+
+    @Test
+    void testReleasedProbeIsPermittedAgain() {
+        // Given
+        fail(4);
+        now.addAndGet(OPEN_DURATION.toNanos());
+        CircuitBreaker.Permit probe = breaker.tryAcquire();
+        breaker.tryAcquire();
+
+        // When
+        breaker.release(probe);
+
+        // Then
+        assertNotNull(breaker.tryAcquire(), "Probe that was not made should be permitted again");
+    }
+
+    @Test
+    void testReleaseAfterOutcomeIsIgnored() {
+        // Given
+        fail(4);
+        now.addAndGet(OPEN_DURATION.toNanos());
+        CircuitBreaker.Permit probe = breaker.tryAcquire();
+        breaker.onSuccess(probe);
+
+        // When
+        breaker.release(probe);
+
+        // Then
+        assertNotNull(breaker.tryAcquire(), "Second probe should be permitted");
+        assertNull(breaker.tryAcquire(), "Settled probe should not be permitted again");
+    }
+
+    @Test
+    void testOutcomeIsCountedOnlyOnce() {
+        // Given
+        fail(4);
+        now.addAndGet(OPEN_DURATION.toNanos());
+        CircuitBreaker.Permit probe = breaker.tryAcquire();
+
+        // When
+        breaker.onSuccess(probe);
+        breaker.onSuccess(probe);
+
+        // Then
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state(), "One probe should not close the circuit");
+    }
+
+    @Test
+    void testLateSuccessOfClosedCallIsNotCountedAsProbe() {
+        // Given
+        CircuitBreaker.Permit late = breaker.tryAcquire();
+        fail(4);
+        now.addAndGet(OPEN_DURATION.toNanos());
+        CircuitBreaker.Permit probe = breaker.tryAcquire();
+
+        // When
+        breaker.onSuccess(late);
+        breaker.onSuccess(probe);
+
+        // Then
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state(), "Only probes should close the circuit");
+    }
+
+    @Test
+    void testLateFailureOfClosedCallDoesNotOpenHalfOpenCircuit() {
+        // Given
+        CircuitBreaker.Permit late = breaker.tryAcquire();
+        fail(4);
+        now.addAndGet(OPEN_DURATION.toNanos());
+        breaker.tryAcquire();
+
+        // When
+        breaker.onFailure(late);
+
+        // Then
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state(), "Only probes should open the circuit again");
+    }
+
+    private void succeed(int calls) {
+        for (int i = 0; i < calls; i++) {
+            CircuitBreaker.Permit permit = breaker.tryAcquire();
+            assertNotNull(permit, "Call should be permitted");
+            breaker.onSuccess(permit);
+        }
+    }
+
+    private void fail(int calls) {
+        for (int i = 0; i < calls; i++) {
+            CircuitBreaker.Permit permit = breaker.tryAcquire();
+            assertNotNull(permit, "Call should be permitted");
+            breaker.onFailure(permit);
+        }
+    }
+
+    private double state(String state) {
+        return meterRegistry.get("client.circuit.state").tag("state", state).gauge().value();
+    }
+}
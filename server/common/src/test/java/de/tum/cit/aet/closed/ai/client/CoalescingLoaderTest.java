@@ -0,0 +1,177 @@
+package de.tum.cit.aet.closed.ai.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CoalescingLoaderTest {
+
+    private static final int CALLERS = 8;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testConcurrentLoadsOfSameKeyShareOneCall() throws Exception {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        CoalescingLoader<Long, String> loader = new CoalescingLoader<>("test", meterRegistry, key -> {
+            calls.incrementAndGet();
+            await(release);
+            return "value-" + key;
+        });
+
+        // When
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> loader.load(1L)));
+        }
+        awaitCount("coalesced", CALLERS - 1);
+        release.countDown();
+
+        // Then
+        for (Future<String> result : results) {
+            assertEquals("value-1", result.get(5, TimeUnit.SECONDS), "Every caller should get the result");
+        }
+        assertEquals(1, calls.get(), "Only one call should be made");
+        assertEquals(1.0, count("called"), "One lookup should be counted as called");
+        assertEquals(CALLERS - 1, count("coalesced"), "The others should be counted as coalesced");
+    }
+
+    @Test
+    void testFailureIsSharedWithWaitingCallers() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        CoalescingLoader<Long, String> loader = new CoalescingLoader<>("test", meterRegistry, key -> {
+            await(release);
+            throw new IllegalStateException("unavailable");
+        });
+
+        // When
+        Future<String> first = executor.submit(() -> loader.load(1L));
+        awaitCount("called", 1);
+        Future<String> second = executor.submit(() -> loader.load(1L));
+        awaitCount("coalesced", 1);
+        release.countDown();
+
+        // Then
+        for (Future<String> result : List.of(first, second)) {
+            ExecutionException thrown = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, thrown.getCause(), "Exception should be rethrown as is");
+        }
+    }
+
+    @Test
+    void testCompletedCallIsNotReused() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+        CoalescingLoader<Long, Integer> loader =
+                new CoalescingLoader<>("test", meterRegistry, key -> calls.incrementAndGet());
+
+        // When
+        int first = loader.load(1L);
+        int second = loader.load(1L);
+
+        // Then
+        assertEquals(1, first, "First load should make a call");
+        assertEquals(2, second, "Second load should make another call");
+    }
+
+    @Test
+    void testBatchWindowMergesDistinctKeysIntoOneCall() throws Exception {
+        // Given
+        List<Set<Long>> batches = new CopyOnWriteArrayList<>();
+        CoalescingLoader<Long, String> loader = new CoalescingLoader<>(
+                "test", meterRegistry,
+                key -> fail("Keys should be loaded in a batch"),
+                keys -> {
+                    batches.add(Set.copyOf(keys));
+                    Map<Long, String> values = new HashMap<>();
+                    keys.forEach(key -> values.put(key, "value-" + key));
+                    return values;
+                },
+                Duration.ofSeconds(5), 3);
+
+        // When
+        List<Future<String>> results = new ArrayList<>();
+        for (long key = 1; key <= 3; key++) {
+            long id = key;
+            results.add(executor.submit(() -> loader.load(id)));
+        }
+
+        // Then
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals("value-" + (i + 1), results.get(i).get(2, TimeUnit.SECONDS),
+                    "A full batch should be loaded without waiting for the window");
+        }
+        assertEquals(List.of(Set.of(1L, 2L, 3L)), batches, "All keys should be loaded by one call");
+        assertEquals(3.0, meterRegistry.get("client.lookups.batch.size").summary().max(),
+                "Batch size should be recorded");
+    }
+
+    @Test
+    void testBatchWindowLoadsPartialBatchWhenWindowEnds() {
+        // Given
+        CoalescingLoader<Long, String> loader = new CoalescingLoader<>(
+                "test", meterRegistry,
+                key -> fail("Keys should be loaded in a batch"),
+                keys -> Map.of(keys.iterator().next(), "value"),
+                Duration.ofMillis(10), 100);
+
+        // When
+        String value = loader.load(1L);
+
+        // Then
+        assertEquals("value", value, "A single key should be loaded once the window ends");
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("client.lookups").tag("result", result).counter().count();
+    }
+
+    private void awaitCount(String result, double expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (count(result) < expected) {
+            assertTrue(System.nanoTime() < deadline, "Callers should reach the loader in time");
+            Thread.sleep(1);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS), "Call should be released");
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package de.tum.cit.aet.closed.ai.client;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Measures the latency of {@link UserServiceClient#findById} against a stand-in user-service whose
+ * responses are fast except for every {@value #SLOW_EVERY}th one, which is {@link #SLOW_RESPONSE}
+ * late. Without hedging the slow responses set the p99; with hedging a duplicate request after
+ * the hedge delay answers in time.
+ *
+ * <p>Depends on wall-clock timing, so it is excluded from the default test run and runs with
+ * {@code ./gradlew benchmark}; {@link RequestHedgingTest} covers hedging deterministically.
+ */
+@Tag("benchmark")
+class HedgingLatencyHarnessTest {
+
+    private static final Logger log = LoggerFactory.getLogger(HedgingLatencyHarnessTest.class);
+
+    private static final int LOOKUPS = 200;
+    private static final int SLOW_EVERY = 25;
+    private static final Duration FAST_RESPONSE = Duration.ofMillis(2);
+    private static final Duration SLOW_RESPONSE = Duration.ofMillis(250);
+    private static final Duration HEDGE_MIN_DELAY = Duration.ofMillis(15);
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private HttpServer userService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        userService = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        // concurrent handlers, so that a hedge is not queued behind the slow request
+        userService.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        userService.createContext("/users/", this::respond);
+        userService.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userService.stop(0);
+    }
+
+    @Test
+    void testHedgingReducesTailLatency() {
+        // Given
+        UserServiceClient plainClient = client(false);
+        UserServiceClient hedgingClient = client(true);
+
+        // When
+        Duration[] plain = measure(plainClient, 0);
+        Duration[] hedged = measure(hedgingClient, LOOKUPS);
+
+        // Then
+        Duration plainP99 = percentile(plain, 0.99);
+        Duration hedgedP99 = percentile(hedged, 0.99);
+        log.info("findById p50/p99 without hedging: {}/{} ms, with hedging: {}/{} ms",
+                percentile(plain, 0.5).toMillis(), plainP99.toMillis(),
+                percentile(hedged, 0.5).toMillis(), hedgedP99.toMillis());
+        assertTrue(plainP99.compareTo(SLOW_RESPONSE) >= 0, "Slow responses should set the p99 without hedging");
+        assertTrue(hedgedP99.multipliedBy(2).compareTo(plainP99) < 0, "Hedging should at least halve the p99");
+    }
+
+    private UserServiceClient client(boolean hedging) {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RemoteCallPolicies policies = new RemoteCallPolicies(meterRegistry, new RemoteCallPolicies.Settings(
+                50, Duration.ofSeconds(1),
+                50, 20, 10, Duration.ofSeconds(10), 3,
+                0, Duration.ofMillis(50), Duration.ofMillis(500), 0.1, 10,
+                hedging, 0.95, HEDGE_MIN_DELAY, 0.05, 10));
+        return new UserServiceClient(
+                RestClient.builder(), policies, meterRegistry,
+                "http://localhost:" + userService.getAddress().getPort(),
+                10_000, Duration.ofMinutes(1), Duration.ofMinutes(1), Duration.ZERO, 100);
+    }
+
+    /** Looks up distinct users, so that every lookup is a request. */
+    private static Duration[] measure(UserServiceClient client, int firstId) {
+        Duration[] latencies = new Duration[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            long start = System.nanoTime();
+            assertTrue(client.findById((long) firstId + i).isPresent(), "User should be found");
+            latencies[i] = Duration.ofNanos(System.nanoTime() - start);
+        }
+        return latencies;
+    }
+
+    private static Duration percentile(Duration[] latencies, double percentile) {
+        Duration[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        return sorted[(int) Math.ceil(percentile * sorted.length) - 1];
+    }
+
+    private void respond(HttpExchange exchange) throws IOException {
+        String id = exchange.getRequestURI().getPath().substring("/users/".length());
+        boolean slow = requests.incrementAndGet() % SLOW_EVERY == 0;
+        try {
+            TimeUnit.NANOSECONDS.sleep((slow ? SLOW_RESPONSE : FAST_RESPONSE).toNanos());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] body = ("{\"id\":" + id + ",\"name\":\"User " + id + "\"}").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            exchange.sendResponseHeaders(200, body.length);
+            responseBody.write(body);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package de.tum.cit.aet.closed.ai.client;
+
+import de.tum.cit.aet.closed.ai.dto.ProjectDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestClient;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class ProjectServiceClientTest {
+
+    private MeterRegistry meterRegistry;
+    private MockRestServiceServer server;
+    private ProjectServiceClient client;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        RestClient.Builder builder = RestClient.builder();
+        server = MockRestServiceServer.bindTo(builder).build();
+        client = new ProjectServiceClient(
+                builder, RemoteCallPolicyTest.policies(meterRegistry, 0), meterRegistry, "http://project-service");
+    }
+
+    @Test
+    void testFindByIdReturnsProject() {
+        // Given
+        server.expect(requestTo("http://project-service/projects/1"))
+                .andRespond(withSuccess("{\"id\":1,\"name\":\"Apollo\"}", MediaType.APPLICATION_JSON));
+
+        // When
+        Optional<ProjectDto> project = client.findById(1L);
+
+        // Then
+        server.verify();
+        assertTrue(project.isPresent(), "Project should be found");
+        assertEquals("Apollo", project.get().name(), "Name should match");
+    }
+
+    @Test
+    void testFindByIdReturnsEmptyForNotFound() {
+        // Given
+        server.expect(requestTo("http://project-service/projects/99"))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND));
+
+        // When
+        Optional<ProjectDto> project = client.findById(99L);
+
+        // Then
+        server.verify();
+        assertTrue(project.isEmpty(), "Unknown project should be empty");
+    }
+
+    @Test
+    void testFindByIdPropagatesServerErrors() {
+        // Given
+        server.expect(requestTo("http://project-service/projects/1"))
+                .andRespond(withStatus(HttpStatus.INTERNAL_SERVER_ERROR));
+
+        // When & Then
+        assertThrows(HttpServerErrorException.class, () -> client.findById(1L));
+        server.verify();
+    }
+}
@@ -0,0 +1,211 @@
+package de.tum.cit.aet.closed.ai.client;
+
+import de.tum.cit.aet.closed.ai.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RemoteCallPolicyTest {
+
+    private static final Duration OPEN_DURATION = Duration.ofMinutes(1);
+
+    private MeterRegistry meterRegistry;
+
+    /** Policies with a circuit breaker that opens after 4 calls of which half failed. */
+    static RemoteCallPolicies policies(MeterRegistry meterRegistry, int maxRetries) {
+        return policies(meterRegistry, maxRetries, 10, 1);
+    }
+
+    private static RemoteCallPolicies policies(
+            MeterRegistry meterRegistry, int maxRetries, int retryBudgetReserve, int maxConcurrentCalls) {
+        return new RemoteCallPolicies(meterRegistry, settings(maxRetries, retryBudgetReserve, maxConcurrentCalls));
+    }
+
+    private static RemoteCallPolicies.Settings settings(
+            int maxRetries, int retryBudgetReserve, int maxConcurrentCalls) {
+        return new RemoteCallPolicies.Settings(
+                maxConcurrentCalls, Duration.ZERO,
+                50, 10, 4, OPEN_DURATION, 1,
+                maxRetries, Duration.ofMillis(1), Duration.ofMillis(5), 0.0, retryBudgetReserve,
+                false, 0.95, Duration.ofMillis(10), 0.0, 0);
+    }
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void testTransientFailureIsRetried() {
+        // Given
+        RemoteCallPolicy policy = policies(meterRegistry, 2).forClient("test");
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When
+        String result = policy.call(() -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE);
+            }
+            return "ok";
+        });
+
+        // Then
+        assertEquals("ok", result, "Retry should return the result");
+        assertEquals(2, attempts.get(), "Call should be made twice");
+        assertEquals(1.0, retries("retried"), "Retry should be counted");
+    }
+
+    @Test
+    void testRetriesStopAfterMaxRetries() {
+        // Given
+        RemoteCallPolicy policy = policies(meterRegistry, 2).forClient("test");
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When
+        assertThrows(ResourceAccessException.class, () -> policy.call(() -> {
+            attempts.incrementAndGet();
+            throw new ResourceAccessException("Read timed out");
+        }));
+
+        // Then
+        assertEquals(3, attempts.get(), "Call should be made once and retried twice");
+    }
+
+    @Test
+    void testServerErrorIsNotRetried() {
+        // Given
+        RemoteCallPolicy policy = policies(meterRegistry, 2).forClient("test");
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When
+        assertThrows(HttpServerErrorException.class, () -> policy.call(() -> {
+            attempts.incrementAndGet();
+            throw new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR);
+        }));
+
+        // Then
+        assertEquals(1, attempts.get(), "A 500 is not transient and should not be retried");
+    }
+
+    @Test
+    void testRetriesAreLimitedByBudget() {
+        // Given
+        RemoteCallPolicy policy = policies(meterRegistry, 2, 1, 1).forClient("test");
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When
+        assertThrows(ResourceAccessException.class, () -> policy.call(() -> {
+            attempts.incrementAndGet();
+            throw new ResourceAccessException("Connection refused");
+        }));
+
+        // Then
+        assertEquals(2, attempts.get(), "Only the one retry in the budget should be made");
+        assertEquals(1.0, retries("budget_exhausted"), "Retry over budget should be counted");
+    }
+
+    @Test
+    void testClientErrorDoesNotOpenCircuit() {
+        // Given
+        RemoteCallPolicy policy = policies(meterRegistry, 0).forClient("test");
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            assertThrows(HttpClientErrorException.class, () -> policy.call(() -> {
+                throw new HttpClientErrorException(HttpStatus.BAD_REQUEST);
+            }));
+        }
+
+        // Then
+        assertEquals(CircuitBreaker.State.CLOSED, policy.circuitBreaker().state(), "Circuit should stay closed");
+    }
+
+    @Test
+    void testOpenCircuitRejectsCallsWithoutMakingThem() {
+        // Given
+        RemoteCallPolicy policy = policies(meterRegistry, 0).forClient("test");
+        for (int i = 0; i < 4; i++) {
+            assertThrows(ResourceAccessException.class, () -> policy.call(() -> {
+                throw new ResourceAccessException("Connection refused");
+            }));
+        }
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When
+        assertThrows(ServiceUnavailableException.class, () -> policy.call(attempts::incrementAndGet));
+
+        // Then
+        assertEquals(0, attempts.get(), "No call should be made while the circuit is open");
+        assertEquals(1.0, rejections("circuit_open"), "Rejection should be counted");
+    }
+
+    @Test
+    void testBulkheadRejectsCallsOverLimit() throws Exception {
+        // Given
+        RemoteCallPolicy policy = policies(meterRegistry, 0, 10, 1).forClient("test");
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            executor.submit(() -> policy.call(() -> {
+                started.countDown();
+                return release.await(5, TimeUnit.SECONDS);
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS), "First call should start");
+
+            // When
+            assertThrows(ServiceUnavailableException.class, () -> policy.call(() -> "second"));
+            release.countDown();
+        }
+
+        // Then
+        assertEquals(1.0, rejections("bulkhead"), "Rejection should be counted");
+        assertEquals("third", policy.call(() -> "third"), "Calls should be made again once a permit is free");
+    }
+
+    @Test
+    void testProbeEndingWithErrorIsReleased() {
+        // Given
+        AtomicLong now = new AtomicLong();
+        CircuitBreaker breaker = new CircuitBreaker("test", meterRegistry, 50, 10, 4, OPEN_DURATION, 1, now::get);
+        RemoteCallPolicy policy = new RemoteCallPolicy(
+                "test", meterRegistry, settings(0, 10, 1), new RetryBudget(0.0, 10), breaker, null);
+        for (int i = 0; i < 4; i++) {
+            assertThrows(ResourceAccessException.class, () -> policy.call(() -> {
+                throw new ResourceAccessException("Connection refused");
+            }));
+        }
+        now.addAndGet(OPEN_DURATION.toNanos());
+
+        // When
+        assertThrows(StackOverflowError.class, () -> policy.call(() -> {
+            throw new StackOverflowError();
+        }));
+
+        // Then
+        assertEquals("ok", policy.call(() -> "ok"), "Probe should be permitted again");
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state(), "Successful probe should close the circuit");
+    }
+
+    private double retries(String result) {
+        return meterRegistry.get("client.retries").tag("client", "test").tag("result", result).counter().count();
+    }
+
+    private double rejections(String reason) {
+        return meterRegistry.get("client.calls.rejected").tag("client", "test").tag("reason", reason).counter().count();
+    }
+}
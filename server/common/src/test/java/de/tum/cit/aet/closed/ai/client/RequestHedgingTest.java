@@ -0,0 +1,135 @@
+package de.tum.cit.aet.closed.ai.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestHedgingTest {
+
+    private static final Duration DELAY = Duration.ofMillis(20);
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void testFastRequestIsNotHedged() {
+        // Given
+        RequestHedging hedging = hedging(10);
+        AtomicInteger requests = new AtomicInteger();
+
+        // When
+        String result = hedging.call(() -> "response-" + requests.incrementAndGet());
+
+        // Then
+        assertEquals("response-1", result, "Response should be returned");
+        assertEquals(1, requests.get(), "Only one request should be sent");
+        assertEquals(0.0, hedges("sent"), "No hedge should be counted");
+    }
+
+    @Test
+    void testSlowRequestIsHedgedAndCancelled() throws Exception {
+        // Given
+        RequestHedging hedging = hedging(10);
+        AtomicInteger requests = new AtomicInteger();
+        CountDownLatch slowRequestInterrupted = new CountDownLatch(1);
+
+        // When
+        String result = hedging.call(() -> {
+            if (requests.incrementAndGet() == 1) {
+                try {
+                    Thread.sleep(Duration.ofSeconds(10));
+                } catch (InterruptedException e) {
+                    slowRequestInterrupted.countDown();
+                }
+                return "slow";
+            }
+            return "hedge";
+        });
+
+        // Then
+        assertEquals("hedge", result, "First response should win");
+        assertTrue(slowRequestInterrupted.await(5, TimeUnit.SECONDS), "Slow request should be cancelled");
+        assertEquals(1.0, hedges("sent"), "Hedge should be counted");
+        assertEquals(1.0, hedges("won"), "Winning hedge should be counted");
+    }
+
+    @Test
+    void testHedgesAreLimitedByBudget() {
+        // Given
+        RequestHedging hedging = hedging(0);
+        AtomicInteger requests = new AtomicInteger();
+
+        // When
+        String result = hedging.call(() -> {
+            requests.incrementAndGet();
+            sleep(DELAY.multipliedBy(3));
+            return "slow";
+        });
+
+        // Then
+        assertEquals("slow", result, "Response should be awaited without a hedge");
+        assertEquals(1, requests.get(), "No hedge should be sent without budget");
+        assertEquals(1.0, hedges("budget_exhausted"), "Refused hedge should be counted");
+    }
+
+    @Test
+    void testFailureOfOneRequestWaitsForTheOther() {
+        // Given
+        RequestHedging hedging = hedging(10);
+        AtomicInteger requests = new AtomicInteger();
+
+        // When
+        String result = hedging.call(() -> {
+            if (requests.incrementAndGet() == 1) {
+                sleep(DELAY.multipliedBy(2));
+                throw new ResourceAccessException("Connection reset");
+            }
+            sleep(DELAY.multipliedBy(4));
+            return "hedge";
+        });
+
+        // Then
+        assertEquals("hedge", result, "Successful response should be used");
+    }
+
+    @Test
+    void testFailureOfAllRequestsIsRethrown() {
+        // Given
+        RequestHedging hedging = hedging(10);
+
+        // When & Then
+        assertThrows(ResourceAccessException.class, () -> hedging.call(() -> {
+            sleep(DELAY.multipliedBy(2));
+            throw new ResourceAccessException("Connection reset");
+        }));
+    }
+
+    private RequestHedging hedging(int budgetReserve) {
+        return new RequestHedging("test", meterRegistry, 0.95, DELAY, new RetryBudget(0.0, budgetReserve));
+    }
+
+    private double hedges(String result) {
+        return meterRegistry.get("client.hedges").tag("result", result).counter().count();
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package de.tum.cit.aet.closed.ai.client;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RetryBudgetTest {
+
+    @Test
+    void testReserveAllowsBurstOfRetries() {
+        // Given
+        RetryBudget budget = new RetryBudget(0.1, 3);
+
+        // When & Then
+        assertTrue(budget.tryRetry(), "First retry should be within the reserve");
+        assertTrue(budget.tryRetry(), "Second retry should be within the reserve");
+        assertTrue(budget.tryRetry(), "Third retry should be within the reserve");
+        assertFalse(budget.tryRetry(), "Retry beyond the reserve should be refused");
+    }
+
+    @Test
+    void testCallsRefillBudgetByRatio() {
+        // Given
+        RetryBudget budget = new RetryBudget(0.1, 1);
+        budget.tryRetry();
+
+        // When
+        for (int i = 0; i < 9; i++) {
+            budget.onCall();
+        }
+        boolean afterNineCalls = budget.tryRetry();
+        budget.onCall();
+        boolean afterTenCalls = budget.tryRetry();
+
+        // Then
+        assertFalse(afterNineCalls, "Nine calls should not earn a retry");
+        assertTrue(afterTenCalls, "Ten calls should earn one retry");
+    }
+
+    @Test
+    void testBudgetIsCappedAtReserve() {
+        // Given
+        RetryBudget budget = new RetryBudget(1.0, 2);
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            budget.onCall();
+        }
+
+        // Then
+        assertTrue(budget.tryRetry(), "First retry should be allowed");
+        assertTrue(budget.tryRetry(), "Second retry should be allowed");
+        assertFalse(budget.tryRetry(), "Unused budget should not accumulate beyond the reserve");
+    }
+}
@@ -0,0 +1,259 @@
+package de.tum.cit.aet.closed.ai.client;
+
+import de.tum.cit.aet.closed.ai.dto.UserDto;
+import de.tum.cit.aet.closed.ai.event.ChangesMissedEvent;
+import de.tum.cit.aet.closed.ai.event.UserChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.ExpectedCount.times;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.jsonPath;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class UserServiceClientTest {
+
+    private static final String USER_JSON = "{\"id\":1,\"name\":\"Jane\",\"profilePicture\":\"jane.png\"}";
+
+    private MeterRegistry meterRegistry;
+    private MockRestServiceServer server;
+    private UserServiceClient client;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        RestClient.Builder builder = RestClient.builder();
+        server = MockRestServiceServer.bindTo(builder).build();
+        client = new UserServiceClient(
+                builder, RemoteCallPolicyTest.policies(meterRegistry, 0), meterRegistry, "http://user-service",
+                100, Duration.ofMinutes(1), Duration.ofMinutes(1),
+                Duration.ZERO, 100);
+    }
+
+    @Test
+    void testFindByIdIsServedFromCacheOnSecondCall() {
+        // Given
+        server.expect(once(), requestTo("http://user-service/users/1"))
+                .andRespond(withSuccess(USER_JSON, MediaType.APPLICATION_JSON));
+
+        // When
+        Optional<UserDto> first = client.findById(1L);
+        Optional<UserDto> second = client.findById(1L);
+
+        // Then
+        server.verify();
+        assertTrue(first.isPresent(), "User should be found");
+        assertEquals("Jane", first.get().name(), "Name should match");
+        assertEquals(first, second, "Cached result should match");
+        assertEquals(1.0, gets("hit"), "Second lookup should be a cache hit");
+        assertEquals(1.0, gets("miss"), "First lookup should be a cache miss");
+    }
+
+    @Test
+    void testNotFoundIsCachedAsEmpty() {
+        // Given
+        server.expect(once(), requestTo("http://user-service/users/99"))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND));
+
+        // When & Then
+        assertTrue(client.findById(99L).isEmpty(), "Unknown user should be empty");
+        assertTrue(client.findById(99L).isEmpty(), "Unknown user should be empty from cache");
+        server.verify();
+    }
+
+    @Test
+    void testServerErrorsAreNotCached() {
+        // Given
+        server.expect(times(2), requestTo("http://user-service/users/1"))
+                .andRespond(withStatus(HttpStatus.INTERNAL_SERVER_ERROR));
+
+        // When & Then
+        assertThrows(HttpServerErrorException.class, () -> client.findById(1L));
+        assertThrows(HttpServerErrorException.class, () -> client.findById(1L));
+        server.verify();
+    }
+
+    @Test
+    void testUserChangedEventEvictsEntry() {
+        // Given
+        server.expect(times(2), requestTo("http://user-service/users/1"))
+                .andRespond(withSuccess(USER_JSON, MediaType.APPLICATION_JSON));
+        client.findById(1L);
+
+        // When
+        client.onUserChanged(new UserChangedEvent(1L));
+        client.findById(1L);
+
+        // Then
+        server.verify();
+    }
+
+    @Test
+    void testChangesMissedEventEvictsAllEntries() {
+        // Given
+        server.expect(times(2), requestTo("http://user-service/users/1"))
+                .andRespond(withSuccess(USER_JSON, MediaType.APPLICATION_JSON));
+        client.findById(1L);
+
+        // When
+        client.onChangesMissed(new ChangesMissedEvent());
+        client.findById(1L);
+
+        // Then
+        server.verify();
+    }
+
+    @Test
+    void testEvictionDuringFetchIsNotUndone() {
+        // Given
+        server.expect(times(2), requestTo("http://user-service/users/1"))
+                .andRespond(request -> {
+                    // the user changes while the old state is on its way back
+                    client.onUserChanged(new UserChangedEvent(1L));
+                    return withSuccess(USER_JSON, MediaType.APPLICATION_JSON).createResponse(request);
+                });
+
+        // When
+        client.findById(1L);
+        client.findById(1L);
+
+        // Then
+        server.verify();
+    }
+
+    @Test
+    void testEvictionDuringBatchFetchIsNotUndone() {
+        // Given
+        server.expect(times(2), requestTo("http://user-service/users/batch"))
+                .andRespond(request -> {
+                    client.onUserChanged(new UserChangedEvent(1L));
+                    return withSuccess("[" + USER_JSON + ",{\"id\":2,\"name\":\"John\"}]",
+                            MediaType.APPLICATION_JSON).createResponse(request);
+                });
+
+        // When
+        client.findAllByIds(List.of(1L, 2L));
+        Map<Long, UserDto> users = client.findAllByIds(List.of(1L, 2L));
+
+        // Then
+        server.verify();
+        assertEquals(2, users.size(), "Both users should be returned");
+    }
+
+    @Test
+    void testChangesMissedDuringFetchIsNotUndone() {
+        // Given
+        server.expect(times(2), requestTo("http://user-service/users/1"))
+                .andRespond(request -> {
+                    client.onChangesMissed(new ChangesMissedEvent());
+                    return withSuccess(USER_JSON, MediaType.APPLICATION_JSON).createResponse(request);
+                });
+
+        // When
+        client.findById(1L);
+        client.findById(1L);
+
+        // Then
+        server.verify();
+    }
+
+    @Test
+    void testFindAllByIdsFetchesOnlyUncachedUsersInOneRequest() {
+        // Given
+        server.expect(once(), requestTo("http://user-service/users/1"))
+                .andRespond(withSuccess(USER_JSON, MediaType.APPLICATION_JSON));
+        server.expect(once(), requestTo("http://user-service/users/batch"))
+                .andExpect(method(HttpMethod.POST))
+                .andRespond(withSuccess("[{\"id\":2,\"name\":\"John\"}]", MediaType.APPLICATION_JSON));
+        client.findById(1L);
+
+        // When
+        Map<Long, UserDto> users = client.findAllByIds(List.of(1L, 2L, 3L, 2L));
+
+        // Then
+        assertEquals(2, users.size(), "Only known users should be returned");
+        assertEquals("Jane", users.get(1L).name(), "Cached user should be returned");
+        assertEquals("John", users.get(2L).name(), "Fetched user should be returned");
+        assertTrue(client.findById(3L).isEmpty(), "Unknown user should be negatively cached");
+        server.verify();
+    }
+
+    @Test
+    void testFindAllByIdsSplitsLargeRequestsIntoBatchesOfMaxSize() {
+        // Given
+        server.expect(times(3), requestTo("http://user-service/users/batch"))
+                .andExpect(method(HttpMethod.POST))
+                .andExpect(jsonPath("$", hasSize(lessThanOrEqualTo(UserServiceClient.MAX_BATCH_SIZE))))
+                .andRespond(withSuccess("[" + USER_JSON + "]", MediaType.APPLICATION_JSON));
+        List<Long> ids = LongStream.rangeClosed(1, 2 * UserServiceClient.MAX_BATCH_SIZE + 1).boxed().toList();
+
+        // When
+        Map<Long, UserDto> users = client.findAllByIds(ids);
+
+        // Then
+        server.verify();
+        assertEquals(1, users.size(), "Only the known user should be returned");
+        assertEquals("Jane", users.get(1L).name(), "Name should match");
+    }
+
+    @Test
+    void testFindAllByIdsWithNoIdsMakesNoRequest() {
+        // When
+        Map<Long, UserDto> users = client.findAllByIds(List.of());
+
+        // Then
+        assertTrue(users.isEmpty(), "Result should be empty");
+        server.verify();
+    }
+
+    @Test
+    void testFindByIdWithBatchWindowFetchesAndCachesThroughBatchRequest() {
+        // Given
+        RestClient.Builder builder = RestClient.builder();
+        MockRestServiceServer batchServer = MockRestServiceServer.bindTo(builder).build();
+        UserServiceClient batchingClient = new UserServiceClient(
+                builder, RemoteCallPolicyTest.policies(meterRegistry, 0), meterRegistry, "http://user-service",
+                100, Duration.ofMinutes(1), Duration.ofMinutes(1),
+                Duration.ofMillis(5), 100);
+        batchServer.expect(once(), requestTo("http://user-service/users/batch"))
+                .andExpect(method(HttpMethod.POST))
+                .andRespond(withSuccess("[" + USER_JSON + "]", MediaType.APPLICATION_JSON));
+
+        // When
+        Optional<UserDto> first = batchingClient.findById(1L);
+        Optional<UserDto> second = batchingClient.findById(1L);
+
+        // Then
+        batchServer.verify();
+        assertEquals("Jane", first.orElseThrow().name(), "User should be found");
+        assertEquals(first, second, "Batched result should be cached");
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", UserServiceClient.CACHE_NAME)
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+}
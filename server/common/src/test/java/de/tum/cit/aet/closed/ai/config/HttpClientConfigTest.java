@@ -0,0 +1,61 @@
+package de.tum.cit.aet.closed.ai.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HttpClientConfigTest {
+
+    private final HttpClientConfig config = new HttpClientConfig();
+
+    private PoolingHttpClientConnectionManager connectionManager;
+
+    @AfterEach
+    void tearDown() {
+        connectionManager.close();
+    }
+
+    @Test
+    void testConnectionManagerLimitsPoolAndRoutes() {
+        // When
+        connectionManager = config.interServiceConnectionManager(
+                new SimpleMeterRegistry(), 40, 10,
+                Duration.ofSeconds(1), Duration.ofSeconds(5), Duration.ofMinutes(5));
+
+        // Then
+        assertEquals(40, connectionManager.getMaxTotal(), "Pool size should be limited");
+        assertEquals(10, connectionManager.getDefaultMaxPerRoute(), "Connections per service should be limited");
+    }
+
+    @Test
+    void testConnectionManagerReportsPoolUtilization() {
+        // Given
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        // When
+        connectionManager = config.interServiceConnectionManager(
+                meterRegistry, 40, 10,
+                Duration.ofSeconds(1), Duration.ofSeconds(5), Duration.ofMinutes(5));
+
+        // Then
+        assertEquals(40.0, gauge(meterRegistry, "httpcomponents.httpclient.pool.total.max"),
+                "Pool size should be reported");
+        assertEquals(0.0, gauge(meterRegistry, "httpcomponents.httpclient.pool.total.pending"),
+                "Calls waiting for a connection should be reported");
+        assertEquals(0.0, meterRegistry.get("httpcomponents.httpclient.pool.total.connections")
+                        .tag("httpclient", HttpClientConfig.POOL_NAME)
+                        .tag("state", "leased")
+                        .gauge().value(),
+                "Leased connections should be reported");
+    }
+
+    private static double gauge(MeterRegistry meterRegistry, String name) {
+        return meterRegistry.get(name).tag("httpclient", HttpClientConfig.POOL_NAME).gauge().value();
+    }
+}
@@ -0,0 +1,24 @@
+package de.tum.cit.aet.closed.ai.dto;
+
+import de.tum.cit.aet.closed.ai.model.TaskStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkStatusUpdateDtoTest {
+
+    @Test
+    void testBulkStatusUpdateDtoConstructor() {
+        // Given
+        List<Long> taskIds = List.of(1L, 2L, 3L);
+
+        // When
+        BulkStatusUpdateDto dto = new BulkStatusUpdateDto(taskIds, TaskStatus.DONE);
+
+        // Then
+        assertEquals(taskIds, dto.taskIds(), "Task IDs should match");
+        assertEquals(TaskStatus.DONE, dto.status(), "Status should match");
+    }
+}
@@ -0,0 +1,27 @@
+package de.tum.cit.aet.closed.ai.dto;
+
+import de.tum.cit.aet.closed.ai.model.TaskStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkStatusUpdateResultDtoTest {
+
+    @Test
+    void testBulkStatusUpdateResultDtoConstructor() {
+        // Given
+        List<Long> updatedIds = List.of(1L, 2L);
+        List<Long> notFoundIds = List.of(99L);
+
+        // When
+        BulkStatusUpdateResultDto dto =
+                new BulkStatusUpdateResultDto(TaskStatus.IN_PROGRESS, updatedIds, notFoundIds);
+
+        // Then
+        assertEquals(TaskStatus.IN_PROGRESS, dto.status(), "Status should match");
+        assertEquals(updatedIds, dto.updatedIds(), "Updated IDs should match");
+        assertEquals(notFoundIds, dto.notFoundIds(), "Not found IDs should match");
+    }
+}
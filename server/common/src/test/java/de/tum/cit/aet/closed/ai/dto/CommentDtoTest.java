@@ -0,0 +1,35 @@
+package de.tum.cit.aet.closed.ai.dto;
+
+import de.tum.cit.aet.closed.ai.model.Task;
+import de.tum.cit.aet.closed.ai.model.TaskComment;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CommentDtoTest {
+
+    @Test
+    void testFromComment() {
+        // Given
+        Task task = new Task();
+        task.setId(7L);
+
+        TaskComment comment = new TaskComment();
+        comment.setId(3L);
+        comment.setTask(task);
+        comment.setContent("Looks good");
+        Instant createdAt = Instant.now();
+        comment.setCreatedAt(createdAt);
+
+        // When
+        CommentDto dto = CommentDto.fromComment(comment);
+
+        // Then
+        assertEquals(3L, dto.id(), "ID should match");
+        assertEquals(7L, dto.taskId(), "Task ID should match");
+        assertEquals("Looks good", dto.content(), "Content should match");
+        assertEquals(createdAt, dto.createdAt(), "Created at should match");
+    }
+}
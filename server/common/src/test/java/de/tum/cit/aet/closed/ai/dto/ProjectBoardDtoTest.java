@@ -0,0 +1,64 @@
+package de.tum.cit.aet.closed.ai.dto;
+
+import de.tum.cit.aet.closed.ai.model.Project;
+import de.tum.cit.aet.closed.ai.model.TaskStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProjectBoardDtoTest {
+
+    private static TaskDto task(Long id, TaskStatus status) {
+        return new TaskDto(id, "Task " + id, null, status, null, null, List.of(), List.of(), null, 0);
+    }
+
+    @Test
+    void testFromProject() {
+        // Given
+        Project project = new Project();
+        project.setId(1L);
+        project.setName("Board Project");
+        project.setColor("#0000FF");
+        UserDto assignee = new UserDto(7L, "Assignee", null, null, null);
+        List<TaskDto> tasks = List.of(
+                task(3L, TaskStatus.OPEN),
+                task(2L, TaskStatus.DONE),
+                task(1L, TaskStatus.OPEN));
+
+        // When
+        ProjectBoardDto dto = ProjectBoardDto.fromProject(project, tasks, List.of(assignee));
+
+        // Then
+        assertEquals(1L, dto.id(), "ID should match");
+        assertEquals("Board Project", dto.name(), "Name should match");
+        assertEquals("#0000FF", dto.color(), "Color should match");
+        assertEquals(List.of(3L, 1L), dto.columns().get(TaskStatus.OPEN).stream().map(TaskDto::id).toList(),
+                "Open column should keep task order");
+        assertEquals(2L, dto.counts().get(TaskStatus.OPEN), "Open count should match");
+        assertEquals(1L, dto.counts().get(TaskStatus.DONE), "Done count should match");
+        assertEquals(List.of(assignee), dto.assignees(), "Assignees should match");
+    }
+
+    @Test
+    void testEmptyColumnsArePresent() {
+        // When
+        ProjectBoardDto dto = ProjectBoardDto.fromProject(new Project(), List.of(), List.of());
+
+        // Then
+        for (TaskStatus status : TaskStatus.values()) {
+            assertTrue(dto.columns().get(status).isEmpty(), "Column should be empty");
+            assertEquals(0L, dto.counts().get(status), "Count should be zero");
+        }
+    }
+
+    @Test
+    void testTaskWithoutStatusGoesToBacklog() {
+        // When
+        ProjectBoardDto dto = ProjectBoardDto.fromProject(new Project(), List.of(task(1L, null)), List.of());
+
+        // Then
+        assertEquals(1L, dto.counts().get(TaskStatus.BACKLOG), "Backlog count should match");
+    }
+}
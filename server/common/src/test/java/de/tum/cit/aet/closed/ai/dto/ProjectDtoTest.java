@@ -89,4 +89,20 @@ class ProjectDtoTest {
         // Then
         assertEquals(0, dto.taskIds().size(), "Task IDs list should be empty");
     }
+
+    @Test
+    void testFromProjectWithSeparatelyLoadedTaskIds() {
+        // Given
+        Project project = new Project();
+        project.setId(1L);
+        project.setName("Lazy Project");
+        project.setTasks(null);
+
+        // When
+        ProjectDto dto = ProjectDto.fromProject(project, List.of(5L, 6L));
+
+        // Then
+        assertEquals("Lazy Project", dto.name(), "Name should match");
+        assertEquals(List.of(5L, 6L), dto.taskIds(), "Task IDs should be taken as given");
+    }
 }
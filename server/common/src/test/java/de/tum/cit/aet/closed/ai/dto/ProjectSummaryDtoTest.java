@@ -0,0 +1,47 @@
+package de.tum.cit.aet.closed.ai.dto;
+
+import de.tum.cit.aet.closed.ai.model.Project;
+import de.tum.cit.aet.closed.ai.model.TaskStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProjectSummaryDtoTest {
+
+    @Test
+    void testFromProject() {
+        // Given
+        Project project = new Project();
+        project.setId(1L);
+        project.setName("Sidebar Project");
+        project.setColor("#00FF00");
+        Instant createdAt = Instant.now();
+        project.setCreatedAt(createdAt);
+        project.setUpdatedAt(createdAt);
+
+        // When
+        ProjectSummaryDto dto = ProjectSummaryDto.fromProject(
+                project, Map.of(TaskStatus.OPEN, 3L, TaskStatus.DONE, 1L));
+
+        // Then
+        assertEquals(1L, dto.id(), "ID should match");
+        assertEquals("Sidebar Project", dto.name(), "Name should match");
+        assertEquals("#00FF00", dto.color(), "Color should match");
+        assertEquals(createdAt, dto.createdAt(), "Created at should match");
+        assertEquals(3L, dto.taskCounts().get(TaskStatus.OPEN), "Open count should match");
+        assertEquals(1L, dto.taskCounts().get(TaskStatus.DONE), "Done count should match");
+    }
+
+    @Test
+    void testMissingStatusesCountAsZero() {
+        // When
+        ProjectSummaryDto dto = ProjectSummaryDto.fromProject(new Project(), Map.of());
+
+        // Then
+        assertEquals(TaskStatus.values().length, dto.taskCounts().size(), "All statuses should be present");
+        dto.taskCounts().values().forEach(count -> assertEquals(0L, count, "Count should be zero"));
+    }
+}
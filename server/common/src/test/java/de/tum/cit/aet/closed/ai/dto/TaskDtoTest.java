@@ -25,10 +25,11 @@ class TaskDtoTest {
         List<String> comments = new ArrayList<>();
         List<String> attachments = new ArrayList<>();
         Long assigneeId = 3L;
+        int commentCount = 2;
 
         // When
         TaskDto dto = new TaskDto(id, title, description, status, createdAt, updatedAt,
-                comments, attachments, assigneeId);
+                comments, attachments, assigneeId, commentCount);
 
         // Then
         assertEquals(id, dto.id(), "ID should match");
@@ -40,6 +41,7 @@ class TaskDtoTest {
         assertEquals(comments, dto.comments(), "Comments should match");
         assertEquals(attachments, dto.attachments(), "Attachments should match");
         assertEquals(assigneeId, dto.assigneeId(), "Assignee ID should match");
+        assertEquals(commentCount, dto.commentCount(), "Comment count should match");
     }
 
     @Test
@@ -56,8 +58,7 @@ class TaskDtoTest {
         task.setCreatedAt(createdAt);
         task.setUpdatedAt(updatedAt);
 
-        List<String> comments = List.of("Comment 1", "Comment 2");
-        task.setComments(comments);
+        task.setCommentCount(2);
 
         List<String> attachments = List.of("attachment1.pdf");
         task.setAttachments(attachments);
@@ -76,7 +77,8 @@ class TaskDtoTest {
         assertEquals(task.getStatus(), dto.taskStatus(), "Status should match");
         assertEquals(task.getCreatedAt(), dto.createdAt(), "Created at should match");
         assertEquals(task.getUpdatedAt(), dto.updatedAt(), "Updated at should match");
-        assertEquals(task.getComments(), dto.comments(), "Comments should match");
+        assertTrue(dto.comments().isEmpty(), "Comments should not be embedded");
+        assertEquals(2, dto.commentCount(), "Comment count should match");
         assertEquals(task.getAttachments(), dto.attachments(), "Attachments should match");
         assertEquals(assignee.getId(), dto.assigneeId(), "Assignee ID should match");
     }
@@ -97,4 +99,18 @@ class TaskDtoTest {
         // Then
         assertNull(dto.assigneeId(), "Assignee ID should be null when task has no assignee");
     }
+
+    @Test
+    void testFromTaskWithSeparatelyLoadedAttachments() {
+        // Given
+        Task task = new Task();
+        task.setId(1L);
+        task.setAttachments(List.of("stale.pdf"));
+
+        // When
+        TaskDto dto = TaskDto.fromTask(task, List.of("attachment1.pdf"));
+
+        // Then
+        assertEquals(List.of("attachment1.pdf"), dto.attachments(), "Attachments should be the ones passed in");
+    }
 }
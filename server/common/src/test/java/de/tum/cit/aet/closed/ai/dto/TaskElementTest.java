@@ -0,0 +1,46 @@
+package de.tum.cit.aet.closed.ai.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskElementTest {
+
+    @Test
+    void testGroupByTaskKeepsOrderPerTask() {
+        // Given
+        List<TaskElement> elements = List.of(
+                element(1L, "a.png"), element(2L, "b.png"), element(1L, "c.png"));
+
+        // When
+        Map<Long, List<String>> byTask = TaskElement.groupByTask(elements);
+
+        // Then
+        assertEquals(List.of("a.png", "c.png"), byTask.get(1L), "Elements of task 1 should keep their order");
+        assertEquals(List.of("b.png"), byTask.get(2L), "Elements of task 2 should match");
+        assertEquals(2, byTask.size(), "Only tasks with elements should be present");
+    }
+
+    @Test
+    void testGroupByTaskWithNoElements() {
+        // When & Then
+        assertTrue(TaskElement.groupByTask(List.of()).isEmpty(), "Result should be empty");
+    }
+
+    private static TaskElement element(Long taskId, String content) {
+        return new TaskElement() {
+            @Override
+            public Long getTaskId() {
+                return taskId;
+            }
+
+            @Override
+            public String getContent() {
+                return content;
+            }
+        };
+    }
+}
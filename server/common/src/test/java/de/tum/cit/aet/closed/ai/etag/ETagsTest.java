@@ -0,0 +1,80 @@
+package de.tum.cit.aet.closed.ai.etag;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ETagsTest {
+
+    private static Fingerprint fingerprint(Long rowCount, Instant lastModified) {
+        return new Fingerprint() {
+            @Override
+            public Long getRowCount() {
+                return rowCount;
+            }
+
+            @Override
+            public Instant getLastModified() {
+                return lastModified;
+            }
+        };
+    }
+
+    @Test
+    void testOfEntityVersion() {
+        // Given
+        Instant updatedAt = Instant.parse("2025-06-01T12:00:00.123456789Z");
+
+        // When
+        String etag = ETags.of(42L, updatedAt);
+
+        // Then
+        assertEquals("\"42-1748779200123456\"", etag, "ETag should be quoted ID and microseconds");
+    }
+
+    @Test
+    void testOfFingerprint() {
+        // Given
+        Instant lastModified = Instant.parse("2025-06-01T12:00:00Z");
+
+        // When / Then
+        assertEquals("\"3-1748779200000000\"", ETags.of(fingerprint(3L, lastModified)),
+                "Fingerprint should contribute count and last modification");
+        assertEquals("\"0-0\"", ETags.of(fingerprint(0L, null)),
+                "Empty sets should have a stable ETag");
+    }
+
+    @Test
+    void testDifferentVersionsGiveDifferentETags() {
+        // Given
+        Instant updatedAt = Instant.parse("2025-06-01T12:00:00Z");
+
+        // When / Then
+        assertNotEquals(ETags.of(1L, updatedAt), ETags.of(1L, updatedAt.plusNanos(1_000)),
+                "A later update should change the ETag");
+        assertNotEquals(ETags.of(fingerprint(2L, updatedAt)), ETags.of(fingerprint(1L, updatedAt)),
+                "A delete should change the ETag");
+    }
+
+    @Test
+    void testMatches() {
+        // Given
+        String etag = ETags.of(1L, Instant.parse("2025-06-01T12:00:00Z"));
+
+        // When / Then
+        assertTrue(ETags.matches(null, etag), "A missing If-Match should not restrict the request");
+        assertTrue(ETags.matches("*", etag), "A wildcard should match any current ETag");
+        assertTrue(ETags.matches("\"1-0\", " + etag, etag), "Any listed ETag should match");
+        assertFalse(ETags.matches("\"1-0\"", etag), "A stale ETag should not match");
+        assertFalse(ETags.matches("W/" + etag, etag), "Weak ETags should not match");
+    }
+
+    @Test
+    void testLastModified() {
+        assertEquals(1748779200000L, ETags.lastModified(Instant.parse("2025-06-01T12:00:00Z")),
+                "Last modified should be epoch milliseconds");
+        assertEquals(-1L, ETags.lastModified(null), "Unknown last modification should be -1");
+    }
+}
@@ -0,0 +1,33 @@
+package de.tum.cit.aet.closed.ai.exception;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InvalidCursorExceptionTest {
+
+    @Test
+    void testExceptionMessage() {
+        // Given
+        String errorMessage = "Malformed cursor: abc";
+
+        // When
+        InvalidCursorException exception = new InvalidCursorException(errorMessage);
+
+        // Then
+        assertEquals(errorMessage, exception.getMessage(), "Exception message should match");
+    }
+
+    @Test
+    void testResponseStatusAnnotation() {
+        // When
+        ResponseStatus annotation = InvalidCursorException.class.getAnnotation(ResponseStatus.class);
+
+        // Then
+        assertNotNull(annotation, "Class should have @ResponseStatus annotation");
+        assertEquals(HttpStatus.BAD_REQUEST, annotation.value(),
+                "Exception should be mapped to HTTP 400 BAD_REQUEST");
+    }
+}
@@ -0,0 +1,36 @@
+package de.tum.cit.aet.closed.ai.exception;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PreconditionFailedExceptionTest {
+
+    @Test
+    void testExceptionMessage() {
+        // Given
+        String errorMessage = "Task 123 was changed concurrently";
+
+        // When
+        PreconditionFailedException exception = new PreconditionFailedException(errorMessage);
+
+        // Then
+        assertEquals(errorMessage, exception.getMessage(), "Exception message should match");
+    }
+
+    @Test
+    void testResponseStatusAnnotation() {
+        // Given
+        Class<PreconditionFailedException> exceptionClass = PreconditionFailedException.class;
+
+        // When
+        ResponseStatus annotation = exceptionClass.getAnnotation(ResponseStatus.class);
+
+        // Then
+        assertNotNull(annotation, "Class should have @ResponseStatus annotation");
+        assertEquals(HttpStatus.PRECONDITION_FAILED, annotation.value(),
+                "Exception should be mapped to HTTP 412 PRECONDITION_FAILED");
+    }
+}
@@ -0,0 +1,36 @@
+package de.tum.cit.aet.closed.ai.exception;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ServiceUnavailableExceptionTest {
+
+    @Test
+    void testExceptionMessage() {
+        // Given
+        String errorMessage = "user-service is unavailable";
+
+        // When
+        ServiceUnavailableException exception = new ServiceUnavailableException(errorMessage);
+
+        // Then
+        assertEquals(errorMessage, exception.getMessage(), "Exception message should match");
+    }
+
+    @Test
+    void testResponseStatusAnnotation() {
+        // Given
+        Class<ServiceUnavailableException> exceptionClass = ServiceUnavailableException.class;
+
+        // When
+        ResponseStatus annotation = exceptionClass.getAnnotation(ResponseStatus.class);
+
+        // Then
+        assertNotNull(annotation, "Class should have @ResponseStatus annotation");
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, annotation.value(),
+                "Exception should be mapped to HTTP 503 SERVICE_UNAVAILABLE");
+    }
+}
@@ -0,0 +1,45 @@
+package de.tum.cit.aet.closed.ai.export;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvWriterTest {
+
+    private record Row(Long id, String text, List<String> tags) {
+    }
+
+    @Test
+    void testWritesHeaderAndRows() throws IOException {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        List<CsvWriter.Column<Row>> columns = List.of(
+                new CsvWriter.Column<>("id", Row::id),
+                new CsvWriter.Column<>("text", Row::text),
+                new CsvWriter.Column<>("tags", Row::tags));
+
+        // When
+        try (CsvWriter<Row> writer = new CsvWriter<>(out, columns)) {
+            writer.write(new Row(1L, "plain", List.of("a")));
+            writer.write(new Row(2L, null, List.of()));
+        }
+
+        // Then
+        assertEquals("id,text,tags\r\n1,plain,a\r\n2,,\r\n", out.toString(StandardCharsets.UTF_8),
+                "Header and rows should match");
+    }
+
+    @Test
+    void testEscape() {
+        assertEquals("", CsvWriter.escape(null), "Null should be empty");
+        assertEquals("42", CsvWriter.escape(42L), "Numbers should be written as is");
+        assertEquals("\"a,b\"", CsvWriter.escape("a,b"), "Commas should be quoted");
+        assertEquals("\"say \"\"hi\"\"\"", CsvWriter.escape("say \"hi\""), "Quotes should be doubled");
+        assertEquals("\"x\ny\"", CsvWriter.escape(List.of("x", "y")), "Collections should be one line per element");
+    }
+}
@@ -0,0 +1,37 @@
+package de.tum.cit.aet.closed.ai.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExportFormatTest {
+
+    @Test
+    void testPrepareSetsContentTypeAndFileName() {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        ExportFormat.CSV.prepare(response, "tasks");
+
+        // Then
+        assertEquals("text/csv;charset=UTF-8", response.getContentType(), "Content type should match");
+        assertEquals("attachment; filename=\"tasks.csv\"", response.getHeader("Content-Disposition"),
+                "File name should use the format's extension");
+    }
+
+    @Test
+    void testOpenReturnsWriterOfFormat() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertInstanceOf(NdjsonWriter.class, ExportFormat.NDJSON.open(out, new ObjectMapper(), null),
+                "NDJSON should use the NDJSON writer");
+        assertInstanceOf(CsvWriter.class, ExportFormat.CSV.open(out, new ObjectMapper(), List.of()),
+                "CSV should use the CSV writer");
+    }
+}
@@ -0,0 +1,56 @@
+package de.tum.cit.aet.closed.ai.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import de.tum.cit.aet.closed.ai.dto.UserDto;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NdjsonWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    void testWritesOneLinePerItem() throws IOException {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Instant createdAt = Instant.parse("2025-06-01T12:00:00Z");
+
+        // When
+        try (NdjsonWriter<UserDto> writer = new NdjsonWriter<>(out, objectMapper)) {
+            writer.write(new UserDto(1L, "Alice", null, createdAt, createdAt));
+            writer.write(new UserDto(2L, "Bob", null, createdAt, createdAt));
+        }
+
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length, "Each item should be on its own line");
+        assertTrue(lines[0].startsWith("{\"id\":1,\"name\":\"Alice\""), "First line should be Alice");
+        assertTrue(lines[1].contains("\"createdAt\":\"2025-06-01T12:00:00Z\""), "Dates should be ISO-8601");
+    }
+
+    @Test
+    void testCloseLeavesStreamOpen() throws IOException {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                fail("Underlying stream should not be closed");
+            }
+        };
+
+        // When
+        new NdjsonWriter<UserDto>(out, objectMapper).close();
+
+        // Then
+        assertEquals(0, out.size(), "Nothing should have been written");
+    }
+}
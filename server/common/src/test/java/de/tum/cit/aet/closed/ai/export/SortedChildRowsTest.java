@@ -0,0 +1,42 @@
+package de.tum.cit.aet.closed.ai.export;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SortedChildRowsTest {
+
+    private record Child(Long parentId, String value) {
+    }
+
+    @Test
+    void testTakesChildrenOfEachParent() {
+        // Given
+        SortedChildRows<Child> children = new SortedChildRows<>(List.of(
+                new Child(1L, "a"),
+                new Child(1L, "b"),
+                new Child(3L, "c")).iterator(), Child::parentId);
+
+        // When / Then
+        assertEquals(List.of("a", "b"), children.take(1L, Child::value), "Parent 1 should get two children");
+        assertEquals(List.of(), children.take(2L, Child::value), "Parent 2 should get none");
+        assertEquals(List.of("c"), children.take(3L, Child::value), "Parent 3 should get one child");
+        assertEquals(List.of(), children.take(4L, Child::value), "Exhausted rows should yield nothing");
+    }
+
+    @Test
+    void testSkipsChildrenOfUnknownParents() {
+        // Given
+        SortedChildRows<Child> children = new SortedChildRows<>(List.of(
+                new Child(1L, "orphan"),
+                new Child(2L, "kept")).iterator(), Child::parentId);
+
+        // When
+        List<String> taken = children.take(2L, Child::value);
+
+        // Then
+        assertEquals(List.of("kept"), taken, "Children of skipped parents should be dropped");
+    }
+}
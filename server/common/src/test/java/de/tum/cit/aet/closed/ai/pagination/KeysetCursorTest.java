@@ -0,0 +1,49 @@
+package de.tum.cit.aet.closed.ai.pagination;
+
+import de.tum.cit.aet.closed.ai.exception.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeysetCursorTest {
+
+    @Test
+    void testEncodeDecodeRoundTrip() {
+        // Given
+        KeysetCursor cursor = new KeysetCursor(Instant.parse("2025-06-01T12:34:56.123456Z"), 42L);
+
+        // When
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+        // Then
+        assertEquals(cursor, decoded, "Decoded cursor should match the original");
+    }
+
+    @Test
+    void testEncodedTokenIsUrlSafe() {
+        // Given
+        KeysetCursor cursor = new KeysetCursor(Instant.now(), Long.MAX_VALUE);
+
+        // When
+        String token = cursor.encode();
+
+        // Then
+        assertTrue(token.matches("[A-Za-z0-9_-]+"), "Token should only contain URL-safe characters");
+    }
+
+    @Test
+    void testDecodeRejectsGarbage() {
+        assertThrows(InvalidCursorException.class, () -> KeysetCursor.decode("not a cursor!"));
+    }
+
+    @Test
+    void testDecodeRejectsMissingSeparator() {
+        // Given
+        String token = java.util.Base64.getUrlEncoder().encodeToString("2025-06-01T12:00:00Z".getBytes());
+
+        // When & Then
+        assertThrows(InvalidCursorException.class, () -> KeysetCursor.decode(token));
+    }
+}
@@ -0,0 +1,72 @@
+package de.tum.cit.aet.closed.ai.pagination;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeysetPageTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-01T12:00:00Z");
+
+    @Test
+    void testLastPageHasNoCursor() {
+        // When
+        KeysetPage<Long> page = KeysetPage.of(List.of(3L, 2L), 2, id -> new KeysetCursor(NOW, id));
+
+        // Then
+        assertEquals(List.of(3L, 2L), page.items(), "All rows should be returned");
+        assertNull(page.nextCursor(), "Last page should not have a next cursor");
+    }
+
+    @Test
+    void testExtraRowIsDroppedAndBecomesCursorOfLastItem() {
+        // When
+        KeysetPage<Long> page = KeysetPage.of(List.of(3L, 2L, 1L), 2, id -> new KeysetCursor(NOW, id));
+
+        // Then
+        assertEquals(List.of(3L, 2L), page.items(), "Extra row should be dropped");
+        assertEquals(new KeysetCursor(NOW, 2L), page.nextCursor(), "Cursor should point at last item");
+    }
+
+    @Test
+    void testMapKeepsNextCursor() {
+        // Given
+        KeysetPage<Long> page = new KeysetPage<>(List.of(3L, 2L), new KeysetCursor(NOW, 2L));
+
+        // When
+        KeysetPage<String> mapped = page.map(String::valueOf);
+
+        // Then
+        assertEquals(List.of("3", "2"), mapped.items(), "Items should be mapped");
+        assertEquals(new KeysetCursor(NOW, 2L), mapped.nextCursor(), "Cursor should be kept");
+    }
+
+    @Test
+    void testToResponseSetsNextCursorHeader() {
+        // Given
+        KeysetPage<Long> page = new KeysetPage<>(List.of(3L), new KeysetCursor(NOW, 3L));
+
+        // When
+        ResponseEntity<List<String>> response = page.toResponse(String::valueOf);
+
+        // Then
+        assertEquals(List.of("3"), response.getBody(), "Items should be mapped");
+        assertEquals(new KeysetCursor(NOW, 3L).encode(),
+                response.getHeaders().getFirst(KeysetCursor.NEXT_CURSOR_HEADER),
+                "Next cursor header should be set");
+    }
+
+    @Test
+    void testToResponseWithoutCursorOmitsHeader() {
+        // When
+        ResponseEntity<List<Long>> response = new KeysetPage<>(List.of(1L), null).toResponse(id -> id);
+
+        // Then
+        assertFalse(response.getHeaders().containsKey(KeysetCursor.NEXT_CURSOR_HEADER),
+                "Header should be absent on the last page");
+    }
+}
@@ -0,0 +1,55 @@
+package de.tum.cit.aet.closed.ai.pagination;
+
+import de.tum.cit.aet.closed.ai.exception.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RankCursorTest {
+
+    @Test
+    void testEncodeDecodeRoundTrip() {
+        // Given
+        RankCursor cursor = new RankCursor(0.0607927f, 42L);
+
+        // When
+        RankCursor decoded = RankCursor.decode(cursor.encode());
+
+        // Then
+        assertEquals(cursor, decoded, "Decoded cursor should match the original");
+        assertEquals(Float.floatToIntBits(cursor.rank()), Float.floatToIntBits(decoded.rank()),
+                "Rank should survive the round trip bit for bit");
+    }
+
+    @Test
+    void testEncodedTokenIsUrlSafe() {
+        // Given
+        RankCursor cursor = new RankCursor(Float.MIN_VALUE, Long.MAX_VALUE);
+
+        // When
+        String token = cursor.encode();
+
+        // Then
+        assertTrue(token.matches("[A-Za-z0-9_-]+"), "Token should only contain URL-safe characters");
+    }
+
+    @Test
+    void testDecodeOrNullTreatsBlankAsFirstPage() {
+        assertNull(RankCursor.decodeOrNull(null), "Missing cursor should mean the first page");
+        assertNull(RankCursor.decodeOrNull(" "), "Blank cursor should mean the first page");
+    }
+
+    @Test
+    void testDecodeRejectsGarbage() {
+        assertThrows(InvalidCursorException.class, () -> RankCursor.decode("not a cursor!"));
+    }
+
+    @Test
+    void testDecodeRejectsKeysetCursor() {
+        // Given
+        String token = new KeysetCursor(java.time.Instant.now(), 1L).encode();
+
+        // When & Then
+        assertThrows(InvalidCursorException.class, () -> RankCursor.decode(token));
+    }
+}
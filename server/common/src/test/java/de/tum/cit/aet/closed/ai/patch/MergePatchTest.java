@@ -0,0 +1,66 @@
+package de.tum.cit.aet.closed.ai.patch;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MergePatchTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testReplacesOnlySuppliedMembers() throws Exception {
+        // Given
+        JsonNode target = json("{\"title\":\"Old\",\"description\":\"Long text\",\"status\":\"OPEN\"}");
+        JsonNode patch = json("{\"status\":\"DONE\"}");
+
+        // When
+        JsonNode result = MergePatch.apply(target, patch);
+
+        // Then
+        assertEquals(json("{\"title\":\"Old\",\"description\":\"Long text\",\"status\":\"DONE\"}"), result,
+                "Only the supplied member should change");
+        assertEquals("OPEN", target.get("status").asText(), "Target should not be modified");
+    }
+
+    @Test
+    void testNullRemovesMember() throws Exception {
+        // Given
+        JsonNode target = json("{\"title\":\"Old\",\"assigneeId\":3}");
+
+        // When
+        JsonNode result = MergePatch.apply(target, json("{\"assigneeId\":null}"));
+
+        // Then
+        assertEquals(json("{\"title\":\"Old\"}"), result, "Null should remove the member");
+    }
+
+    @Test
+    void testMergesNestedObjectsAndReplacesArrays() throws Exception {
+        // Given
+        JsonNode target = json("{\"a\":{\"b\":1,\"c\":2},\"list\":[1,2,3]}");
+        JsonNode patch = json("{\"a\":{\"c\":null,\"d\":4},\"list\":[4]}");
+
+        // When
+        JsonNode result = MergePatch.apply(target, patch);
+
+        // Then
+        assertEquals(json("{\"a\":{\"b\":1,\"d\":4},\"list\":[4]}"), result,
+                "Objects should be merged and arrays replaced");
+    }
+
+    @Test
+    void testNonObjectPatchReplacesTarget() throws Exception {
+        // When
+        JsonNode result = MergePatch.apply(json("{\"a\":1}"), json("[1]"));
+
+        // Then
+        assertEquals(json("[1]"), result, "A non-object patch should replace the whole target");
+    }
+
+    private JsonNode json(String content) throws Exception {
+        return objectMapper.readTree(content);
+    }
+}
@@ -1,20 +1,32 @@
 package de.tum.cit.aet.closed.ai;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import de.tum.cit.aet.closed.ai.dto.AddTaskDto;
 import de.tum.cit.aet.closed.ai.dto.CreateProjectDto;
+import de.tum.cit.aet.closed.ai.dto.ProjectBoardDto;
 import de.tum.cit.aet.closed.ai.dto.ProjectDto;
+import de.tum.cit.aet.closed.ai.dto.ProjectSummaryDto;
 import de.tum.cit.aet.closed.ai.dto.TaskDto;
 import de.tum.cit.aet.closed.ai.exception.ProjectNotFoundException;
+import de.tum.cit.aet.closed.ai.export.CsvWriter;
+import de.tum.cit.aet.closed.ai.export.ExportFormat;
+import de.tum.cit.aet.closed.ai.export.ExportWriter;
 import de.tum.cit.aet.closed.ai.model.Project;
+import de.tum.cit.aet.closed.ai.pagination.KeysetCursor;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.util.List;
 import lombok.AllArgsConstructor;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
 
 @RestController
 @RequestMapping("/projects")
@@ -23,16 +35,102 @@ import org.springframework.web.bind.annotation.*;
     name = "Project Management",
     description = "Operations for managing projects including CRUD operations and task assignment")
 public class ProjectController {
+  static final int DEFAULT_PAGE_SIZE = 100;
+  static final int MAX_PAGE_SIZE = 500;
+  static final int MAX_BULK_SIZE = 1000;
+  static final String LIMIT_DESCRIPTION =
+      "Maximum number of projects to return (1-"
+          + MAX_PAGE_SIZE
+          + ", "
+          + DEFAULT_PAGE_SIZE
+          + " if only a cursor is given)";
+
+  static final List<CsvWriter.Column<ProjectDto>> CSV_COLUMNS =
+      List.of(
+          new CsvWriter.Column<>("id", ProjectDto::id),
+          new CsvWriter.Column<>("name", ProjectDto::name),
+          new CsvWriter.Column<>("color", ProjectDto::color),
+          new CsvWriter.Column<>("createdAt", ProjectDto::createdAt),
+          new CsvWriter.Column<>("updatedAt", ProjectDto::updatedAt),
+          new CsvWriter.Column<>("taskIds", ProjectDto::taskIds));
+
   private final ProjectService projectService;
+  private final ObjectMapper objectMapper;
 
   @GetMapping
-  @Transactional(readOnly = true)
   @Operation(
-      summary = "Get all projects",
-      description = "Retrieve a list of all projects in the system")
-  @ApiResponse(responseCode = "200", description = "Successfully retrieved list of projects")
-  public List<ProjectDto> all() {
-    return projectService.findAll().stream().map(ProjectDto::fromProject).toList();
+      summary = "Get projects",
+      description =
+          "Retrieve projects ordered by last update (newest first). Paging is opt-in: with a"
+              + " limit or a cursor, one page is returned and the cursor for the next page is"
+              + " returned in the "
+              + KeysetCursor.NEXT_CURSOR_HEADER
+              + " header, which is absent on the last page. Without either, all projects are"
+              + " returned.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved projects"),
+        @ApiResponse(responseCode = "304", description = "Projects unchanged since the given ETag"),
+        @ApiResponse(responseCode = "400", description = "Malformed cursor provided")
+      })
+  public ResponseEntity<List<ProjectDto>> all(
+      @Parameter(description = "Cursor returned with the previous page")
+          @RequestParam(required = false)
+          String cursor,
+      @Parameter(description = LIMIT_DESCRIPTION) @RequestParam(required = false) Integer limit,
+      WebRequest request) {
+    KeysetCursor after = KeysetCursor.decodeOrNull(cursor);
+    if (request.checkNotModified(projectService.listETag())) {
+      return null;
+    }
+    return projectService.findProjectPage(after, pageSize(after, limit)).toResponse(dto -> dto);
+  }
+
+  @GetMapping(params = "view=summary")
+  @Operation(
+      summary = "Get project summaries",
+      description =
+          "Retrieve projects with task counts per status instead of task IDs. Paged like the"
+              + " full listing.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Successfully retrieved project summaries"),
+        @ApiResponse(responseCode = "304", description = "Projects unchanged since the given ETag"),
+        @ApiResponse(responseCode = "400", description = "Malformed cursor provided")
+      })
+  public ResponseEntity<List<ProjectSummaryDto>> summaries(
+      @Parameter(description = "Cursor returned with the previous page")
+          @RequestParam(required = false)
+          String cursor,
+      @Parameter(description = LIMIT_DESCRIPTION) @RequestParam(required = false) Integer limit,
+      WebRequest request) {
+    KeysetCursor after = KeysetCursor.decodeOrNull(cursor);
+    if (request.checkNotModified(projectService.listETag())) {
+      return null;
+    }
+    return projectService.findSummaryPage(after, pageSize(after, limit)).toResponse(dto -> dto);
+  }
+
+  @GetMapping("/export")
+  @Operation(
+      summary = "Export all projects",
+      description =
+          "Stream every project with its task IDs ordered by ID, as newline-delimited JSON (one"
+              + " ProjectDto per line) or as CSV. The response is written while the projects are"
+              + " read, so its size is not limited by memory.")
+  @ApiResponse(responseCode = "200", description = "Projects streamed successfully")
+  public void export(
+      @Parameter(description = "Output format") @RequestParam(defaultValue = "NDJSON")
+          ExportFormat format,
+      HttpServletResponse response)
+      throws IOException {
+    format.prepare(response, "projects");
+    try (ExportWriter<ProjectDto> writer =
+        format.open(response.getOutputStream(), objectMapper, CSV_COLUMNS)) {
+      projectService.export(writer);
+    }
   }
 
   @GetMapping("/{id}")
@@ -42,16 +140,51 @@ public class ProjectController {
   @ApiResponses(
       value = {
         @ApiResponse(responseCode = "200", description = "Project found and returned successfully"),
+        @ApiResponse(responseCode = "304", description = "Project unchanged since the given ETag"),
         @ApiResponse(responseCode = "404", description = "Project not found with the provided ID")
       })
   public ProjectDto one(
       @Parameter(description = "Unique identifier of the project", required = true) @PathVariable
-          Long id) {
+          Long id,
+      WebRequest request) {
+    String etag =
+        projectService
+            .findETag(id)
+            .orElseThrow(() -> new ProjectNotFoundException("No project with ID " + id));
+    if (request.checkNotModified(etag)) {
+      return null;
+    }
     Project project =
         projectService
             .findById(id)
             .orElseThrow(() -> new ProjectNotFoundException("No project with ID " + id));
-    return ProjectDto.fromProject(project);
+    return ProjectDto.fromProject(project, projectService.findTaskIds(id));
+  }
+
+  @GetMapping("/{id}/board")
+  @Operation(
+      summary = "Get project board",
+      description =
+          "Retrieve the tasks of a project grouped by status, together with the task count of"
+              + " each column and the distinct assignees of the tasks")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "Board found and returned successfully"),
+        @ApiResponse(responseCode = "304", description = "Board unchanged since the given ETag"),
+        @ApiResponse(responseCode = "404", description = "Project not found with the provided ID")
+      })
+  public ProjectBoardDto board(
+      @Parameter(description = "Unique identifier of the project", required = true) @PathVariable
+          Long id,
+      WebRequest request) {
+    String etag =
+        projectService
+            .findBoardETag(id)
+            .orElseThrow(() -> new ProjectNotFoundException("No project with ID " + id));
+    if (request.checkNotModified(etag)) {
+      return null;
+    }
+    return projectService.getBoard(id);
   }
 
   @PostMapping
@@ -87,7 +220,7 @@ public class ProjectController {
             .findById(id)
             .orElseThrow(() -> new ProjectNotFoundException("No project with ID " + id));
     project.setName(projectDto.name());
-    return ProjectDto.fromProject(projectService.save(project));
+    return ProjectDto.fromProject(projectService.save(project), projectService.findTaskIds(id));
   }
 
   @DeleteMapping("/{id}")
@@ -107,29 +240,34 @@ public class ProjectController {
   @PostMapping("/{id}/tasks")
   @Operation(
       summary = "Add tasks to project",
-      description = "Create and assign new tasks to the specified project")
+      description =
+          "Create and assign up to " + MAX_BULK_SIZE + " new tasks to the specified project")
   @ApiResponses(
       value = {
         @ApiResponse(
             responseCode = "200",
             description = "Tasks created and assigned to project successfully"),
         @ApiResponse(responseCode = "404", description = "Project not found with the provided ID"),
-        @ApiResponse(responseCode = "400", description = "Invalid task data provided")
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid task data or too many tasks provided")
       })
   public List<TaskDto> addTasks(
       @Parameter(description = "Unique identifier of the project", required = true) @PathVariable
           Long id,
       @RequestBody List<AddTaskDto> addTaskDtos) {
-    return addTaskDtos.stream()
-        .map(
-            addTaskDto ->
-                projectService.createTask(
-                    id,
-                    addTaskDto.title(),
-                    addTaskDto.description(),
-                    addTaskDto.taskStatus(),
-                    addTaskDto.assigneeId()))
-        .map(TaskDto::fromTask)
-        .toList();
+    if (addTaskDtos.size() > MAX_BULK_SIZE) {
+      throw new ResponseStatusException(
+          HttpStatus.BAD_REQUEST, "At most " + MAX_BULK_SIZE + " tasks can be added at once");
+    }
+    return projectService.createTasks(id, addTaskDtos).stream().map(TaskDto::fromTask).toList();
+  }
+
+  private static Integer pageSize(KeysetCursor after, Integer limit) {
+    if (after == null && limit == null) {
+      // clients that do not page get the full list, as before paging was added
+      return null;
+    }
+    return Math.clamp(limit != null ? limit : DEFAULT_PAGE_SIZE, 1, MAX_PAGE_SIZE);
   }
 }
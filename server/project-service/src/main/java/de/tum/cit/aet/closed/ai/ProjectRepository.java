@@ -1,14 +1,89 @@
 package de.tum.cit.aet.closed.ai;
 
+import de.tum.cit.aet.closed.ai.etag.Fingerprint;
+import de.tum.cit.aet.closed.ai.export.ExportWriter;
 import de.tum.cit.aet.closed.ai.model.Project;
+import de.tum.cit.aet.closed.ai.model.TaskStatus;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
-import org.springframework.data.jpa.repository.EntityGraph;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface ProjectRepository extends JpaRepository<Project, Long> {
 
-  @Transactional
-  @EntityGraph(attributePaths = "tasks")
-  Optional<Project> findById(Long id);
+  @Query(
+      """
+      select t.project.id as projectId, t.id as taskId from Task t
+      where t.project.id in :projectIds
+      order by t.id
+      """)
+  List<ProjectTaskId> findTaskIdsByProjectIds(Collection<Long> projectIds);
+
+  @Query("select t.id from Task t where t.project.id = :projectId order by t.id")
+  List<Long> findTaskIdsByProjectId(Long projectId);
+
+  @Query("select p.updatedAt from Project p where p.id = :id")
+  Optional<Instant> findUpdatedAtById(Long id);
+
+  @Query("select count(p) as rowCount, max(p.updatedAt) as lastModified from Project p")
+  Fingerprint fingerprint();
+
+  /**
+   * Keyset page ordered by {@code (updatedAt desc, id desc)}; passing {@code null} for {@code
+   * afterUpdatedAt} starts from the most recently updated project.
+   */
+  @Query(
+      """
+      select p from Project p
+      where :afterUpdatedAt is null
+        or p.updatedAt < :afterUpdatedAt
+        or (p.updatedAt = :afterUpdatedAt and p.id < :afterId)
+      order by p.updatedAt desc, p.id desc
+      """)
+  List<Project> findPage(Instant afterUpdatedAt, Long afterId, Pageable pageable);
+
+  @Query(
+      """
+      select t.project.id as projectId, t.status as status, count(t) as taskCount from Task t
+      where t.project.id in :projectIds
+      group by t.project.id, t.status
+      """)
+  List<ProjectStatusCount> countTasksByProjectAndStatus(Collection<Long> projectIds);
+
+  /** Every project ordered by ID, read through a forward-only cursor for exports. */
+  @Query("select p from Project p order by p.id")
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ExportWriter.FETCH_SIZE),
+    @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  Stream<Project> streamAll();
+
+  @Query(
+      """
+      select t.project.id as projectId, t.id as taskId from Task t
+      order by t.project.id, t.id
+      """)
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ExportWriter.FETCH_SIZE))
+  Stream<ProjectTaskId> streamAllTaskIds();
+
+  interface ProjectTaskId {
+    Long getProjectId();
+
+    Long getTaskId();
+  }
+
+  interface ProjectStatusCount {
+    Long getProjectId();
+
+    TaskStatus getStatus();
+
+    Long getTaskCount();
+  }
 }
@@ -1,15 +1,41 @@
 package de.tum.cit.aet.closed.ai;
 
 import de.tum.cit.aet.closed.ai.client.UserServiceClient;
+import de.tum.cit.aet.closed.ai.dto.AddTaskDto;
+import de.tum.cit.aet.closed.ai.dto.ProjectBoardDto;
+import de.tum.cit.aet.closed.ai.dto.ProjectDto;
+import de.tum.cit.aet.closed.ai.dto.ProjectSummaryDto;
+import de.tum.cit.aet.closed.ai.dto.TaskDto;
+import de.tum.cit.aet.closed.ai.dto.TaskElement;
+import de.tum.cit.aet.closed.ai.dto.UserDto;
+import de.tum.cit.aet.closed.ai.etag.ETags;
+import de.tum.cit.aet.closed.ai.event.ProjectChangedEvent;
 import de.tum.cit.aet.closed.ai.exception.ProjectNotFoundException;
+import de.tum.cit.aet.closed.ai.export.ExportWriter;
+import de.tum.cit.aet.closed.ai.export.SortedChildRows;
 import de.tum.cit.aet.closed.ai.metrics.ProjectMetrics;
 import de.tum.cit.aet.closed.ai.model.Project;
 import de.tum.cit.aet.closed.ai.model.Task;
 import de.tum.cit.aet.closed.ai.model.TaskStatus;
 import de.tum.cit.aet.closed.ai.model.User;
+import de.tum.cit.aet.closed.ai.pagination.KeysetCursor;
+import de.tum.cit.aet.closed.ai.pagination.KeysetPage;
+import jakarta.persistence.EntityManager;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,12 +43,47 @@ import org.springframework.transaction.annotation.Transactional;
 @AllArgsConstructor
 public class ProjectService {
   private final ProjectRepository projectRepository;
+  private final ProjectTaskRepository projectTaskRepository;
   private final UserServiceClient userServiceClient;
   private final ProjectMetrics projectMetrics;
+  private final EntityManager entityManager;
+  private final ApplicationEventPublisher eventPublisher;
 
+  /** All projects, in the order of {@link #findPage}. */
   @Transactional(readOnly = true)
   public List<Project> findAll() {
-    return projectRepository.findAll();
+    return projectRepository.findPage(null, null, Pageable.unpaged());
+  }
+
+  @Transactional(readOnly = true)
+  public List<Project> findPage(KeysetCursor after, int limit) {
+    return projectRepository.findPage(
+        after != null ? after.timestamp() : null,
+        after != null ? after.id() : null,
+        PageRequest.of(0, limit));
+  }
+
+  /**
+   * One page of projects with their task IDs, read in one transaction so that the task IDs belong
+   * to the listed projects. All projects on a single page if {@code pageSize} is null.
+   */
+  @Transactional(readOnly = true)
+  public KeysetPage<ProjectDto> findProjectPage(KeysetCursor after, Integer pageSize) {
+    KeysetPage<Project> page = findProjects(after, pageSize);
+    Map<Long, List<Long>> taskIds = findTaskIdsByProject(projectIds(page));
+    return page.map(
+        project ->
+            ProjectDto.fromProject(project, taskIds.getOrDefault(project.getId(), List.of())));
+  }
+
+  /** Like {@link #findProjectPage}, with task counts per status instead of task IDs. */
+  @Transactional(readOnly = true)
+  public KeysetPage<ProjectSummaryDto> findSummaryPage(KeysetCursor after, Integer pageSize) {
+    KeysetPage<Project> page = findProjects(after, pageSize);
+    Map<Long, Map<TaskStatus, Long>> counts = countTasksByStatus(projectIds(page));
+    return page.map(
+        project ->
+            ProjectSummaryDto.fromProject(project, counts.getOrDefault(project.getId(), Map.of())));
   }
 
   @Transactional(readOnly = true)
@@ -30,9 +91,132 @@ public class ProjectService {
     return projectRepository.findById(id);
   }
 
+  /**
+   * ETag of a project including its task IDs, which change without touching the project row.
+   * Empty if the project does not exist.
+   */
+  @Transactional(readOnly = true)
+  public Optional<String> findETag(Long projectId) {
+    return projectRepository
+        .findUpdatedAtById(projectId)
+        .map(
+            updatedAt ->
+                ETags.of(projectId, updatedAt, projectTaskRepository.fingerprint(projectId)));
+  }
+
+  /** Like {@link #findETag}, additionally covering the assignees shown on the board. */
+  @Transactional(readOnly = true)
+  public Optional<String> findBoardETag(Long projectId) {
+    return projectRepository
+        .findUpdatedAtById(projectId)
+        .map(
+            updatedAt ->
+                ETags.of(
+                    projectId,
+                    updatedAt,
+                    projectTaskRepository.fingerprint(projectId),
+                    projectTaskRepository.findAssigneesLastModified(projectId)));
+  }
+
+  /** ETag of the project listings, which also show task IDs or task counts. */
+  @Transactional(readOnly = true)
+  public String listETag() {
+    return ETags.of(projectRepository.fingerprint(), projectTaskRepository.fingerprint(null));
+  }
+
+  @Transactional(readOnly = true)
+  public List<Long> findTaskIds(Long projectId) {
+    return projectRepository.findTaskIdsByProjectId(projectId);
+  }
+
+  /** Task IDs per project from a single projection query; projects without tasks are absent. */
+  @Transactional(readOnly = true)
+  public Map<Long, List<Long>> findTaskIdsByProject(Collection<Long> projectIds) {
+    if (projectIds.isEmpty()) {
+      return Map.of();
+    }
+    return projectRepository.findTaskIdsByProjectIds(projectIds).stream()
+        .collect(
+            Collectors.groupingBy(
+                ProjectRepository.ProjectTaskId::getProjectId,
+                Collectors.mapping(
+                    ProjectRepository.ProjectTaskId::getTaskId, Collectors.toList())));
+  }
+
+  /** Task counts per project and status from one grouped query; empty combinations are absent. */
+  @Transactional(readOnly = true)
+  public Map<Long, Map<TaskStatus, Long>> countTasksByStatus(Collection<Long> projectIds) {
+    if (projectIds.isEmpty()) {
+      return Map.of();
+    }
+    return projectRepository.countTasksByProjectAndStatus(projectIds).stream()
+        .collect(
+            Collectors.groupingBy(
+                ProjectRepository.ProjectStatusCount::getProjectId,
+                Collectors.toMap(
+                    ProjectRepository.ProjectStatusCount::getStatus,
+                    ProjectRepository.ProjectStatusCount::getTaskCount,
+                    Long::sum,
+                    () -> new EnumMap<>(TaskStatus.class))));
+  }
+
+  /**
+   * Writes every project with its task IDs to {@code writer}. Projects and task IDs are read from
+   * two forward-only cursors ordered by project ID and merged on the fly; each project is detached
+   * once written, so the persistence context does not grow with the number of projects.
+   */
+  @Transactional(readOnly = true)
+  public void export(ExportWriter<ProjectDto> writer) throws IOException {
+    try (Stream<Project> projects = projectRepository.streamAll();
+        Stream<ProjectRepository.ProjectTaskId> taskIds = projectRepository.streamAllTaskIds()) {
+      SortedChildRows<ProjectRepository.ProjectTaskId> taskIdsByProject =
+          new SortedChildRows<>(taskIds.iterator(), ProjectRepository.ProjectTaskId::getProjectId);
+      for (Iterator<Project> it = projects.iterator(); it.hasNext(); ) {
+        Project project = it.next();
+        writer.write(
+            ProjectDto.fromProject(
+                project,
+                taskIdsByProject.take(
+                    project.getId(), ProjectRepository.ProjectTaskId::getTaskId)));
+        entityManager.detach(project);
+      }
+    }
+  }
+
+  /**
+   * Loads the board of a project with three queries: the project, its tasks with their assignees,
+   * and all attachments of those tasks. Tasks carry their comment count, not their comments.
+   */
+  @Transactional(readOnly = true)
+  public ProjectBoardDto getBoard(Long projectId) {
+    Project project =
+        projectRepository
+            .findById(projectId)
+            .orElseThrow(() -> new ProjectNotFoundException("No project with ID " + projectId));
+    List<Task> tasks = projectTaskRepository.findBoardTasks(projectId);
+    Map<Long, List<String>> attachments =
+        TaskElement.groupByTask(projectTaskRepository.findAttachmentsByProjectId(projectId));
+
+    List<TaskDto> taskDtos =
+        tasks.stream()
+            .map(task -> TaskDto.fromTask(task, attachments.getOrDefault(task.getId(), List.of())))
+            .toList();
+    List<UserDto> assignees =
+        tasks.stream()
+            .map(Task::getAssignee)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toMap(User::getId, UserDto::fromUser, (a, b) -> a, TreeMap::new))
+            .values()
+            .stream()
+            .toList();
+    return ProjectBoardDto.fromProject(project, taskDtos, assignees);
+  }
+
   @Transactional
   public Project save(Project project) {
-    return projectRepository.save(project);
+    Project savedProject = projectRepository.save(project);
+    eventPublisher.publishEvent(new ProjectChangedEvent(savedProject.getId()));
+    return savedProject;
   }
 
   @Transactional
@@ -42,39 +226,46 @@ public class ProjectService {
     }
     projectRepository.deleteById(id);
     projectMetrics.incrementProjectsDeleted();
+    eventPublisher.publishEvent(new ProjectChangedEvent(id));
   }
 
+  /**
+   * Creates all tasks in one transaction without loading the project's existing tasks. Assignees
+   * are resolved with a single batch lookup; unknown assignees are left unassigned.
+   */
   @Transactional
-  public Task createTask(
-      Long projectId, String title, String desc, TaskStatus taskStatus, Long assigneeId) {
-    Project project =
-        projectRepository
-            .findById(projectId)
-            .orElseThrow(() -> new ProjectNotFoundException("No such project"));
-
-    Task task = project.createTask(title, desc, taskStatus);
-    projectMetrics.incrementTasksCreated();
-
-    if (assigneeId != null) {
-      Optional<User> assignee =
-          userServiceClient
-              .findById(assigneeId)
-              .map(
-                  userDto -> {
-                    User user = new User();
-                    user.setId(userDto.id());
-                    user.setName(userDto.name());
-                    user.setProfilePicture(userDto.profilePicture());
-                    return user;
-                  });
-
-      assignee.ifPresent(task::setAssignee);
+  public List<Task> createTasks(Long projectId, List<AddTaskDto> addTaskDtos) {
+    if (!projectRepository.existsById(projectId)) {
+      throw new ProjectNotFoundException("No such project");
     }
+    if (addTaskDtos.isEmpty()) {
+      return List.of();
+    }
+    Project project = projectRepository.getReferenceById(projectId);
+    Map<Long, UserDto> assignees =
+        userServiceClient.findAllByIds(addTaskDtos.stream().map(AddTaskDto::assigneeId).toList());
 
-    return projectRepository
-        .findById(projectId)
-        .map(p -> p.getTasks().getLast())
-        .orElseThrow(() -> new ProjectNotFoundException("No such project"));
+    List<Task> newTasks =
+        addTaskDtos.stream()
+            .map(
+                addTaskDto -> {
+                  Task task = new Task();
+                  task.setTitle(addTaskDto.title());
+                  task.setDescription(addTaskDto.description());
+                  task.setStatus(addTaskDto.taskStatus());
+                  task.setProject(project);
+                  if (addTaskDto.assigneeId() != null) {
+                    Optional.ofNullable(assignees.get(addTaskDto.assigneeId()))
+                        .map(ProjectService::toUser)
+                        .ifPresent(task::setAssignee);
+                  }
+                  return task;
+                })
+            .toList();
+
+    List<Task> savedTasks = projectTaskRepository.saveAll(newTasks);
+    projectMetrics.incrementTasksCreated(savedTasks.size());
+    return savedTasks;
   }
 
   @Transactional
@@ -86,4 +277,24 @@ public class ProjectService {
     projectMetrics.incrementProjectsCreated();
     return savedProject;
   }
+
+  private KeysetPage<Project> findProjects(KeysetCursor after, Integer pageSize) {
+    if (pageSize == null) {
+      return new KeysetPage<>(findAll(), null);
+    }
+    List<Project> rows = findPage(after, pageSize + 1);
+    return KeysetPage.of(rows, pageSize, p -> new KeysetCursor(p.getUpdatedAt(), p.getId()));
+  }
+
+  private static List<Long> projectIds(KeysetPage<Project> page) {
+    return page.items().stream().map(Project::getId).toList();
+  }
+
+  private static User toUser(UserDto userDto) {
+    User user = new User();
+    user.setId(userDto.id());
+    user.setName(userDto.name());
+    user.setProfilePicture(userDto.profilePicture());
+    return user;
+  }
 }
@@ -0,0 +1,39 @@
+package de.tum.cit.aet.closed.ai;
+
+import de.tum.cit.aet.closed.ai.dto.TaskElement;
+import de.tum.cit.aet.closed.ai.etag.Fingerprint;
+import de.tum.cit.aet.closed.ai.model.Task;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+/** Direct access to tasks so they can be read and inserted without the owning project's tasks. */
+public interface ProjectTaskRepository extends JpaRepository<Task, Long> {
+
+  @Query(
+      """
+      select t from Task t left join fetch t.assignee
+      where t.project.id = :projectId
+      order by t.updatedAt desc, t.id desc
+      """)
+  List<Task> findBoardTasks(Long projectId);
+
+  @Query(
+      """
+      select t.id as taskId, a as content from Task t join t.attachments a
+      where t.project.id = :projectId
+      """)
+  List<TaskElement> findAttachmentsByProjectId(Long projectId);
+
+  /** {@link Fingerprint} of a project's tasks, or of all tasks if {@code projectId} is null. */
+  @Query(
+      """
+      select count(t) as rowCount, max(t.updatedAt) as lastModified from Task t
+      where :projectId is null or t.project.id = :projectId
+      """)
+  Fingerprint fingerprint(Long projectId);
+
+  @Query("select max(a.updatedAt) from Task t join t.assignee a where t.project.id = :projectId")
+  Instant findAssigneesLastModified(Long projectId);
+}
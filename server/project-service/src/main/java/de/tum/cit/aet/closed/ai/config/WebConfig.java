@@ -1,6 +1,8 @@
 package de.tum.cit.aet.closed.ai.config;
 
+import de.tum.cit.aet.closed.ai.pagination.KeysetCursor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -17,6 +19,8 @@ public class WebConfig implements WebMvcConfigurer {
             "https://closed-ai.student.k8s.aet.cit.tum.de")
         .allowedMethods("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS")
         .allowedHeaders("*")
+        .exposedHeaders(
+            KeysetCursor.NEXT_CURSOR_HEADER, HttpHeaders.ETAG, HttpHeaders.LAST_MODIFIED)
         .allowCredentials(true)
         .maxAge(3600);
   }
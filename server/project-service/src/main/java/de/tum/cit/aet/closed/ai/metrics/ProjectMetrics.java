@@ -31,6 +31,10 @@ public class ProjectMetrics {
     tasksCreatedCounter.increment();
   }
 
+  public void incrementTasksCreated(int count) {
+    tasksCreatedCounter.increment(count);
+  }
+
   public void incrementProjectsCreated() {
     projectsCreatedCounter.increment();
   }
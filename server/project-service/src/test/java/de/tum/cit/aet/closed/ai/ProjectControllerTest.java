@@ -2,23 +2,38 @@ package de.tum.cit.aet.closed.ai;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.tum.cit.aet.closed.ai.dto.AddTaskDto;
+import de.tum.cit.aet.closed.ai.dto.ProjectBoardDto;
+import de.tum.cit.aet.closed.ai.dto.ProjectDto;
+import de.tum.cit.aet.closed.ai.dto.ProjectSummaryDto;
+import de.tum.cit.aet.closed.ai.dto.TaskDto;
+import de.tum.cit.aet.closed.ai.exception.ProjectNotFoundException;
+import de.tum.cit.aet.closed.ai.export.ExportWriter;
 import de.tum.cit.aet.closed.ai.model.Project;
 import de.tum.cit.aet.closed.ai.model.Task;
 import de.tum.cit.aet.closed.ai.model.TaskStatus;
+import de.tum.cit.aet.closed.ai.pagination.KeysetCursor;
+import de.tum.cit.aet.closed.ai.pagination.KeysetPage;
+import java.time.Instant;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
@@ -31,11 +46,12 @@ public class ProjectControllerTest {
 
   @Mock private ProjectService projectService;
 
+  @Spy private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
   @InjectMocks private ProjectController projectController;
 
   private Project testProject1;
   private Project testProject2;
-  private List<Project> projectList;
   private Task testTask;
   private Task testTaskWithOpenStatus;
 
@@ -71,14 +87,18 @@ public class ProjectControllerTest {
     testTaskWithOpenStatus.setDescription("Test Description");
     testTaskWithOpenStatus.setStatus(TaskStatus.OPEN);
     testTaskWithOpenStatus.setProject(testProject1);
-
-    projectList = Arrays.asList(testProject1, testProject2);
   }
 
   @Test
-  void getAllProjects_ShouldReturnAllProjects() throws Exception {
+  void getAllProjects_WithoutLimitOrCursor_ShouldReturnAllProjects() throws Exception {
     // Mock service method
-    when(projectService.findAll()).thenReturn(projectList);
+    when(projectService.findProjectPage(null, null))
+        .thenReturn(
+            new KeysetPage<>(
+                List.of(
+                    ProjectDto.fromProject(testProject1, List.of(1L)),
+                    ProjectDto.fromProject(testProject2, List.of())),
+                null));
 
     // Perform GET request and validate response
     mockMvc
@@ -91,21 +111,159 @@ public class ProjectControllerTest {
         .andExpect(jsonPath("$[0].taskIds[0]", is(1)))
         .andExpect(jsonPath("$[1].id", is(2)))
         .andExpect(jsonPath("$[1].name", is("Test Project 2")))
-        .andExpect(jsonPath("$[1].taskIds", hasSize(0)));
+        .andExpect(jsonPath("$[1].taskIds", hasSize(0)))
+        .andExpect(header().doesNotExist(KeysetCursor.NEXT_CURSOR_HEADER));
 
-    // Verify service method was called
-    verify(projectService, times(1)).findAll();
+    // Verify the projects were loaded unpaged
+    verify(projectService, times(1)).findProjectPage(null, null);
   }
 
   @Test
-  void getProjectById_WhenProjectExists_ShouldReturnProject() throws Exception {
+  void getAllProjects_WithCursorOnly_ShouldReturnDefaultPageSize() throws Exception {
+    // Mock service method
+    KeysetCursor cursor = new KeysetCursor(Instant.parse("2025-06-01T10:00:00Z"), 5L);
+    when(projectService.findProjectPage(cursor, ProjectController.DEFAULT_PAGE_SIZE))
+        .thenReturn(
+            new KeysetPage<>(List.of(ProjectDto.fromProject(testProject2, List.of())), null));
+
+    // Perform GET request and validate response
+    mockMvc
+        .perform(get("/projects").param("cursor", cursor.encode()))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", hasSize(1)))
+        .andExpect(header().doesNotExist(KeysetCursor.NEXT_CURSOR_HEADER));
+  }
+
+  @Test
+  void getAllProjects_WhenMoreProjectsExist_ShouldReturnNextCursor() throws Exception {
     // Mock service method
+    KeysetCursor next = new KeysetCursor(Instant.parse("2025-06-01T10:00:00Z"), 1L);
+    when(projectService.findProjectPage(null, 1))
+        .thenReturn(
+            new KeysetPage<>(List.of(ProjectDto.fromProject(testProject1, List.of())), next));
+
+    // Perform GET request and validate response
+    mockMvc
+        .perform(get("/projects").param("limit", "1"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", hasSize(1)))
+        .andExpect(jsonPath("$[0].id", is(1)))
+        .andExpect(header().string(KeysetCursor.NEXT_CURSOR_HEADER, next.encode()));
+  }
+
+  @Test
+  void getAllProjects_WithCursor_ShouldContinueAfterCursor() throws Exception {
+    // Mock service method
+    KeysetCursor cursor = new KeysetCursor(Instant.parse("2025-06-01T10:00:00Z"), 5L);
+    when(projectService.findProjectPage(cursor, ProjectController.MAX_PAGE_SIZE))
+        .thenReturn(
+            new KeysetPage<>(List.of(ProjectDto.fromProject(testProject2, List.of())), null));
+
+    // Perform GET request and validate response
+    mockMvc
+        .perform(get("/projects").param("cursor", cursor.encode()).param("limit", "100000"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", hasSize(1)))
+        .andExpect(jsonPath("$[0].id", is(2)));
+  }
+
+  @Test
+  void getAllProjects_WithMalformedCursor_ShouldReturnBadRequest() throws Exception {
+    mockMvc.perform(get("/projects").param("cursor", "%%%")).andExpect(status().isBadRequest());
+
+    verify(projectService, never()).findProjectPage(any(), any());
+  }
+
+  @Test
+  void getProjectSummaries_ShouldReturnTaskCountsInsteadOfTaskIds() throws Exception {
+    // Mock service method
+    when(projectService.findSummaryPage(null, null))
+        .thenReturn(
+            new KeysetPage<>(
+                List.of(
+                    ProjectSummaryDto.fromProject(
+                        testProject1, Map.of(TaskStatus.OPEN, 3L, TaskStatus.DONE, 1L)),
+                    ProjectSummaryDto.fromProject(testProject2, Map.of())),
+                null));
+
+    // Perform GET request and validate response
+    mockMvc
+        .perform(get("/projects").param("view", "summary"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", hasSize(2)))
+        .andExpect(jsonPath("$[0].id", is(1)))
+        .andExpect(jsonPath("$[0].taskIds").doesNotExist())
+        .andExpect(jsonPath("$[0].taskCounts.OPEN", is(3)))
+        .andExpect(jsonPath("$[0].taskCounts.DONE", is(1)))
+        .andExpect(jsonPath("$[0].taskCounts.BACKLOG", is(0)))
+        .andExpect(jsonPath("$[1].taskCounts.OPEN", is(0)));
+
+    // Verify no task IDs were loaded
+    verify(projectService, never()).findProjectPage(any(), any());
+  }
+
+  @Test
+  void exportProjects_ShouldStreamOneJsonLinePerProject() throws Exception {
+    // Mock service method
+    doAnswer(
+            invocation -> {
+              ExportWriter<ProjectDto> writer = invocation.getArgument(0);
+              writer.write(ProjectDto.fromProject(testProject1, List.of(1L)));
+              writer.write(ProjectDto.fromProject(testProject2, List.of()));
+              return null;
+            })
+        .when(projectService)
+        .export(any());
+
+    // Perform GET request and validate response
+    mockMvc
+        .perform(get("/projects/export"))
+        .andExpect(status().isOk())
+        .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+        .andExpect(header().string("Content-Disposition", containsString("projects.ndjson")))
+        .andExpect(
+            content()
+                .string(
+                    allOf(
+                        startsWith("{\"id\":1,\"name\":\"Test Project 1\""),
+                        containsString("}\n{\"id\":2,"))));
+  }
+
+  @Test
+  void exportProjects_AsCsv_ShouldWriteHeaderAndRows() throws Exception {
+    // Mock service method
+    doAnswer(
+            invocation -> {
+              ExportWriter<ProjectDto> writer = invocation.getArgument(0);
+              writer.write(ProjectDto.fromProject(testProject1, List.of(1L, 2L)));
+              return null;
+            })
+        .when(projectService)
+        .export(any());
+
+    // Perform GET request and validate response
+    mockMvc
+        .perform(get("/projects/export").param("format", "CSV"))
+        .andExpect(status().isOk())
+        .andExpect(
+            content()
+                .string(
+                    "id,name,color,createdAt,updatedAt,taskIds\r\n"
+                        + "1,Test Project 1,#3070B3,,,\"1\n2\"\r\n"));
+  }
+
+  @Test
+  void getProjectById_WhenProjectExists_ShouldReturnProject() throws Exception {
+    // Mock service methods
+    when(projectService.findETag(1L)).thenReturn(Optional.of("\"1-0-1-0\""));
     when(projectService.findById(1L)).thenReturn(Optional.of(testProject1));
+    when(projectService.findTaskIds(1L)).thenReturn(List.of(1L));
 
     // Perform GET request and validate response
     mockMvc
         .perform(get("/projects/1"))
         .andExpect(status().isOk())
+        .andExpect(header().string("ETag", "\"1-0-1-0\""))
         .andExpect(jsonPath("$.id", is(1)))
         .andExpect(jsonPath("$.name", is("Test Project 1")))
         .andExpect(jsonPath("$.taskIds", hasSize(1)))
@@ -118,13 +276,87 @@ public class ProjectControllerTest {
   @Test
   void getProjectById_WhenProjectDoesNotExist_ShouldReturnNotFound() throws Exception {
     // Mock service method
-    when(projectService.findById(99L)).thenReturn(Optional.empty());
+    when(projectService.findETag(99L)).thenReturn(Optional.empty());
 
     // Perform GET request and validate response
     mockMvc.perform(get("/projects/99")).andExpect(status().isNotFound());
 
-    // Verify service method was called
-    verify(projectService, times(1)).findById(99L);
+    // Verify the project was never loaded
+    verify(projectService, never()).findById(99L);
+  }
+
+  @Test
+  void getProjectById_WhenETagMatches_ShouldReturnNotModified() throws Exception {
+    // Mock service method
+    when(projectService.findETag(1L)).thenReturn(Optional.of("\"1-0-1-0\""));
+
+    // Perform GET request and validate response
+    mockMvc
+        .perform(get("/projects/1").header("If-None-Match", "\"1-0-1-0\""))
+        .andExpect(status().isNotModified())
+        .andExpect(content().string(""));
+
+    // Verify the project was never loaded
+    verify(projectService, never()).findById(anyLong());
+  }
+
+  @Test
+  void getAllProjects_WhenETagMatches_ShouldReturnNotModified() throws Exception {
+    // Mock service method
+    when(projectService.listETag()).thenReturn("\"2-0-3-0\"");
+
+    // Perform GET request and validate response
+    mockMvc
+        .perform(get("/projects").header("If-None-Match", "\"2-0-3-0\""))
+        .andExpect(status().isNotModified());
+
+    // Verify no projects were loaded
+    verify(projectService, never()).findProjectPage(any(), any());
+  }
+
+  @Test
+  void getBoard_WhenProjectExists_ShouldReturnBoard() throws Exception {
+    // Mock service method
+    testTaskWithOpenStatus.setCommentCount(1);
+    TaskDto openTask = TaskDto.fromTask(testTaskWithOpenStatus, List.of("spec.pdf"));
+    when(projectService.findBoardETag(1L)).thenReturn(Optional.of("\"1-0-1-0-0\""));
+    when(projectService.getBoard(1L))
+        .thenReturn(ProjectBoardDto.fromProject(testProject1, List.of(openTask), List.of()));
+
+    // Perform GET request and validate response
+    mockMvc
+        .perform(get("/projects/1/board"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.id", is(1)))
+        .andExpect(jsonPath("$.columns.OPEN", hasSize(1)))
+        .andExpect(jsonPath("$.columns.OPEN[0].attachments[0]", is("spec.pdf")))
+        .andExpect(jsonPath("$.columns.OPEN[0].commentCount", is(1)))
+        .andExpect(jsonPath("$.columns.DONE", hasSize(0)))
+        .andExpect(jsonPath("$.counts.OPEN", is(1)))
+        .andExpect(jsonPath("$.assignees", hasSize(0)));
+  }
+
+  @Test
+  void getBoard_WhenProjectDoesNotExist_ShouldReturnNotFound() throws Exception {
+    // Mock service method
+    when(projectService.findBoardETag(99L)).thenReturn(Optional.empty());
+
+    // Perform GET request and validate response
+    mockMvc.perform(get("/projects/99/board")).andExpect(status().isNotFound());
+  }
+
+  @Test
+  void getBoard_WhenETagMatches_ShouldReturnNotModified() throws Exception {
+    // Mock service method
+    when(projectService.findBoardETag(1L)).thenReturn(Optional.of("\"1-0-1-0-0\""));
+
+    // Perform GET request and validate response
+    mockMvc
+        .perform(get("/projects/1/board").header("If-None-Match", "\"1-0-1-0-0\""))
+        .andExpect(status().isNotModified());
+
+    // Verify the board was never built
+    verify(projectService, never()).getBoard(anyLong());
   }
 
   @Test
@@ -159,6 +391,7 @@ public class ProjectControllerTest {
     // Mock service methods
     when(projectService.findById(1L)).thenReturn(Optional.of(testProject1));
     when(projectService.save(any(Project.class))).thenReturn(updatedProject);
+    when(projectService.findTaskIds(1L)).thenReturn(List.of());
 
     // Perform PUT request and validate response
     mockMvc
@@ -205,12 +438,12 @@ public class ProjectControllerTest {
 
   @Test
   void addTasks_WhenProjectExists_ShouldReturnCreatedTasks() throws Exception {
-    when(projectService.createTask(
-            eq(1L), eq("Test Task"), eq("Test Description"), eq(TaskStatus.BACKLOG), eq(null)))
-        .thenReturn(testTask);
-    when(projectService.createTask(
-            eq(1L), eq("Test Task"), eq("Test Description"), eq(TaskStatus.OPEN), eq(2L)))
-        .thenReturn(testTaskWithOpenStatus);
+    List<AddTaskDto> addTaskDtos =
+        List.of(
+            new AddTaskDto("Test Task", "Test Description", TaskStatus.BACKLOG, null),
+            new AddTaskDto("Test Task", "Test Description", TaskStatus.OPEN, 2L));
+    when(projectService.createTasks(1L, addTaskDtos))
+        .thenReturn(List.of(testTask, testTaskWithOpenStatus));
 
     // Perform POST request and validate response
     mockMvc
@@ -233,18 +466,15 @@ public class ProjectControllerTest {
         .andExpect(jsonPath("$[1].description", is("Test Description")))
         .andExpect(jsonPath("$[1].taskStatus", is("OPEN")));
 
-    verify(projectService, times(1))
-        .createTask(
-            eq(1L), eq("Test Task"), eq("Test Description"), eq(TaskStatus.BACKLOG), eq(null));
-    verify(projectService, times(1))
-        .createTask(eq(1L), eq("Test Task"), eq("Test Description"), eq(TaskStatus.OPEN), eq(2L));
+    // All tasks are created with a single service call
+    verify(projectService, times(1)).createTasks(1L, addTaskDtos);
   }
 
   @Test
   void addTasks_WhenAddingSingleTask_ShouldReturnCreatedTask() throws Exception {
-    when(projectService.createTask(
-            eq(1L), eq("Test Task"), eq("Test Description"), eq(TaskStatus.BACKLOG), eq(2L)))
-        .thenReturn(testTask);
+    List<AddTaskDto> addTaskDtos =
+        List.of(new AddTaskDto("Test Task", "Test Description", TaskStatus.BACKLOG, 2L));
+    when(projectService.createTasks(1L, addTaskDtos)).thenReturn(List.of(testTask));
 
     mockMvc
         .perform(
@@ -261,8 +491,35 @@ public class ProjectControllerTest {
         .andExpect(jsonPath("$[0].description", is("Test Description")))
         .andExpect(jsonPath("$[0].taskStatus", is("BACKLOG")));
 
-    verify(projectService, times(1))
-        .createTask(
-            eq(1L), eq("Test Task"), eq("Test Description"), eq(TaskStatus.BACKLOG), eq(2L));
+    verify(projectService, times(1)).createTasks(1L, addTaskDtos);
+  }
+
+  @Test
+  void addTasks_WhenProjectDoesNotExist_ShouldReturnNotFound() throws Exception {
+    when(projectService.createTasks(eq(99L), anyList()))
+        .thenThrow(new ProjectNotFoundException("No such project"));
+
+    mockMvc
+        .perform(
+            post("/projects/99/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"title\":\"Test Task\",\"description\":\"Test Description\"}]"))
+        .andExpect(status().isNotFound());
+  }
+
+  @Test
+  void addTasks_WithTooManyTasks_ShouldReturnBadRequest() throws Exception {
+    String tasks =
+        String.join(
+            ",", Collections.nCopies(ProjectController.MAX_BULK_SIZE + 1, "{\"title\":\"Task\"}"));
+
+    mockMvc
+        .perform(
+            post("/projects/1/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[" + tasks + "]"))
+        .andExpect(status().isBadRequest());
+
+    verify(projectService, never()).createTasks(anyLong(), anyList());
   }
 }
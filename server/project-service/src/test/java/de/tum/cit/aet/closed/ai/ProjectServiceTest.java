@@ -1,34 +1,61 @@
 package de.tum.cit.aet.closed.ai;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 import de.tum.cit.aet.closed.ai.client.UserServiceClient;
+import de.tum.cit.aet.closed.ai.dto.AddTaskDto;
+import de.tum.cit.aet.closed.ai.dto.ProjectBoardDto;
+import de.tum.cit.aet.closed.ai.dto.ProjectDto;
+import de.tum.cit.aet.closed.ai.dto.ProjectSummaryDto;
+import de.tum.cit.aet.closed.ai.dto.TaskDto;
+import de.tum.cit.aet.closed.ai.dto.TaskElement;
+import de.tum.cit.aet.closed.ai.dto.UserDto;
+import de.tum.cit.aet.closed.ai.etag.Fingerprint;
+import de.tum.cit.aet.closed.ai.event.ProjectChangedEvent;
 import de.tum.cit.aet.closed.ai.exception.ProjectNotFoundException;
+import de.tum.cit.aet.closed.ai.export.ExportWriter;
 import de.tum.cit.aet.closed.ai.metrics.ProjectMetrics;
 import de.tum.cit.aet.closed.ai.model.Project;
 import de.tum.cit.aet.closed.ai.model.Task;
 import de.tum.cit.aet.closed.ai.model.TaskStatus;
 import de.tum.cit.aet.closed.ai.model.User;
+import de.tum.cit.aet.closed.ai.pagination.KeysetCursor;
+import de.tum.cit.aet.closed.ai.pagination.KeysetPage;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
 @ExtendWith(MockitoExtension.class)
 public class ProjectServiceTest {
 
   @Mock private ProjectRepository projectRepository;
 
+  @Mock private ProjectTaskRepository projectTaskRepository;
+
   @Mock private UserServiceClient userServiceClient;
 
   @Mock private ProjectMetrics projectMetrics;
 
+  @Mock private EntityManager entityManager;
+
+  @Mock private ApplicationEventPublisher eventPublisher;
+
   @InjectMocks private ProjectService projectService;
 
   private Project testProject1;
@@ -67,17 +94,16 @@ public class ProjectServiceTest {
   }
 
   @Test
-  void findAll_ShouldReturnAllProjects() {
+  void findAll_ShouldReturnAllProjectsUnpaged() {
     // Arrange
     List<Project> expectedProjects = Arrays.asList(testProject1, testProject2);
-    when(projectRepository.findAll()).thenReturn(expectedProjects);
+    when(projectRepository.findPage(null, null, Pageable.unpaged())).thenReturn(expectedProjects);
 
     // Act
     List<Project> actualProjects = projectService.findAll();
 
     // Assert
     assertEquals(expectedProjects, actualProjects);
-    verify(projectRepository).findAll();
   }
 
   @Test
@@ -94,6 +120,318 @@ public class ProjectServiceTest {
     verify(projectRepository).findById(1L);
   }
 
+  @Test
+  void findTaskIds_ShouldUseProjectionQuery() {
+    // Arrange
+    when(projectRepository.findTaskIdsByProjectId(1L)).thenReturn(List.of(1L, 2L));
+
+    // Act
+    List<Long> taskIds = projectService.findTaskIds(1L);
+
+    // Assert
+    assertEquals(List.of(1L, 2L), taskIds);
+  }
+
+  @Test
+  void findTaskIdsByProject_ShouldGroupProjectionRowsByProject() {
+    // Arrange
+    when(projectRepository.findTaskIdsByProjectIds(List.of(1L, 2L, 3L)))
+        .thenReturn(List.of(taskId(1L, 10L), taskId(2L, 20L), taskId(1L, 11L)));
+
+    // Act
+    Map<Long, List<Long>> taskIds = projectService.findTaskIdsByProject(List.of(1L, 2L, 3L));
+
+    // Assert
+    assertEquals(List.of(10L, 11L), taskIds.get(1L));
+    assertEquals(List.of(20L), taskIds.get(2L));
+    assertFalse(taskIds.containsKey(3L));
+  }
+
+  @Test
+  void findTaskIdsByProject_WithNoProjects_ShouldNotQuery() {
+    // Act
+    Map<Long, List<Long>> taskIds = projectService.findTaskIdsByProject(List.of());
+
+    // Assert
+    assertTrue(taskIds.isEmpty());
+    verifyNoInteractions(projectRepository);
+  }
+
+  @Test
+  void findPage_WithCursor_ShouldQueryAfterCursor() {
+    // Arrange
+    KeysetCursor cursor = new KeysetCursor(Instant.parse("2025-06-01T10:00:00Z"), 5L);
+    when(projectRepository.findPage(cursor.timestamp(), 5L, PageRequest.of(0, 11)))
+        .thenReturn(List.of(testProject1));
+
+    // Act
+    List<Project> result = projectService.findPage(cursor, 11);
+
+    // Assert
+    assertEquals(List.of(testProject1), result);
+  }
+
+  @Test
+  void findPage_WithoutCursor_ShouldStartAtNewestProject() {
+    // Arrange
+    when(projectRepository.findPage(null, null, PageRequest.of(0, 11))).thenReturn(List.of());
+
+    // Act
+    List<Project> result = projectService.findPage(null, 11);
+
+    // Assert
+    assertTrue(result.isEmpty());
+  }
+
+  @Test
+  void findProjectPage_WithoutPageSize_ShouldReturnAllProjectsWithTaskIds() {
+    // Arrange
+    when(projectRepository.findPage(null, null, Pageable.unpaged()))
+        .thenReturn(List.of(testProject1, testProject2));
+    when(projectRepository.findTaskIdsByProjectIds(List.of(1L, 2L)))
+        .thenReturn(List.of(taskId(1L, 10L)));
+
+    // Act
+    KeysetPage<ProjectDto> page = projectService.findProjectPage(null, null);
+
+    // Assert
+    assertEquals(List.of(1L, 2L), page.items().stream().map(ProjectDto::id).toList());
+    assertEquals(List.of(10L), page.items().get(0).taskIds());
+    assertEquals(List.of(), page.items().get(1).taskIds());
+    assertNull(page.nextCursor());
+  }
+
+  @Test
+  void findProjectPage_WhenMoreProjectsExist_ShouldReturnNextCursor() {
+    // Arrange
+    Instant updatedAt = Instant.parse("2025-06-01T10:00:00Z");
+    testProject1.setUpdatedAt(updatedAt);
+    when(projectRepository.findPage(null, null, PageRequest.of(0, 2)))
+        .thenReturn(List.of(testProject1, testProject2));
+    when(projectRepository.findTaskIdsByProjectIds(List.of(1L))).thenReturn(List.of());
+
+    // Act
+    KeysetPage<ProjectDto> page = projectService.findProjectPage(null, 1);
+
+    // Assert
+    assertEquals(List.of(1L), page.items().stream().map(ProjectDto::id).toList());
+    assertEquals(new KeysetCursor(updatedAt, 1L), page.nextCursor());
+  }
+
+  @Test
+  void findSummaryPage_ShouldCountTasksOfListedProjectsOnly() {
+    // Arrange
+    KeysetCursor cursor = new KeysetCursor(Instant.parse("2025-06-01T10:00:00Z"), 5L);
+    when(projectRepository.findPage(cursor.timestamp(), 5L, PageRequest.of(0, 11)))
+        .thenReturn(List.of(testProject2));
+    when(projectRepository.countTasksByProjectAndStatus(List.of(2L)))
+        .thenReturn(List.of(statusCount(2L, TaskStatus.BACKLOG, 2L)));
+
+    // Act
+    KeysetPage<ProjectSummaryDto> page = projectService.findSummaryPage(cursor, 10);
+
+    // Assert
+    assertEquals(1, page.items().size());
+    assertEquals(2L, page.items().get(0).taskCounts().get(TaskStatus.BACKLOG).longValue());
+    assertNull(page.nextCursor());
+    verify(projectRepository, never()).findTaskIdsByProjectIds(anyList());
+  }
+
+  @Test
+  void countTasksByStatus_ShouldGroupCountsByProject() {
+    // Arrange
+    when(projectRepository.countTasksByProjectAndStatus(List.of(1L, 2L)))
+        .thenReturn(
+            List.of(
+                statusCount(1L, TaskStatus.OPEN, 3L),
+                statusCount(1L, TaskStatus.DONE, 1L),
+                statusCount(2L, TaskStatus.BACKLOG, 2L)));
+
+    // Act
+    Map<Long, Map<TaskStatus, Long>> counts = projectService.countTasksByStatus(List.of(1L, 2L));
+
+    // Assert
+    assertEquals(Map.of(TaskStatus.OPEN, 3L, TaskStatus.DONE, 1L), counts.get(1L));
+    assertEquals(Map.of(TaskStatus.BACKLOG, 2L), counts.get(2L));
+  }
+
+  @Test
+  void countTasksByStatus_WithNoProjects_ShouldNotQuery() {
+    // Act
+    Map<Long, Map<TaskStatus, Long>> counts = projectService.countTasksByStatus(List.of());
+
+    // Assert
+    assertTrue(counts.isEmpty());
+    verifyNoInteractions(projectRepository);
+  }
+
+  @Test
+  void getBoard_ShouldGroupTasksAndAttachCollectionsWithoutServiceCalls() {
+    // Arrange
+    Task doneTask = new Task();
+    doneTask.setId(2L);
+    doneTask.setStatus(TaskStatus.DONE);
+    doneTask.setAssignee(testUser);
+    when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject1));
+    when(projectTaskRepository.findBoardTasks(1L)).thenReturn(List.of(doneTask, testTask));
+    when(projectTaskRepository.findAttachmentsByProjectId(1L))
+        .thenReturn(List.of(element(2L, "spec.pdf")));
+
+    // Act
+    ProjectBoardDto board = projectService.getBoard(1L);
+
+    // Assert
+    assertEquals(1L, board.id());
+    assertEquals(1L, board.counts().get(TaskStatus.OPEN));
+    assertEquals(1L, board.counts().get(TaskStatus.DONE));
+    assertEquals(0L, board.counts().get(TaskStatus.BACKLOG));
+    TaskDto openTask = board.columns().get(TaskStatus.OPEN).getFirst();
+    assertTrue(openTask.comments().isEmpty());
+    assertTrue(openTask.attachments().isEmpty());
+    assertEquals(
+        List.of("spec.pdf"), board.columns().get(TaskStatus.DONE).getFirst().attachments());
+    assertEquals(List.of(1L), board.assignees().stream().map(UserDto::id).toList());
+    verifyNoInteractions(userServiceClient);
+  }
+
+  @Test
+  void getBoard_WhenProjectDoesNotExist_ShouldThrowException() {
+    // Arrange
+    when(projectRepository.findById(99L)).thenReturn(Optional.empty());
+
+    // Act & Assert
+    assertThrows(ProjectNotFoundException.class, () -> projectService.getBoard(99L));
+    verifyNoInteractions(projectTaskRepository);
+  }
+
+  @Test
+  void findETag_ShouldCoverProjectRowAndItsTasks() {
+    // Arrange
+    Instant updatedAt = Instant.parse("2025-06-01T10:00:00Z");
+    when(projectRepository.findUpdatedAtById(1L)).thenReturn(Optional.of(updatedAt));
+    when(projectTaskRepository.fingerprint(1L)).thenReturn(fingerprint(3L, updatedAt));
+
+    // Act
+    Optional<String> etag = projectService.findETag(1L);
+
+    // Assert
+    assertEquals(Optional.of("\"1-1748772000000000-3-1748772000000000\""), etag);
+    verify(projectRepository, never()).findById(anyLong());
+  }
+
+  @Test
+  void findETag_WhenProjectDoesNotExist_ShouldReturnEmpty() {
+    // Arrange
+    when(projectRepository.findUpdatedAtById(99L)).thenReturn(Optional.empty());
+
+    // Act & Assert
+    assertTrue(projectService.findETag(99L).isEmpty());
+    verifyNoInteractions(projectTaskRepository);
+  }
+
+  @Test
+  void listETag_ShouldCombineProjectAndTaskFingerprints() {
+    // Arrange
+    when(projectRepository.fingerprint()).thenReturn(fingerprint(2L, null));
+    when(projectTaskRepository.fingerprint(null)).thenReturn(fingerprint(0L, null));
+
+    // Act
+    String etag = projectService.listETag();
+
+    // Assert
+    assertEquals("\"2-0-0-0\"", etag);
+  }
+
+  private static Fingerprint fingerprint(Long rowCount, Instant lastModified) {
+    return new Fingerprint() {
+      @Override
+      public Long getRowCount() {
+        return rowCount;
+      }
+
+      @Override
+      public Instant getLastModified() {
+        return lastModified;
+      }
+    };
+  }
+
+  private static TaskElement element(Long taskId, String content) {
+    return new TaskElement() {
+      @Override
+      public Long getTaskId() {
+        return taskId;
+      }
+
+      @Override
+      public String getContent() {
+        return content;
+      }
+    };
+  }
+
+  @Test
+  void export_ShouldMergeTaskIdsAndDetachEachProject() throws Exception {
+    // Arrange
+    when(projectRepository.streamAll()).thenReturn(Stream.of(testProject1, testProject2));
+    when(projectRepository.streamAllTaskIds())
+        .thenReturn(Stream.of(taskId(1L, 10L), taskId(1L, 11L)));
+    List<ProjectDto> exported = new ArrayList<>();
+
+    // Act
+    projectService.export(
+        new ExportWriter<>() {
+          @Override
+          public void write(ProjectDto item) {
+            exported.add(item);
+          }
+
+          @Override
+          public void close() {}
+        });
+
+    // Assert
+    assertEquals(2, exported.size());
+    assertEquals(List.of(10L, 11L), exported.get(0).taskIds());
+    assertTrue(exported.get(1).taskIds().isEmpty());
+    verify(entityManager).detach(testProject1);
+    verify(entityManager).detach(testProject2);
+  }
+
+  private static ProjectRepository.ProjectStatusCount statusCount(
+      Long projectId, TaskStatus status, Long taskCount) {
+    return new ProjectRepository.ProjectStatusCount() {
+      @Override
+      public Long getProjectId() {
+        return projectId;
+      }
+
+      @Override
+      public TaskStatus getStatus() {
+        return status;
+      }
+
+      @Override
+      public Long getTaskCount() {
+        return taskCount;
+      }
+    };
+  }
+
+  private static ProjectRepository.ProjectTaskId taskId(Long projectId, Long taskId) {
+    return new ProjectRepository.ProjectTaskId() {
+      @Override
+      public Long getProjectId() {
+        return projectId;
+      }
+
+      @Override
+      public Long getTaskId() {
+        return taskId;
+      }
+    };
+  }
+
   @Test
   void save_ShouldSaveAndReturnProject() {
     // Arrange
@@ -105,6 +443,7 @@ public class ProjectServiceTest {
     // Assert
     assertEquals(testProject1, savedProject);
     verify(projectRepository).save(testProject1);
+    verify(eventPublisher).publishEvent(new ProjectChangedEvent(testProject1.getId()));
   }
 
   @Test
@@ -119,6 +458,7 @@ public class ProjectServiceTest {
     verify(projectRepository).findById(1L);
     verify(projectRepository).deleteById(1L);
     verify(projectMetrics).incrementProjectsDeleted();
+    verify(eventPublisher).publishEvent(new ProjectChangedEvent(1L));
   }
 
   @Test
@@ -131,6 +471,7 @@ public class ProjectServiceTest {
     verify(projectRepository).findById(99L);
     verify(projectRepository, never()).deleteById(anyLong());
     verify(projectMetrics, never()).incrementProjectsDeleted();
+    verify(eventPublisher, never()).publishEvent(any(Object.class));
   }
 
   @Test
@@ -155,123 +496,64 @@ public class ProjectServiceTest {
   }
 
   @Test
-  void createTask_WhenProjectExistsAndNoAssignee_ShouldCreateTask() {
+  void createTasks_ShouldResolveAssigneesOnceAndSaveAllTasksTogether() {
     // Arrange
-    String taskTitle = "New Task";
-    String taskDesc = "New Description";
-    TaskStatus taskStatus = TaskStatus.OPEN;
-
-    Project projectWithTask = new Project();
-    projectWithTask.setId(1L);
-    projectWithTask.setName("Test Project");
-    projectWithTask.createTask(taskTitle, taskDesc, taskStatus);
-
-    when(projectRepository.findById(1L))
-        .thenReturn(Optional.of(testProject1))
-        .thenReturn(Optional.of(projectWithTask));
+    List<AddTaskDto> addTaskDtos =
+        List.of(
+            new AddTaskDto("Task A", "Desc A", TaskStatus.OPEN, 1L),
+            new AddTaskDto("Task B", "Desc B", null, 1L),
+            new AddTaskDto("Task C", "Desc C", TaskStatus.DONE, 99L),
+            new AddTaskDto("Task D", "Desc D", TaskStatus.DONE, null));
+    when(projectRepository.existsById(1L)).thenReturn(true);
+    when(projectRepository.getReferenceById(1L)).thenReturn(testProject1);
+    when(userServiceClient.findAllByIds(anyList()))
+        .thenReturn(Map.of(1L, new UserDto(1L, "Test User", null, null, null)));
+    when(projectTaskRepository.saveAll(anyList()))
+        .thenAnswer(invocation -> invocation.getArgument(0));
 
     // Act
-    Task createdTask = projectService.createTask(1L, taskTitle, taskDesc, taskStatus, null);
+    List<Task> createdTasks = projectService.createTasks(1L, addTaskDtos);
 
     // Assert
-    assertNotNull(createdTask);
-    assertEquals(taskTitle, createdTask.getTitle());
-    assertEquals(taskDesc, createdTask.getDescription());
-    assertEquals(taskStatus, createdTask.getStatus());
-    verify(projectRepository, times(2)).findById(1L);
-    verify(projectMetrics).incrementTasksCreated();
+    assertEquals(4, createdTasks.size());
+    assertEquals("Task A", createdTasks.get(0).getTitle());
+    assertEquals(TaskStatus.BACKLOG, createdTasks.get(1).getStatus());
+    assertEquals(1L, createdTasks.get(0).getAssignee().getId());
+    assertEquals(1L, createdTasks.get(1).getAssignee().getId());
+    assertNull(createdTasks.get(2).getAssignee());
+    assertNull(createdTasks.get(3).getAssignee());
+    createdTasks.forEach(task -> assertEquals(testProject1, task.getProject()));
+
+    verify(projectRepository, never()).findById(anyLong());
+    verify(userServiceClient, times(1)).findAllByIds(anyList());
     verify(userServiceClient, never()).findById(anyLong());
+    verify(projectTaskRepository, times(1)).saveAll(anyList());
+    verify(projectMetrics).incrementTasksCreated(4);
   }
 
   @Test
-  void createTask_WhenProjectExistsAndAssigneeExists_ShouldCreateTaskWithAssignee() {
-    // Arrange
-    String taskTitle = "New Task";
-    String taskDesc = "New Description";
-    TaskStatus taskStatus = TaskStatus.OPEN;
-    Long assigneeId = 1L;
-
-    Project projectWithTask = new Project();
-    projectWithTask.setId(1L);
-    projectWithTask.setName("Test Project");
-    Task newTask = projectWithTask.createTask(taskTitle, taskDesc, taskStatus);
-    newTask.setAssignee(testUser);
-
-    when(projectRepository.findById(1L))
-        .thenReturn(Optional.of(testProject1))
-        .thenReturn(Optional.of(projectWithTask));
-
-    when(userServiceClient.findById(assigneeId))
-        .thenReturn(
-            Optional.of(
-                new de.tum.cit.aet.closed.ai.dto.UserDto(
-                    testUser.getId(),
-                    testUser.getName(),
-                    testUser.getProfilePicture(),
-                    null,
-                    null)));
-
-    // Act
-    Task createdTask = projectService.createTask(1L, taskTitle, taskDesc, taskStatus, assigneeId);
-
-    // Assert
-    assertNotNull(createdTask);
-    assertEquals(taskTitle, createdTask.getTitle());
-    assertEquals(taskDesc, createdTask.getDescription());
-    assertEquals(taskStatus, createdTask.getStatus());
-    assertNotNull(createdTask.getAssignee());
-    assertEquals(assigneeId, createdTask.getAssignee().getId());
-    verify(projectRepository, times(2)).findById(1L);
-    verify(projectMetrics).incrementTasksCreated();
-    verify(userServiceClient).findById(assigneeId);
-  }
-
-  @Test
-  void createTask_WhenProjectDoesNotExist_ShouldThrowException() {
+  void createTasks_WhenProjectDoesNotExist_ShouldThrowException() {
     // Arrange
-    String taskTitle = "New Task";
-    String taskDesc = "New Description";
-    TaskStatus taskStatus = TaskStatus.OPEN;
-    when(projectRepository.findById(99L)).thenReturn(Optional.empty());
+    when(projectRepository.existsById(99L)).thenReturn(false);
+    List<AddTaskDto> addTaskDtos = List.of(new AddTaskDto("Task", "Desc", TaskStatus.OPEN, null));
 
     // Act & Assert
     assertThrows(
-        ProjectNotFoundException.class,
-        () -> projectService.createTask(99L, taskTitle, taskDesc, taskStatus, null));
-    verify(projectRepository).findById(99L);
-    verify(projectMetrics, never()).incrementTasksCreated();
+        ProjectNotFoundException.class, () -> projectService.createTasks(99L, addTaskDtos));
+    verify(projectTaskRepository, never()).saveAll(anyList());
+    verify(projectMetrics, never()).incrementTasksCreated(anyInt());
   }
 
   @Test
-  void createTask_WhenAssigneeDoesNotExist_ShouldCreateTaskWithoutAssignee() {
+  void createTasks_WithNoTasks_ShouldNotCallUserService() {
     // Arrange
-    String taskTitle = "New Task";
-    String taskDesc = "New Description";
-    TaskStatus taskStatus = TaskStatus.OPEN;
-    Long assigneeId = 99L;
-
-    Project projectWithTask = new Project();
-    projectWithTask.setId(1L);
-    projectWithTask.setName("Test Project");
-    projectWithTask.createTask(taskTitle, taskDesc, taskStatus);
-
-    when(projectRepository.findById(1L))
-        .thenReturn(Optional.of(testProject1))
-        .thenReturn(Optional.of(projectWithTask));
-
-    when(userServiceClient.findById(assigneeId)).thenReturn(Optional.empty());
+    when(projectRepository.existsById(1L)).thenReturn(true);
 
     // Act
-    Task createdTask = projectService.createTask(1L, taskTitle, taskDesc, taskStatus, assigneeId);
+    List<Task> createdTasks = projectService.createTasks(1L, List.of());
 
     // Assert
-    assertNotNull(createdTask);
-    assertEquals(taskTitle, createdTask.getTitle());
-    assertEquals(taskDesc, createdTask.getDescription());
-    assertEquals(taskStatus, createdTask.getStatus());
-    assertNull(createdTask.getAssignee());
-    verify(projectRepository, times(2)).findById(1L);
-    verify(projectMetrics).incrementTasksCreated();
-    verify(userServiceClient).findById(assigneeId);
+    assertTrue(createdTasks.isEmpty());
+    verifyNoInteractions(userServiceClient, projectTaskRepository);
   }
 }
@@ -0,0 +1,92 @@
+package de.tum.cit.aet.closed.ai;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.tum.cit.aet.closed.ai.model.Project;
+import de.tum.cit.aet.closed.ai.model.Task;
+import de.tum.cit.aet.closed.ai.model.TaskStatus;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+/**
+ * Compares task inserts without JDBC batching (one statement per row, like the former IDENTITY
+ * IDs) against batches of 50 as configured in application-shared.properties. Logs the
+ * throughput of both runs, which depends on the machine, and checks only the statement reduction.
+ */
+@DataJpaTest(
+    properties = {
+      "spring.jpa.properties.hibernate.generate_statistics=true",
+      "spring.jpa.properties.hibernate.order_inserts=true"
+    })
+class TaskInsertBenchmarkTest {
+
+  private static final Logger log = LoggerFactory.getLogger(TaskInsertBenchmarkTest.class);
+
+  private static final int TASK_COUNT = 2_000;
+
+  @Autowired private EntityManager entityManager;
+
+  @Test
+  void batchedInserts_ShouldNeedFarFewerStatements() {
+    // warm up so that the first run does not pay for class loading and JIT
+    insertTasks(1, 200);
+    insertTasks(50, 200);
+
+    InsertRun unbatched = insertTasks(1, TASK_COUNT);
+    InsertRun batched = insertTasks(50, TASK_COUNT);
+
+    log.info(
+        "Inserted {} tasks: unbatched {} statements, {} tasks/s; batched {} statements, {} tasks/s",
+        TASK_COUNT,
+        unbatched.statements(),
+        Math.round(unbatched.tasksPerSecond()),
+        batched.statements(),
+        Math.round(batched.tasksPerSecond()));
+
+    assertEquals(TASK_COUNT, unbatched.inserts());
+    assertEquals(TASK_COUNT, batched.inserts());
+    assertTrue(
+        batched.statements() * 10 < unbatched.statements(),
+        "Batching should cut the number of JDBC statements by more than an order of magnitude");
+  }
+
+  private InsertRun insertTasks(int batchSize, int count) {
+    Session session = entityManager.unwrap(Session.class);
+    Statistics statistics = session.getSessionFactory().getStatistics();
+    session.setJdbcBatchSize(batchSize);
+
+    Project project = new Project();
+    project.setName("Benchmark");
+    project.setColor("#000000");
+    entityManager.persist(project);
+    entityManager.flush();
+    statistics.clear();
+
+    long start = System.nanoTime();
+    for (int i = 0; i < count; i++) {
+      Task task = new Task();
+      task.setTitle("Task " + i);
+      task.setDescription("Benchmark task " + i);
+      task.setStatus(TaskStatus.OPEN);
+      task.setProject(project);
+      entityManager.persist(task);
+    }
+    entityManager.flush();
+    long elapsed = System.nanoTime() - start;
+    entityManager.clear();
+
+    return new InsertRun(
+        statistics.getEntityInsertCount(),
+        statistics.getPrepareStatementCount(),
+        count / (elapsed / 1_000_000_000.0));
+  }
+
+  private record InsertRun(long inserts, long statements, double tasksPerSecond) {}
+}
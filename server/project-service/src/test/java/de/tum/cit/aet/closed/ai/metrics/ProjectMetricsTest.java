@@ -49,6 +49,16 @@ public class ProjectMetricsTest {
     assertEquals(1.0, counter.count());
   }
 
+  @Test
+  public void testIncrementTasksCreatedByCount() {
+    // Arrange & Act
+    projectMetrics.incrementTasksCreated(50);
+
+    // Assert
+    Counter counter = registry.find("tasks_created_total").counter();
+    assertEquals(50.0, counter.count());
+  }
+
   @Test
   public void testMultipleIncrements() {
     // Arrange & Act
@@ -0,0 +1,113 @@
+package de.tum.cit.aet.closed.ai;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Runs remote calls concurrently with the work of the request that needs them, so that a call to
+ * another service and a local query overlap instead of adding up.
+ *
+ * <p>At most {@code max-concurrency} calls run on their own virtual threads at a time; beyond that
+ * a call runs on the caller's thread as soon as it is started, which falls back to sequential
+ * execution instead of failing. A started call is used within a try-with-resources block: {@link
+ * Pending#join} waits until the deadline given by {@code timeout}, and closing the block cancels
+ * and interrupts a call that is still running, so no call outlives its request.
+ */
+@Component
+public class ConcurrentCalls implements DisposableBean {
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+  private final Semaphore permits;
+  private final Duration timeout;
+
+  public ConcurrentCalls(
+      @Value("${task-service.concurrent-calls.max-concurrency:256}") int maxConcurrency,
+      @Value("${task-service.concurrent-calls.timeout:5s}") Duration timeout) {
+    this.permits = new Semaphore(maxConcurrency);
+    this.timeout = timeout;
+  }
+
+  public <T> Pending<T> start(Callable<T> call) {
+    long deadline = System.nanoTime() + timeout.toNanos();
+    FutureTask<T> task = new FutureTask<>(call);
+    if (!permits.tryAcquire()) {
+      task.run();
+      return new Pending<>(task, deadline);
+    }
+    try {
+      executor.execute(
+          () -> {
+            try {
+              task.run();
+            } finally {
+              permits.release();
+            }
+          });
+    } catch (RejectedExecutionException e) {
+      permits.release();
+      task.run();
+    }
+    return new Pending<>(task, deadline);
+  }
+
+  @Override
+  public void destroy() {
+    executor.shutdownNow();
+  }
+
+  /** A started call; see {@link ConcurrentCalls}. */
+  public static final class Pending<T> implements AutoCloseable {
+    private final Future<T> future;
+    private final long deadline;
+
+    private Pending(Future<T> future, long deadline) {
+      this.future = future;
+      this.deadline = deadline;
+    }
+
+    /**
+     * The call's result. Its exceptions are rethrown unchanged; a call still running at the
+     * deadline is cancelled and reported as 504 Gateway Timeout.
+     */
+    public T join() {
+      try {
+        return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+      } catch (TimeoutException e) {
+        future.cancel(true);
+        throw new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT, "Remote call timed out", e);
+      } catch (InterruptedException e) {
+        future.cancel(true);
+        Thread.currentThread().interrupt();
+        throw new ResponseStatusException(
+            HttpStatus.SERVICE_UNAVAILABLE, "Interrupted while waiting for a remote call", e);
+      } catch (ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException runtimeException) {
+          throw runtimeException;
+        }
+        if (e.getCause() instanceof Error error) {
+          throw error;
+        }
+        throw new IllegalStateException(e.getCause());
+      }
+    }
+
+    /** Cancels the call if it is still running, e.g. because the caller failed before joining. */
+    @Override
+    public void close() {
+      future.cancel(true);
+    }
+  }
+}
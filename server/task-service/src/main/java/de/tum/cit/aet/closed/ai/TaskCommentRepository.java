@@ -0,0 +1,27 @@
+package de.tum.cit.aet.closed.ai;
+
+import de.tum.cit.aet.closed.ai.model.TaskComment;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+public interface TaskCommentRepository extends JpaRepository<TaskComment, Long> {
+
+  /**
+   * Keyset page of a task's comments ordered by {@code (createdAt, id)}, oldest first; passing
+   * {@code null} for {@code afterCreatedAt} starts from the first comment. The page size is taken
+   * from {@code pageable}, its sort is ignored.
+   */
+  @Query(
+      """
+      select c from TaskComment c
+      where c.task.id = :taskId
+        and (:afterCreatedAt is null
+          or c.createdAt > :afterCreatedAt
+          or (c.createdAt = :afterCreatedAt and c.id > :afterId))
+      order by c.createdAt, c.id
+      """)
+  List<TaskComment> findPage(Long taskId, Instant afterCreatedAt, Long afterId, Pageable pageable);
+}
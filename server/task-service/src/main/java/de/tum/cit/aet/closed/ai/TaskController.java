@@ -1,22 +1,56 @@
 package de.tum.cit.aet.closed.ai;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.tum.cit.aet.closed.ai.ConcurrentCalls.Pending;
+import de.tum.cit.aet.closed.ai.audit.Timestamps;
 import de.tum.cit.aet.closed.ai.client.ProjectServiceClient;
 import de.tum.cit.aet.closed.ai.client.UserServiceClient;
+import de.tum.cit.aet.closed.ai.dto.BulkStatusUpdateDto;
+import de.tum.cit.aet.closed.ai.dto.BulkStatusUpdateResultDto;
+import de.tum.cit.aet.closed.ai.dto.CommentDto;
+import de.tum.cit.aet.closed.ai.dto.CreateCommentDto;
+import de.tum.cit.aet.closed.ai.dto.ProjectDto;
 import de.tum.cit.aet.closed.ai.dto.TaskDto;
+import de.tum.cit.aet.closed.ai.dto.TaskSearchHitDto;
+import de.tum.cit.aet.closed.ai.dto.UserDto;
+import de.tum.cit.aet.closed.ai.etag.ETags;
+import de.tum.cit.aet.closed.ai.exception.PreconditionFailedException;
 import de.tum.cit.aet.closed.ai.exception.ProjectNotFoundException;
 import de.tum.cit.aet.closed.ai.exception.TaskNotFoundException;
 import de.tum.cit.aet.closed.ai.exception.UserNotFoundException;
+import de.tum.cit.aet.closed.ai.export.CsvWriter;
+import de.tum.cit.aet.closed.ai.export.ExportFormat;
+import de.tum.cit.aet.closed.ai.export.ExportWriter;
 import de.tum.cit.aet.closed.ai.model.Task;
+import de.tum.cit.aet.closed.ai.model.TaskComment;
 import de.tum.cit.aet.closed.ai.model.TaskStatus;
 import de.tum.cit.aet.closed.ai.model.User;
+import de.tum.cit.aet.closed.ai.pagination.KeysetCursor;
+import de.tum.cit.aet.closed.ai.pagination.KeysetPage;
+import de.tum.cit.aet.closed.ai.pagination.RankCursor;
+import de.tum.cit.aet.closed.ai.patch.MergePatch;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Instant;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import lombok.AllArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
 
 @RestController
 @RequestMapping("/tasks")
@@ -26,15 +60,141 @@ import org.springframework.web.bind.annotation.*;
     description =
         "Operations for managing tasks including CRUD operations, status updates, and task filtering")
 public class TaskController {
+  static final int DEFAULT_PAGE_SIZE = 100;
+  static final int MAX_PAGE_SIZE = 500;
+  static final int MAX_BULK_SIZE = 1000;
+  static final int DEFAULT_SEARCH_PAGE_SIZE = 20;
+  static final int MAX_SEARCH_QUERY_LENGTH = 200;
+  static final Set<String> READ_ONLY_FIELDS =
+      Set.of("id", "createdAt", "updatedAt", "comments", "commentCount");
+
+  static final List<CsvWriter.Column<TaskDto>> CSV_COLUMNS =
+      List.of(
+          new CsvWriter.Column<>("id", TaskDto::id),
+          new CsvWriter.Column<>("title", TaskDto::title),
+          new CsvWriter.Column<>("description", TaskDto::description),
+          new CsvWriter.Column<>("status", TaskDto::taskStatus),
+          new CsvWriter.Column<>("createdAt", TaskDto::createdAt),
+          new CsvWriter.Column<>("updatedAt", TaskDto::updatedAt),
+          new CsvWriter.Column<>("assigneeId", TaskDto::assigneeId),
+          new CsvWriter.Column<>("commentCount", TaskDto::commentCount),
+          new CsvWriter.Column<>("attachments", TaskDto::attachments));
+
   private final TaskService taskService;
+  private final TaskSearchService taskSearchService;
   private final UserServiceClient userServiceClient;
   private final ProjectServiceClient projectServiceClient;
+  private final ObjectMapper objectMapper;
+  private final ConcurrentCalls concurrentCalls;
 
   @GetMapping
-  @Operation(summary = "Get all tasks", description = "Retrieve a list of all tasks in the system")
-  @ApiResponse(responseCode = "200", description = "Successfully retrieved list of tasks")
-  public List<TaskDto> getAll() {
-    return taskService.findAll().stream().map(TaskDto::fromTask).toList();
+  @Operation(
+      summary = "Get tasks",
+      description =
+          "Retrieve tasks ordered by last update (newest first), optionally filtered by status,"
+              + " assignee and project. Paging is opt-in: with a limit or a cursor, one page is"
+              + " returned and the cursor for the next page is returned in the "
+              + KeysetCursor.NEXT_CURSOR_HEADER
+              + " header, which is absent on the last page. Without either, all matching tasks"
+              + " are returned.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved page of tasks"),
+        @ApiResponse(responseCode = "304", description = "Tasks unchanged since the given ETag"),
+        @ApiResponse(responseCode = "400", description = "Malformed cursor provided")
+      })
+  public ResponseEntity<List<TaskDto>> getAll(
+      @Parameter(description = "Only return tasks with this status") @RequestParam(required = false)
+          TaskStatus status,
+      @Parameter(description = "Only return tasks assigned to this user")
+          @RequestParam(required = false)
+          Long assigneeId,
+      @Parameter(description = "Only return tasks of this project") @RequestParam(required = false)
+          Long projectId,
+      @Parameter(description = "Cursor returned with the previous page")
+          @RequestParam(required = false)
+          String cursor,
+      @Parameter(
+              description =
+                  "Maximum number of tasks to return (1-"
+                      + MAX_PAGE_SIZE
+                      + ", "
+                      + DEFAULT_PAGE_SIZE
+                      + " if only a cursor is given)")
+          @RequestParam(required = false)
+          Integer limit,
+      WebRequest request) {
+    KeysetCursor after = KeysetCursor.decodeOrNull(cursor);
+    if (request.checkNotModified(taskService.listETag(status, assigneeId, projectId))) {
+      return null;
+    }
+    if (after == null && limit == null) {
+      // clients that do not page get the full list, as before paging was added
+      return ResponseEntity.ok(
+          taskService.findAll(status, assigneeId, projectId).stream()
+              .map(TaskDto::fromTask)
+              .toList());
+    }
+    int pageSize = Math.clamp(limit != null ? limit : DEFAULT_PAGE_SIZE, 1, MAX_PAGE_SIZE);
+    List<Task> rows =
+        taskService.findPage(status, assigneeId, projectId, after, pageSize + 1);
+    return KeysetPage.of(rows, pageSize, t -> new KeysetCursor(t.getUpdatedAt(), t.getId()))
+        .toResponse(TaskDto::fromTask);
+  }
+
+  @GetMapping("/search")
+  @Operation(
+      summary = "Search tasks",
+      description =
+          "Full-text search over task titles and descriptions, best match first. Words, \"quoted"
+              + " phrases\", or and -excluded words are supported; matched words are wrapped in"
+              + " <mark> tags in the highlight. The cursor for the next page is returned in the "
+              + KeysetCursor.NEXT_CURSOR_HEADER
+              + " header, which is absent on the last page.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved page of hits"),
+        @ApiResponse(responseCode = "400", description = "Blank or too long query, or bad cursor")
+      })
+  public ResponseEntity<List<TaskSearchHitDto>> search(
+      @Parameter(description = "Search query", required = true) @RequestParam String q,
+      @Parameter(description = "Cursor returned with the previous page")
+          @RequestParam(required = false)
+          String cursor,
+      @Parameter(description = "Maximum number of hits to return (1-" + MAX_PAGE_SIZE + ")")
+          @RequestParam(defaultValue = "" + DEFAULT_SEARCH_PAGE_SIZE)
+          int limit) {
+    String query = q.strip();
+    if (query.isEmpty() || query.length() > MAX_SEARCH_QUERY_LENGTH) {
+      throw new ResponseStatusException(
+          HttpStatus.BAD_REQUEST,
+          "Search query must have 1 to " + MAX_SEARCH_QUERY_LENGTH + " characters");
+    }
+    RankCursor after = RankCursor.decodeOrNull(cursor);
+    int pageSize = Math.clamp(limit, 1, MAX_PAGE_SIZE);
+    List<TaskSearchHitDto> rows = taskSearchService.search(query, after, pageSize + 1);
+    return KeysetPage.of(rows, pageSize, hit -> new RankCursor(hit.rank(), hit.task().id()))
+        .toResponse(hit -> hit);
+  }
+
+  @GetMapping("/export")
+  @Operation(
+      summary = "Export all tasks",
+      description =
+          "Stream every task ordered by ID, as newline-delimited JSON (one TaskDto per line) or as"
+              + " CSV. The response is written while the tasks are read, so its size is not"
+              + " limited by memory.")
+  @ApiResponse(responseCode = "200", description = "Tasks streamed successfully")
+  public void export(
+      @Parameter(description = "Output format") @RequestParam(defaultValue = "NDJSON")
+          ExportFormat format,
+      HttpServletResponse response)
+      throws IOException {
+    format.prepare(response, "tasks");
+    try (ExportWriter<TaskDto> writer =
+        format.open(response.getOutputStream(), objectMapper, CSV_COLUMNS)) {
+      taskService.export(writer);
+    }
   }
 
   @GetMapping("/{id}")
@@ -44,11 +204,20 @@ public class TaskController {
   @ApiResponses(
       value = {
         @ApiResponse(responseCode = "200", description = "Task found and returned successfully"),
+        @ApiResponse(responseCode = "304", description = "Task unchanged since the given ETag"),
         @ApiResponse(responseCode = "404", description = "Task not found with the provided ID")
       })
   public TaskDto getTask(
       @Parameter(description = "Unique identifier of the task", required = true) @PathVariable
-          Long id) {
+          Long id,
+      WebRequest request) {
+    Instant updatedAt =
+        taskService
+            .findUpdatedAt(id)
+            .orElseThrow(() -> new TaskNotFoundException("No Task found with ID " + id));
+    if (request.checkNotModified(ETags.of(id, updatedAt), ETags.lastModified(updatedAt))) {
+      return null;
+    }
     Task task =
         taskService
             .findById(id)
@@ -60,55 +229,169 @@ public class TaskController {
   @Operation(
       summary = "Update task",
       description =
-          "Update an existing task's information including title, description, status, comments, and attachments")
+          "Update an existing task's information including title, description, status, and"
+              + " attachments. Comments are added through POST /tasks/{id}/comments; the"
+              + " comments field is ignored. An If-Match header makes the update conditional on"
+              + " the task's current ETag.")
   @ApiResponses(
       value = {
         @ApiResponse(responseCode = "200", description = "Task updated successfully"),
         @ApiResponse(responseCode = "404", description = "Task not found with the provided ID"),
-        @ApiResponse(responseCode = "400", description = "Invalid task data provided")
+        @ApiResponse(responseCode = "400", description = "Invalid task data provided"),
+        @ApiResponse(
+            responseCode = "412",
+            description = "Task was changed since the ETag given in If-Match")
       })
-  public TaskDto updateTask(
+  public ResponseEntity<TaskDto> updateTask(
       @Parameter(description = "Unique identifier of the task to update", required = true)
           @PathVariable
           Long id,
-      @RequestBody TaskDto taskDto) {
+      @RequestBody TaskDto taskDto,
+      WebRequest request) {
     Task task =
         taskService
             .findById(id)
             .orElseThrow(() -> new TaskNotFoundException("No Task found with ID " + id));
+    checkIfMatch(request, task);
     task.setTitle(taskDto.title());
     task.setDescription(taskDto.description());
     task.setStatus(taskDto.taskStatus());
-    task.setComments(taskDto.comments());
     task.setAttachments(taskDto.attachments());
+    // replacing only the attachments does not make the task row dirty, but must still change
+    // the ETag
+    task.setUpdatedAt(Timestamps.now());
+    // a PUT usually repeats the current assignee, so user-service is only asked once the task
+    // shows that the assignee changes
+    setAssignee(task, taskDto.assigneeId(), null);
+    return updated(taskService.update(task));
+  }
+
+  @PatchMapping(
+      value = "/{id}",
+      consumes = {MergePatch.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+  @Operation(
+      summary = "Patch task",
+      description =
+          "Change only the fields present in a JSON Merge Patch (RFC 7386); a null value clears"
+              + " the field. id, createdAt, updatedAt, comments and commentCount are read-only. An"
+              + " If-Match header makes the update conditional on the task's current ETag.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "Task patched successfully"),
+        @ApiResponse(responseCode = "404", description = "Task or assignee not found"),
+        @ApiResponse(responseCode = "400", description = "Invalid merge patch provided"),
+        @ApiResponse(
+            responseCode = "412",
+            description = "Task was changed since the ETag given in If-Match")
+      })
+  public ResponseEntity<TaskDto> patchTask(
+      @Parameter(description = "Unique identifier of the task to patch", required = true)
+          @PathVariable
+          Long id,
+      @RequestBody JsonNode patch,
+      WebRequest request) {
+    if (!patch.isObject()) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Merge patch must be an object");
+    }
+    for (String field : READ_ONLY_FIELDS) {
+      if (patch.has(field)) {
+        throw new ResponseStatusException(
+            HttpStatus.BAD_REQUEST, "Field " + field + " is read-only");
+      }
+    }
+
+    JsonNode assigneeId = patch.get("assigneeId");
+    try (Pending<Optional<UserDto>> assigneeLookup =
+        startUserLookup(
+            assigneeId != null && assigneeId.canConvertToLong() ? assigneeId.asLong() : null)) {
+      return applyPatch(id, patch, request, assigneeLookup);
+    }
+  }
+
+  private ResponseEntity<TaskDto> applyPatch(
+      Long id, JsonNode patch, WebRequest request, Pending<Optional<UserDto>> assigneeLookup) {
+    Task task =
+        taskService
+            .findById(id)
+            .orElseThrow(() -> new TaskNotFoundException("No Task found with ID " + id));
+    checkIfMatch(request, task);
+
+    TaskDto patched;
+    try {
+      JsonNode current = objectMapper.valueToTree(TaskDto.fromTask(task));
+      patched = objectMapper.treeToValue(MergePatch.apply(current, patch), TaskDto.class);
+    } catch (JsonProcessingException | IllegalArgumentException e) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid merge patch", e);
+    }
+    if (patched.title() == null || patched.taskStatus() == null) {
+      throw new ResponseStatusException(
+          HttpStatus.BAD_REQUEST, "title and taskStatus must not be null");
+    }
+
+    // unchanged fields are left alone, so dynamic updates only write the columns that were patched
+    task.setTitle(patched.title());
+    task.setDescription(patched.description());
+    task.setStatus(patched.taskStatus());
+    if (patch.has("attachments")) {
+      task.setAttachments(patched.attachments() != null ? patched.attachments() : List.of());
+      task.setUpdatedAt(Timestamps.now());
+    }
+    if (patch.has("assigneeId")) {
+      setAssignee(task, patched.assigneeId(), assigneeLookup);
+    }
+    return updated(taskService.update(task));
+  }
+
+  private static void checkIfMatch(WebRequest request, Task task) {
+    String etag = ETags.of(task.getId(), task.getUpdatedAt());
+    if (!ETags.matches(request.getHeader(HttpHeaders.IF_MATCH), etag)) {
+      throw new PreconditionFailedException(
+          "Task " + task.getId() + " has changed, its current ETag is " + etag);
+    }
+  }
+
+  private ResponseEntity<TaskDto> updated(Task task) {
+    return ResponseEntity.ok()
+        .eTag(ETags.of(task.getId(), task.getUpdatedAt()))
+        .body(TaskDto.fromTask(task));
+  }
 
+  /**
+   * Starts looking up a user in the user service while the request goes on, e.g. the new assignee
+   * of a task while the task is loaded; null if there is no user to look up.
+   */
+  private Pending<Optional<UserDto>> startUserLookup(Long userId) {
+    return userId != null ? concurrentCalls.start(() -> userServiceClient.findById(userId)) : null;
+  }
+
+  /**
+   * Replaces the assignee if it actually changes, using the result of {@code lookup} if it was
+   * started for the new assignee.
+   */
+  private void setAssignee(Task task, Long newAssigneeId, Pending<Optional<UserDto>> lookup) {
     User currentAssignee = task.getAssignee();
     Long currentAssigneeId = currentAssignee != null ? currentAssignee.getId() : null;
-    Long newAssigneeId = taskDto.assigneeId();
-
-    if ((currentAssigneeId == null && newAssigneeId != null)
-        || (currentAssigneeId != null && !currentAssigneeId.equals(newAssigneeId))) {
-      // Assignee changed
-      User assignee = null;
-      if (newAssigneeId != null) {
-        assignee =
-            userServiceClient
-                .findById(newAssigneeId)
-                .map(
-                    userDto -> {
-                      User user = new User();
-                      user.setId(userDto.id());
-                      user.setName(userDto.name());
-                      user.setProfilePicture(userDto.profilePicture());
-                      return user;
-                    })
-                .orElseThrow(
-                    () -> new UserNotFoundException("No User found with ID " + newAssigneeId));
-      }
-      task.setAssignee(assignee);
+    if (Objects.equals(currentAssigneeId, newAssigneeId)) {
+      return;
     }
-    task = taskService.save(task);
-    return TaskDto.fromTask(task);
+    User assignee = null;
+    if (newAssigneeId != null) {
+      Optional<UserDto> found =
+          lookup != null ? lookup.join() : userServiceClient.findById(newAssigneeId);
+      assignee =
+          found
+              .map(
+                  userDto -> {
+                    User user = new User();
+                    user.setId(userDto.id());
+                    user.setName(userDto.name());
+                    user.setProfilePicture(userDto.profilePicture());
+                    return user;
+                  })
+              .orElseThrow(
+                  () -> new UserNotFoundException("No User found with ID " + newAssigneeId));
+    }
+    task.setAssignee(assignee);
   }
 
   @DeleteMapping("/{id}")
@@ -131,6 +414,64 @@ public class TaskController {
             });
   }
 
+  @GetMapping("/{id}/comments")
+  @Operation(
+      summary = "Get comments of a task",
+      description =
+          "Retrieve one page of a task's comments, oldest first. The cursor for the next page is"
+              + " returned in the "
+              + KeysetCursor.NEXT_CURSOR_HEADER
+              + " header, which is absent on the last page.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved page of comments"),
+        @ApiResponse(responseCode = "400", description = "Malformed cursor provided"),
+        @ApiResponse(responseCode = "404", description = "Task not found with the provided ID")
+      })
+  public ResponseEntity<List<CommentDto>> getComments(
+      @Parameter(description = "Unique identifier of the task", required = true) @PathVariable
+          Long id,
+      @Parameter(description = "Cursor returned with the previous page")
+          @RequestParam(required = false)
+          String cursor,
+      @Parameter(description = "Maximum number of comments to return (1-" + MAX_PAGE_SIZE + ")")
+          @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE)
+          int limit) {
+    int pageSize = Math.clamp(limit, 1, MAX_PAGE_SIZE);
+    List<TaskComment> rows =
+        taskService.findComments(id, KeysetCursor.decodeOrNull(cursor), pageSize + 1);
+    return KeysetPage.of(rows, pageSize, c -> new KeysetCursor(c.getCreatedAt(), c.getId()))
+        .toResponse(CommentDto::fromComment);
+  }
+
+  @PostMapping("/{id}/comments")
+  @Operation(
+      summary = "Add a comment to a task",
+      description =
+          "Append a comment to a task. Existing comments are left untouched, so the cost does not"
+              + " depend on how many comments the task already has.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "Comment added successfully"),
+        @ApiResponse(responseCode = "400", description = "Empty or too long comment provided"),
+        @ApiResponse(responseCode = "404", description = "Task not found with the provided ID")
+      })
+  public CommentDto addComment(
+      @Parameter(description = "Unique identifier of the task", required = true) @PathVariable
+          Long id,
+      @RequestBody CreateCommentDto createCommentDto) {
+    String content = createCommentDto.content();
+    if (content == null || content.isBlank()) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Comment must not be empty");
+    }
+    if (content.length() > TaskComment.MAX_CONTENT_LENGTH) {
+      throw new ResponseStatusException(
+          HttpStatus.BAD_REQUEST,
+          "Comments are limited to " + TaskComment.MAX_CONTENT_LENGTH + " characters");
+    }
+    return CommentDto.fromComment(taskService.addComment(id, content));
+  }
+
   @PatchMapping("/{id}/status")
   @Operation(summary = "Change task status", description = "Update the status of a specific task")
   @ApiResponses(
@@ -148,6 +489,32 @@ public class TaskController {
     return TaskDto.fromTask(task);
   }
 
+  @PatchMapping("/status")
+  @Operation(
+      summary = "Change status of multiple tasks",
+      description =
+          "Move up to " + MAX_BULK_SIZE + " tasks to the same status with a single update")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Task statuses updated, unknown IDs are reported as not found"),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Missing status, missing task IDs or too many task IDs provided")
+      })
+  public BulkStatusUpdateResultDto changeStatuses(
+      @RequestBody BulkStatusUpdateDto bulkStatusUpdateDto) {
+    if (bulkStatusUpdateDto.status() == null || bulkStatusUpdateDto.taskIds() == null) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Task IDs and status are required");
+    }
+    if (bulkStatusUpdateDto.taskIds().size() > MAX_BULK_SIZE) {
+      throw new ResponseStatusException(
+          HttpStatus.BAD_REQUEST, "At most " + MAX_BULK_SIZE + " tasks can be updated at once");
+    }
+    return taskService.setStatus(bulkStatusUpdateDto.taskIds(), bulkStatusUpdateDto.status());
+  }
+
   @GetMapping("/by-assignee/{id}")
   @Operation(
       summary = "Get tasks by assignee",
@@ -157,16 +524,26 @@ public class TaskController {
         @ApiResponse(
             responseCode = "200",
             description = "Successfully retrieved tasks for assignee"),
+        @ApiResponse(responseCode = "304", description = "Tasks unchanged since the given ETag"),
         @ApiResponse(responseCode = "404", description = "User not found with the provided ID")
       })
   public List<TaskDto> getByAssignee(
       @Parameter(description = "Unique identifier of the user assignee", required = true)
           @PathVariable("id")
-          Long id) {
-    return userServiceClient
-        .findById(id)
-        .map(u -> taskService.findByAssignee(id).stream().map(TaskDto::fromTask).toList())
-        .orElseThrow(() -> new UserNotFoundException("No User found with ID " + id));
+          Long id,
+      WebRequest request) {
+    // the user's tasks are read while user-service confirms that the user exists
+    try (Pending<Optional<UserDto>> user = startUserLookup(id)) {
+      String etag = taskService.listETag(null, id, null);
+      List<TaskDto> tasks = isCached(request, etag) ? null : taskService.findDtosByAssignee(id);
+      if (user.join().isEmpty()) {
+        throw new UserNotFoundException("No User found with ID " + id);
+      }
+      if (request.checkNotModified(etag)) {
+        return null;
+      }
+      return tasks != null ? tasks : taskService.findDtosByAssignee(id);
+    }
   }
 
   @GetMapping("/by-project/{id}")
@@ -178,15 +555,36 @@ public class TaskController {
         @ApiResponse(
             responseCode = "200",
             description = "Successfully retrieved tasks for project"),
+        @ApiResponse(responseCode = "304", description = "Tasks unchanged since the given ETag"),
         @ApiResponse(responseCode = "404", description = "Project not found with the provided ID")
       })
   public List<TaskDto> byProject(
       @Parameter(description = "Unique identifier of the project", required = true)
           @PathVariable("id")
-          Long id) {
-    return projectServiceClient
-        .findById(id)
-        .map(p -> taskService.findByProject(p.id()).stream().map(TaskDto::fromTask).toList())
-        .orElseThrow(() -> new ProjectNotFoundException("No Project found with ID " + id));
+          Long id,
+      WebRequest request) {
+    // the project's tasks are read while project-service confirms that the project exists
+    try (Pending<Optional<ProjectDto>> project =
+        concurrentCalls.start(() -> projectServiceClient.findById(id))) {
+      String etag = taskService.listETag(null, null, id);
+      List<TaskDto> tasks = isCached(request, etag) ? null : taskService.findDtosByProject(id);
+      if (project.join().isEmpty()) {
+        throw new ProjectNotFoundException("No Project found with ID " + id);
+      }
+      if (request.checkNotModified(etag)) {
+        return null;
+      }
+      return tasks != null ? tasks : taskService.findDtosByProject(id);
+    }
+  }
+
+  /**
+   * Whether the client already holds the version with this ETag, so that loading it ahead of
+   * {@link WebRequest#checkNotModified} can be skipped. Only a hint: the response is still decided
+   * by {@code checkNotModified} once the owner is known to exist.
+   */
+  private static boolean isCached(WebRequest request, String etag) {
+    String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+    return ifNoneMatch != null && etag != null && ETags.matches(ifNoneMatch, etag);
   }
 }
@@ -0,0 +1,32 @@
+package de.tum.cit.aet.closed.ai;
+
+import de.tum.cit.aet.closed.ai.etag.Fingerprint;
+import de.tum.cit.aet.closed.ai.model.Task;
+import de.tum.cit.aet.closed.ai.model.TaskStatus;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Task queries with optional filters, implemented by {@link TaskFilterRepositoryImpl} and exposed
+ * through {@link TaskRepository}. A {@code null} filter is left out of the statement rather than
+ * passed as a parameter.
+ */
+public interface TaskFilterRepository {
+
+  /**
+   * Keyset page ordered by {@code (updatedAt desc, id desc)}. Every filter is optional; passing
+   * {@code null} for {@code afterUpdatedAt} starts from the most recently updated task. The page
+   * size is taken from {@code pageable}, its sort is ignored.
+   */
+  List<Task> findPage(
+      TaskStatus status,
+      Long assigneeId,
+      Long projectId,
+      Instant afterUpdatedAt,
+      Long afterId,
+      Pageable pageable);
+
+  /** {@link Fingerprint} of the tasks matching the same optional filters as {@link #findPage}. */
+  Fingerprint fingerprint(TaskStatus status, Long assigneeId, Long projectId);
+}
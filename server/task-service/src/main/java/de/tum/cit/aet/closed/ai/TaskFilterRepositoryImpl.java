@@ -0,0 +1,111 @@
+package de.tum.cit.aet.closed.ai;
+
+import de.tum.cit.aet.closed.ai.etag.Fingerprint;
+import de.tum.cit.aet.closed.ai.model.Task;
+import de.tum.cit.aet.closed.ai.model.TaskStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Builds the statement from the filters that are given. A catch-all predicate such as {@code
+ * (:status is null or t.status = :status)} lets PostgreSQL switch to a generic plan that cannot use
+ * the composite index of the filter at hand ({@code V4__indexes.sql}); with one statement per
+ * filter combination, each is planned against its own index.
+ */
+@AllArgsConstructor
+class TaskFilterRepositoryImpl implements TaskFilterRepository {
+  private final EntityManager entityManager;
+
+  @Override
+  public List<Task> findPage(
+      TaskStatus status,
+      Long assigneeId,
+      Long projectId,
+      Instant afterUpdatedAt,
+      Long afterId,
+      Pageable pageable) {
+    Where where = new Where(status, assigneeId, projectId);
+    if (afterUpdatedAt != null) {
+      where.add(
+          "(t.updatedAt < :afterUpdatedAt or (t.updatedAt = :afterUpdatedAt and t.id < :afterId))",
+          Map.of("afterUpdatedAt", afterUpdatedAt, "afterId", afterId));
+    }
+    TypedQuery<Task> query =
+        where.bind(
+            entityManager.createQuery(
+                "select t from Task t left join fetch t.assignee join fetch t.project"
+                    + where.toJpql()
+                    + " order by t.updatedAt desc, t.id desc",
+                Task.class));
+    if (pageable.isPaged()) {
+      query.setFirstResult((int) pageable.getOffset());
+      query.setMaxResults(pageable.getPageSize());
+    }
+    return query.getResultList();
+  }
+
+  @Override
+  public Fingerprint fingerprint(TaskStatus status, Long assigneeId, Long projectId) {
+    Where where = new Where(status, assigneeId, projectId);
+    Tuple row =
+        where
+            .bind(
+                entityManager.createQuery(
+                    "select count(t), max(t.updatedAt) from Task t" + where.toJpql(),
+                    Tuple.class))
+            .getSingleResult();
+    return new TaskFingerprint(row.get(0, Long.class), row.get(1, Instant.class));
+  }
+
+  /** The {@code where} clause of the given filters and the parameters it needs. */
+  private static final class Where {
+    private final List<String> predicates = new ArrayList<>();
+    private final Map<String, Object> parameters = new LinkedHashMap<>();
+
+    Where(TaskStatus status, Long assigneeId, Long projectId) {
+      if (status != null) {
+        add("t.status = :status", Map.of("status", status));
+      }
+      if (assigneeId != null) {
+        add("t.assignee.id = :assigneeId", Map.of("assigneeId", assigneeId));
+      }
+      if (projectId != null) {
+        add("t.project.id = :projectId", Map.of("projectId", projectId));
+      }
+    }
+
+    void add(String predicate, Map<String, Object> predicateParameters) {
+      predicates.add(predicate);
+      parameters.putAll(predicateParameters);
+    }
+
+    <T> TypedQuery<T> bind(TypedQuery<T> query) {
+      parameters.forEach((name, value) -> query.setParameter(name, value));
+      return query;
+    }
+
+    String toJpql() {
+      return predicates.isEmpty() ? "" : " where " + String.join(" and ", predicates);
+    }
+  }
+
+  private record TaskFingerprint(Long rowCount, Instant lastModified) implements Fingerprint {
+    @Override
+    public Long getRowCount() {
+      return rowCount;
+    }
+
+    @Override
+    public Instant getLastModified() {
+      return lastModified;
+    }
+  }
+}
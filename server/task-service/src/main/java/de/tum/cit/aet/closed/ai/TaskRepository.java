@@ -1,14 +1,204 @@
 package de.tum.cit.aet.closed.ai;
 
+import de.tum.cit.aet.closed.ai.dto.TaskElement;
+import de.tum.cit.aet.closed.ai.export.ExportWriter;
 import de.tum.cit.aet.closed.ai.model.Task;
 import de.tum.cit.aet.closed.ai.model.TaskStatus;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
-public interface TaskRepository extends JpaRepository<Task, Long> {
+/**
+ * List queries join-fetch the eager to-one associations of {@link Task}, so a result set costs
+ * one query plus one subselect for attachments, independent of its size.
+ * Read-only listings use the {@link TaskRow} and {@link TaskElement} projections instead, which
+ * skip entity hydration altogether. The filtered listings come from {@link TaskFilterRepository}.
+ */
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskFilterRepository {
+  @Override
+  @EntityGraph(attributePaths = {"assignee", "project"})
+  List<Task> findAll();
+
+  @EntityGraph(attributePaths = {"assignee", "project"})
   List<Task> findByAssigneeId(Long userId);
 
+  @EntityGraph(attributePaths = {"assignee", "project"})
   List<Task> findByProjectId(Long projectId);
 
+  @EntityGraph(attributePaths = {"assignee", "project"})
   List<Task> findByStatus(TaskStatus status);
+
+  @Query(
+      """
+      select t.id as id, t.title as title, t.description as description, t.status as status,
+        t.createdAt as createdAt, t.updatedAt as updatedAt, a.id as assigneeId,
+        t.commentCount as commentCount
+      from Task t left join t.assignee a
+      where t.project.id = :projectId
+      order by t.id
+      """)
+  List<TaskRow> findRowsByProjectId(Long projectId);
+
+  @Query(
+      """
+      select t.id as id, t.title as title, t.description as description, t.status as status,
+        t.createdAt as createdAt, t.updatedAt as updatedAt, t.assignee.id as assigneeId,
+        t.commentCount as commentCount
+      from Task t
+      where t.assignee.id = :assigneeId
+      order by t.id
+      """)
+  List<TaskRow> findRowsByAssigneeId(Long assigneeId);
+
+  @Query(
+      """
+      select t.id as taskId, a as content from Task t join t.attachments a
+      where t.project.id = :projectId
+      """)
+  List<TaskElement> findAttachmentsByProjectId(Long projectId);
+
+  @Query(
+      """
+      select t.id as taskId, a as content from Task t join t.attachments a
+      where t.assignee.id = :assigneeId
+      """)
+  List<TaskElement> findAttachmentsByAssigneeId(Long assigneeId);
+
+  /** Every task ordered by ID, read through a forward-only cursor for exports. */
+  @Query(
+      """
+      select t.id as id, t.title as title, t.description as description, t.status as status,
+        t.createdAt as createdAt, t.updatedAt as updatedAt, a.id as assigneeId,
+        t.commentCount as commentCount
+      from Task t left join t.assignee a
+      order by t.id
+      """)
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ExportWriter.FETCH_SIZE))
+  Stream<TaskRow> streamAllRows();
+
+  @Query("select t.id as taskId, a as content from Task t join t.attachments a order by t.id")
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ExportWriter.FETCH_SIZE))
+  Stream<TaskElement> streamAllAttachments();
+
+  @Query(
+      """
+      select t.id as id, t.title as title, t.description as description, t.status as status,
+        t.createdAt as createdAt, t.updatedAt as updatedAt, a.id as assigneeId,
+        t.commentCount as commentCount
+      from Task t left join t.assignee a
+      where t.id in :ids
+      """)
+  List<TaskRow> findRowsByIds(Collection<Long> ids);
+
+  @Query("select t.id as taskId, a as content from Task t join t.attachments a where t.id in :ids")
+  List<TaskElement> findAttachmentsByTaskIds(Collection<Long> ids);
+
+  /**
+   * Full-text search through the GIN-indexed {@code search_vector} column created by {@code
+   * V3__task_search.sql}, ordered by {@code (rank desc, id desc)} and continuing after {@code
+   * (afterRank, afterId)}. Headlines are only built for the rows of the page.
+   */
+  @Query(
+      nativeQuery = true,
+      value =
+          """
+          select p.id as id, p.rank as rank,
+            ts_headline('english', concat_ws(' ', p.title, p.description), p.query,
+              'StartSel=<mark>, StopSel=</mark>, MaxFragments=2') as highlight
+          from (
+            select t.id, t.title, t.description, q.query, r.rank
+            from websearch_to_tsquery('english', :query) q(query)
+              join task t on t.search_vector @@ q.query
+              cross join lateral (select ts_rank_cd(t.search_vector, q.query) as rank) r
+            where r.rank < :afterRank or (r.rank = :afterRank and t.id < :afterId)
+            order by r.rank desc, t.id desc
+            limit :limit
+          ) p
+          order by p.rank desc, p.id desc
+          """)
+  List<SearchHit> searchFullText(String query, float afterRank, long afterId, int limit);
+
+  /**
+   * Case-insensitive substring search for databases without full-text search, newest task first.
+   * {@code pattern} is a lower-case LIKE pattern using {@code !} as escape character.
+   */
+  @Query(
+      """
+      select t.id from Task t
+      where (lower(t.title) like :pattern escape '!'
+          or lower(t.description) like :pattern escape '!')
+        and t.id < :afterId
+      order by t.id desc
+      """)
+  List<Long> searchSubstring(String pattern, long afterId, Pageable pageable);
+
+  @Query("select t.updatedAt from Task t where t.id = :id")
+  Optional<Instant> findUpdatedAtById(Long id);
+
+  @Query("select t.id from Task t where t.id in :ids")
+  List<Long> findExistingIds(Collection<Long> ids);
+
+  /**
+   * Set-based status transition. Bypasses entity auditing and versioning, so {@code updatedAt}
+   * has to be passed explicitly to keep the keyset ordering of {@link #findPage} consistent, and
+   * the version is incremented here.
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query(
+      """
+      update Task t set t.status = :status, t.updatedAt = :updatedAt, t.version = t.version + 1
+      where t.id in :ids
+      """)
+  int updateStatus(Collection<Long> ids, TaskStatus status, Instant updatedAt);
+
+  /**
+   * Counts one more comment on the task and bumps its {@code updatedAt}, which also locks the task
+   * row until the transaction ends. Returns 0 if the task does not exist.
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query(
+      """
+      update Task t
+      set t.commentCount = t.commentCount + 1, t.updatedAt = :updatedAt, t.version = t.version + 1
+      where t.id = :id
+      """)
+  int incrementCommentCount(Long id, Instant updatedAt);
+
+  /** Scalar columns of a task, read without creating a managed entity. */
+  interface TaskRow {
+    Long getId();
+
+    String getTitle();
+
+    String getDescription();
+
+    TaskStatus getStatus();
+
+    Instant getCreatedAt();
+
+    Instant getUpdatedAt();
+
+    Long getAssigneeId();
+
+    int getCommentCount();
+  }
+
+  /** ID, rank and highlighted excerpt of a task found by {@link #searchFullText}. */
+  interface SearchHit {
+    Long getId();
+
+    Float getRank();
+
+    String getHighlight();
+  }
 }
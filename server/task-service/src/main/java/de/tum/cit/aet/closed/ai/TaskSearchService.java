@@ -0,0 +1,65 @@
+package de.tum.cit.aet.closed.ai;
+
+import de.tum.cit.aet.closed.ai.dto.TaskDto;
+import de.tum.cit.aet.closed.ai.dto.TaskSearchHitDto;
+import de.tum.cit.aet.closed.ai.pagination.RankCursor;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Ranked task search. With {@code task-service.search.full-text} enabled (PostgreSQL) queries go
+ * through the GIN index of {@code V3__task_search.sql}; otherwise, as on H2, tasks are matched by
+ * substring, all with rank 0 and newest first, and without highlights.
+ */
+@Service
+public class TaskSearchService {
+  private final TaskRepository tasks;
+  private final TaskService taskService;
+  private final boolean fullText;
+
+  public TaskSearchService(
+      TaskRepository tasks,
+      TaskService taskService,
+      @Value("${task-service.search.full-text:false}") boolean fullText) {
+    this.tasks = tasks;
+    this.taskService = taskService;
+    this.fullText = fullText;
+  }
+
+  /**
+   * Up to {@code limit} hits after {@code after}, ordered by {@code (rank desc, id desc)}. On
+   * PostgreSQL {@code query} is read like a web search: words, "quoted phrases", {@code or} and
+   * {@code -excluded} words.
+   */
+  @Transactional(readOnly = true)
+  public List<TaskSearchHitDto> search(String query, RankCursor after, int limit) {
+    long afterId = after != null ? after.id() : Long.MAX_VALUE;
+    if (!fullText) {
+      List<Long> ids =
+          tasks.searchSubstring(likePattern(query), afterId, PageRequest.of(0, limit));
+      return taskService.findDtosByIds(ids).values().stream()
+          .map(task -> new TaskSearchHitDto(task, null, 0))
+          .toList();
+    }
+
+    float afterRank = after != null ? after.rank() : Float.POSITIVE_INFINITY;
+    List<TaskRepository.SearchHit> hits = tasks.searchFullText(query, afterRank, afterId, limit);
+    Map<Long, TaskDto> found =
+        taskService.findDtosByIds(hits.stream().map(TaskRepository.SearchHit::getId).toList());
+    return hits.stream()
+        .filter(hit -> found.containsKey(hit.getId()))
+        .map(hit -> new TaskSearchHitDto(found.get(hit.getId()), hit.getHighlight(), hit.getRank()))
+        .toList();
+  }
+
+  static String likePattern(String query) {
+    String escaped =
+        query.toLowerCase(Locale.ROOT).replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    return "%" + escaped + "%";
+  }
+}
@@ -1,12 +1,36 @@
 package de.tum.cit.aet.closed.ai;
 
+import de.tum.cit.aet.closed.ai.audit.Timestamps;
+import de.tum.cit.aet.closed.ai.dto.BulkStatusUpdateResultDto;
+import de.tum.cit.aet.closed.ai.dto.TaskDto;
+import de.tum.cit.aet.closed.ai.dto.TaskElement;
+import de.tum.cit.aet.closed.ai.etag.ETags;
+import de.tum.cit.aet.closed.ai.exception.PreconditionFailedException;
 import de.tum.cit.aet.closed.ai.exception.TaskNotFoundException;
+import de.tum.cit.aet.closed.ai.export.ExportWriter;
+import de.tum.cit.aet.closed.ai.export.SortedChildRows;
 import de.tum.cit.aet.closed.ai.metrics.TaskMetrics;
 import de.tum.cit.aet.closed.ai.model.Task;
+import de.tum.cit.aet.closed.ai.model.TaskComment;
 import de.tum.cit.aet.closed.ai.model.TaskStatus;
+import de.tum.cit.aet.closed.ai.pagination.KeysetCursor;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.AllArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,11 +38,36 @@ import org.springframework.transaction.annotation.Transactional;
 @AllArgsConstructor
 public class TaskService {
   private final TaskRepository tasks;
+  private final TaskCommentRepository comments;
   private final TaskMetrics taskMetrics;
 
+  /** All tasks matching the optional filters, in the order of {@link #findPage}. */
   @Transactional(readOnly = true)
-  public List<Task> findAll() {
-    return tasks.findAll();
+  public List<Task> findAll(TaskStatus status, Long assigneeId, Long projectId) {
+    return tasks.findPage(status, assigneeId, projectId, null, null, Pageable.unpaged());
+  }
+
+  @Transactional(readOnly = true)
+  public List<Task> findPage(
+      TaskStatus status, Long assigneeId, Long projectId, KeysetCursor after, int limit) {
+    return tasks.findPage(
+        status,
+        assigneeId,
+        projectId,
+        after != null ? after.timestamp() : null,
+        after != null ? after.id() : null,
+        PageRequest.of(0, limit));
+  }
+
+  @Transactional(readOnly = true)
+  public Optional<Instant> findUpdatedAt(Long id) {
+    return tasks.findUpdatedAtById(id);
+  }
+
+  /** ETag of all tasks matching the filters, from a single count/max query. */
+  @Transactional(readOnly = true)
+  public String listETag(TaskStatus status, Long assigneeId, Long projectId) {
+    return ETags.of(tasks.fingerprint(status, assigneeId, projectId));
   }
 
   @Transactional(readOnly = true)
@@ -31,6 +80,19 @@ public class TaskService {
     return tasks.save(task);
   }
 
+  /**
+   * Saves a task the caller loaded and changed, flushing right away so that a change committed in
+   * between is reported as {@link PreconditionFailedException} instead of being overwritten.
+   */
+  @Transactional
+  public Task update(Task task) {
+    try {
+      return tasks.saveAndFlush(task);
+    } catch (OptimisticLockingFailureException e) {
+      throw new PreconditionFailedException("Task " + task.getId() + " was changed concurrently");
+    }
+  }
+
   @Transactional
   public void delete(Long id) {
     tasks.deleteById(id);
@@ -47,6 +109,88 @@ public class TaskService {
     return tasks.findByProjectId(projectId);
   }
 
+  /**
+   * Read-only listing of a project's tasks built from projections: one query for the task rows
+   * and one for attachments, without hydrating entities.
+   */
+  @Transactional(readOnly = true)
+  public List<TaskDto> findDtosByProject(Long projectId) {
+    return toDtos(
+        tasks.findRowsByProjectId(projectId), tasks.findAttachmentsByProjectId(projectId));
+  }
+
+  /** Read-only listing of a user's tasks, see {@link #findDtosByProject}. */
+  @Transactional(readOnly = true)
+  public List<TaskDto> findDtosByAssignee(Long userId) {
+    return toDtos(tasks.findRowsByAssigneeId(userId), tasks.findAttachmentsByAssigneeId(userId));
+  }
+
+  /**
+   * Tasks with the given IDs, keyed in the order of {@code ids}; IDs of tasks that no longer exist
+   * are left out. Built from projections like {@link #findDtosByProject}.
+   */
+  @Transactional(readOnly = true)
+  public Map<Long, TaskDto> findDtosByIds(List<Long> ids) {
+    if (ids.isEmpty()) {
+      return Map.of();
+    }
+    Map<Long, TaskDto> byId =
+        toDtos(tasks.findRowsByIds(ids), tasks.findAttachmentsByTaskIds(ids)).stream()
+            .collect(Collectors.toMap(TaskDto::id, dto -> dto));
+    Map<Long, TaskDto> ordered = new LinkedHashMap<>();
+    ids.stream().filter(byId::containsKey).forEach(id -> ordered.put(id, byId.get(id)));
+    return ordered;
+  }
+
+  /**
+   * Writes every task to {@code writer}. Tasks and attachments are read from two forward-only
+   * cursors ordered by task ID and merged on the fly, so memory use does not grow with the number
+   * of tasks; no entities are loaded.
+   */
+  @Transactional(readOnly = true)
+  public void export(ExportWriter<TaskDto> writer) throws IOException {
+    try (Stream<TaskRepository.TaskRow> rows = tasks.streamAllRows();
+        Stream<TaskElement> attachments = tasks.streamAllAttachments()) {
+      SortedChildRows<TaskElement> attachmentsByTask =
+          new SortedChildRows<>(attachments.iterator(), TaskElement::getTaskId);
+      for (Iterator<TaskRepository.TaskRow> it = rows.iterator(); it.hasNext(); ) {
+        TaskRepository.TaskRow row = it.next();
+        writer.write(toDto(row, attachmentsByTask.take(row.getId(), TaskElement::getContent)));
+      }
+    }
+  }
+
+  /**
+   * Appends a comment with one insert and one update of the task's comment count, however many
+   * comments the task already has.
+   */
+  @Transactional
+  public TaskComment addComment(Long taskId, String content) {
+    if (tasks.incrementCommentCount(taskId, Timestamps.now()) == 0) {
+      throw new TaskNotFoundException("No Task found with ID " + taskId);
+    }
+    TaskComment comment = new TaskComment();
+    comment.setTask(tasks.getReferenceById(taskId));
+    comment.setContent(content);
+    return comments.save(comment);
+  }
+
+  /** Keyset page of a task's comments, oldest first. */
+  @Transactional(readOnly = true)
+  public List<TaskComment> findComments(Long taskId, KeysetCursor after, int limit) {
+    List<TaskComment> page =
+        comments.findPage(
+            taskId,
+            after != null ? after.timestamp() : null,
+            after != null ? after.id() : null,
+            PageRequest.of(0, limit));
+    // an empty page is the only case that needs telling a missing task from one without comments
+    if (page.isEmpty() && !tasks.existsById(taskId)) {
+      throw new TaskNotFoundException("No Task found with ID " + taskId);
+    }
+    return page;
+  }
+
   @Transactional(readOnly = true)
   public List<Task> findByStatus(TaskStatus status) {
     return tasks.findByStatus(status);
@@ -59,6 +203,45 @@ public class TaskService {
             .findById(taskId)
             .orElseThrow(() -> new TaskNotFoundException("No Task found with ID " + taskId));
     task.setStatus(status);
+    taskMetrics.incrementStatusChanges(1);
     return tasks.save(task);
   }
+
+  @Transactional
+  public BulkStatusUpdateResultDto setStatus(Collection<Long> taskIds, TaskStatus status) {
+    Set<Long> requested = new LinkedHashSet<>(taskIds);
+    Set<Long> existing =
+        requested.isEmpty() ? Set.of() : new HashSet<>(tasks.findExistingIds(requested));
+
+    List<Long> updatedIds = requested.stream().filter(existing::contains).toList();
+    List<Long> notFoundIds = requested.stream().filter(id -> !existing.contains(id)).toList();
+
+    if (!updatedIds.isEmpty()) {
+      int rows = tasks.updateStatus(updatedIds, status, Timestamps.now());
+      taskMetrics.incrementStatusChanges(rows);
+    }
+    return new BulkStatusUpdateResultDto(status, updatedIds, notFoundIds);
+  }
+
+  private static List<TaskDto> toDtos(
+      List<TaskRepository.TaskRow> rows, List<TaskElement> attachments) {
+    Map<Long, List<String>> attachmentsByTask = TaskElement.groupByTask(attachments);
+    return rows.stream()
+        .map(row -> toDto(row, attachmentsByTask.getOrDefault(row.getId(), List.of())))
+        .toList();
+  }
+
+  private static TaskDto toDto(TaskRepository.TaskRow row, List<String> attachments) {
+    return new TaskDto(
+        row.getId(),
+        row.getTitle(),
+        row.getDescription(),
+        row.getStatus(),
+        row.getCreatedAt(),
+        row.getUpdatedAt(),
+        List.of(),
+        attachments,
+        row.getAssigneeId(),
+        row.getCommentCount());
+  }
 }
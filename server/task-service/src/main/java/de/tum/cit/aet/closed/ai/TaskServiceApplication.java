@@ -1,14 +1,22 @@
 package de.tum.cit.aet.closed.ai;
 
+import de.tum.cit.aet.closed.ai.audit.Timestamps;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.auditing.DateTimeProvider;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
 @SpringBootApplication
-@EnableJpaAuditing
+@EnableJpaAuditing(dateTimeProviderRef = "auditingDateTimeProvider")
 public class TaskServiceApplication {
 
   public static void main(String[] args) {
     SpringApplication.run(TaskServiceApplication.class, args);
   }
+
+  @Bean
+  DateTimeProvider auditingDateTimeProvider() {
+    return Timestamps.dateTimeProvider();
+  }
 }
@@ -7,6 +7,7 @@ import org.springframework.stereotype.Component;
 @Component
 public class TaskMetrics {
   private final Counter tasksDeletedCounter;
+  private final Counter taskStatusChangesCounter;
 
   public TaskMetrics(MeterRegistry registry) {
 
@@ -14,9 +15,18 @@ public class TaskMetrics {
         Counter.builder("tasks_deleted_total")
             .description("Total number of tasks deleted")
             .register(registry);
+
+    this.taskStatusChangesCounter =
+        Counter.builder("tasks_status_changes_total")
+            .description("Total number of task status changes applied")
+            .register(registry);
   }
 
   public void incrementTasksDeleted() {
     tasksDeletedCounter.increment();
   }
+
+  public void incrementStatusChanges(int count) {
+    taskStatusChangesCounter.increment(count);
+  }
 }
@@ -0,0 +1,120 @@
+package de.tum.cit.aet.closed.ai;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+class ConcurrentCallsTest {
+
+  private ConcurrentCalls concurrentCalls;
+
+  @AfterEach
+  void tearDown() {
+    concurrentCalls.destroy();
+  }
+
+  @Test
+  void start_ShouldRunCallOnAnotherThread() {
+    // Arrange
+    concurrentCalls = new ConcurrentCalls(4, Duration.ofSeconds(5));
+    Thread caller = Thread.currentThread();
+
+    // Act
+    try (ConcurrentCalls.Pending<Thread> pending = concurrentCalls.start(Thread::currentThread)) {
+      Thread worker = pending.join();
+
+      // Assert
+      assertNotSame(caller, worker);
+      assertTrue(worker.isVirtual());
+    }
+  }
+
+  @Test
+  void start_WhenConcurrencyIsExhausted_ShouldRunCallOnCallerThread() throws Exception {
+    // Arrange
+    concurrentCalls = new ConcurrentCalls(1, Duration.ofSeconds(5));
+    CountDownLatch release = new CountDownLatch(1);
+
+    // Act
+    try (ConcurrentCalls.Pending<Boolean> blocking =
+            concurrentCalls.start(() -> release.await(5, TimeUnit.SECONDS));
+        ConcurrentCalls.Pending<Thread> pending = concurrentCalls.start(Thread::currentThread)) {
+
+      // Assert
+      assertSame(Thread.currentThread(), pending.join());
+      release.countDown();
+      assertTrue(blocking.join());
+    }
+  }
+
+  @Test
+  void join_WhenCallFails_ShouldRethrowItsException() {
+    // Arrange
+    concurrentCalls = new ConcurrentCalls(4, Duration.ofSeconds(5));
+    IllegalArgumentException failure = new IllegalArgumentException("failed");
+
+    // Act
+    try (ConcurrentCalls.Pending<Object> pending =
+        concurrentCalls.start(
+            () -> {
+              throw failure;
+            })) {
+      IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class, pending::join);
+
+      // Assert
+      assertSame(failure, thrown);
+    }
+  }
+
+  @Test
+  void join_WhenCallTimesOut_ShouldReturnGatewayTimeoutAndInterruptCall() throws Exception {
+    // Arrange
+    concurrentCalls = new ConcurrentCalls(4, Duration.ofMillis(50));
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch interrupted = new CountDownLatch(1);
+
+    // Act
+    try (ConcurrentCalls.Pending<Object> pending =
+        concurrentCalls.start(() -> sleepUntilInterrupted(started, interrupted))) {
+      assertTrue(started.await(5, TimeUnit.SECONDS));
+      ResponseStatusException thrown = assertThrows(ResponseStatusException.class, pending::join);
+
+      // Assert
+      assertEquals(HttpStatus.GATEWAY_TIMEOUT, thrown.getStatusCode());
+      assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+  }
+
+  @Test
+  void close_WhenCallIsRunning_ShouldInterruptCall() throws Exception {
+    // Arrange
+    concurrentCalls = new ConcurrentCalls(4, Duration.ofSeconds(5));
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch interrupted = new CountDownLatch(1);
+    ConcurrentCalls.Pending<Object> pending =
+        concurrentCalls.start(() -> sleepUntilInterrupted(started, interrupted));
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+
+    // Act
+    pending.close();
+
+    // Assert
+    assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+  }
+
+  private static Object sleepUntilInterrupted(CountDownLatch started, CountDownLatch interrupted) {
+    started.countDown();
+    try {
+      Thread.sleep(Duration.ofSeconds(10));
+    } catch (InterruptedException e) {
+      interrupted.countDown();
+    }
+    return null;
+  }
+}
@@ -0,0 +1,128 @@
+package de.tum.cit.aet.closed.ai;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.tum.cit.aet.closed.ai.model.Project;
+import de.tum.cit.aet.closed.ai.model.Task;
+import de.tum.cit.aet.closed.ai.model.User;
+import jakarta.persistence.EntityManager;
+import java.util.Arrays;
+import java.util.List;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Upgrades a PostgreSQL database that Hibernate created with ddl-auto=update and that already holds
+ * data (db/legacy-hibernate-schema.sql), as on the first start after Flyway took over the schema.
+ * The context only starts if Hibernate validates the entities against the result.
+ */
+@DataJpaTest(
+    properties = {
+      "spring.flyway.enabled=true",
+      "spring.flyway.baseline-on-migrate=true",
+      "spring.flyway.baseline-version=0",
+      "spring.jpa.hibernate.ddl-auto=validate"
+    })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class LegacySchemaMigrationTest {
+
+  @Container @ServiceConnection
+  static final PostgreSQLContainer<?> postgres =
+      new PostgreSQLContainer<>("postgres:16-alpine")
+          .withInitScript("db/legacy-hibernate-schema.sql");
+
+  @Autowired private Flyway flyway;
+  @Autowired private EntityManager entityManager;
+
+  @Test
+  void migrate_ShouldBaselineLegacySchemaAndApplyAllMigrations() {
+    // Act
+    MigrationInfo[] applied = flyway.info().applied();
+
+    // Assert
+    assertEquals(
+        List.of("0", "1", "2", "3", "4"),
+        Arrays.stream(applied).map(info -> info.getVersion().getVersion()).toList());
+  }
+
+  @Test
+  void migrate_ShouldMoveCommentsIntoTaskCommentInStoredOrder() {
+    // Act
+    List<?> contents =
+        entityManager
+            .createNativeQuery("SELECT content FROM task_comment WHERE task_id = 1 ORDER BY id")
+            .getResultList();
+    Task task = entityManager.find(Task.class, 1L);
+
+    // Assert
+    assertEquals(List.of("First", "Second"), contents);
+    assertEquals(2, task.getCommentCount());
+    assertEquals(1, entityManager.find(Task.class, 3L).getCommentCount());
+    assertEquals(0, entityManager.find(Task.class, 2L).getCommentCount());
+  }
+
+  @Test
+  void migrate_ShouldConvertLargeObjectDescriptionsToTextAndReleaseThem() {
+    // Act
+    Task task = entityManager.find(Task.class, 1L);
+    Number largeObjects =
+        (Number)
+            entityManager
+                .createNativeQuery("SELECT count(*) FROM pg_largeobject_metadata")
+                .getSingleResult();
+
+    // Assert
+    assertEquals("Align the budget with finance", task.getDescription());
+    assertEquals(List.of("plan.pdf"), task.getAttachments());
+    assertEquals(0, largeObjects.intValue());
+  }
+
+  @Test
+  void migrate_ShouldIndexExistingTasksForSearch() {
+    // Act
+    List<?> ids =
+        entityManager
+            .createNativeQuery(
+                "SELECT id FROM task WHERE search_vector @@ websearch_to_tsquery('english', ?)"
+                    + " ORDER BY id")
+            .setParameter(1, "budget")
+            .getResultList();
+
+    // Assert
+    assertEquals(List.of(1L), ids.stream().map(id -> ((Number) id).longValue()).toList());
+  }
+
+  @Test
+  void migrate_ShouldMoveSequencesPastExistingIds() {
+    // Arrange
+    User user = new User();
+    user.setName("John");
+    Project project = new Project();
+    project.setName("New");
+    project.setColor("#00ff00");
+    Task task = new Task();
+    task.setTitle("New task");
+    task.setProject(project);
+
+    // Act
+    entityManager.persist(user);
+    entityManager.persist(project);
+    entityManager.persist(task);
+    entityManager.flush();
+
+    // Assert
+    assertTrue(user.getId() > 1, "User ID " + user.getId() + " should be new");
+    assertTrue(project.getId() > 1, "Project ID " + project.getId() + " should be new");
+    assertTrue(task.getId() > 3, "Task ID " + task.getId() + " should be new");
+  }
+}
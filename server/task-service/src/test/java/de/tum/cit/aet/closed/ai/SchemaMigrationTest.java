@@ -0,0 +1,79 @@
+package de.tum.cit.aet.closed.ai;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import de.tum.cit.aet.closed.ai.model.Project;
+import de.tum.cit.aet.closed.ai.model.Task;
+import jakarta.persistence.EntityManager;
+import java.util.Arrays;
+import java.util.List;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Migrates an empty PostgreSQL database with the migrations in db/migration, as on the first start
+ * of a new installation. The context only starts if Hibernate validates the entities against the
+ * result, as it does in production.
+ */
+@DataJpaTest(
+    properties = {
+      "spring.flyway.enabled=true",
+      "spring.flyway.baseline-on-migrate=true",
+      "spring.flyway.baseline-version=0",
+      "spring.jpa.hibernate.ddl-auto=validate"
+    })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class SchemaMigrationTest {
+
+  @Container @ServiceConnection
+  static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+  @Autowired private Flyway flyway;
+  @Autowired private EntityManager entityManager;
+
+  @Test
+  void migrate_ShouldApplyAllMigrationsWithoutBaseline() {
+    // Act
+    MigrationInfo[] applied = flyway.info().applied();
+
+    // Assert
+    assertEquals(
+        List.of("1", "2", "3", "4"),
+        Arrays.stream(applied).map(info -> info.getVersion().getVersion()).toList());
+  }
+
+  @Test
+  void migratedSchema_ShouldIndexTasksWrittenByHibernateForSearch() {
+    // Arrange
+    Project project = new Project();
+    project.setName("Search");
+    project.setColor("#000000");
+    entityManager.persist(project);
+    Task task = new Task();
+    task.setTitle("Planning");
+    task.setDescription("Align the budget with finance");
+    task.setProject(project);
+    entityManager.persist(task);
+    entityManager.flush();
+
+    // Act
+    List<?> ids =
+        entityManager
+            .createNativeQuery(
+                "SELECT id FROM task WHERE search_vector @@ websearch_to_tsquery('english', ?)")
+            .setParameter(1, "budget")
+            .getResultList();
+
+    // Assert
+    assertEquals(List.of(task.getId()), ids.stream().map(id -> ((Number) id).longValue()).toList());
+  }
+}
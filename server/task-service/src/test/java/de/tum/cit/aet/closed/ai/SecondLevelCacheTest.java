@@ -0,0 +1,154 @@
+package de.tum.cit.aet.closed.ai;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import de.tum.cit.aet.closed.ai.cache.SecondLevelCacheEviction;
+import de.tum.cit.aet.closed.ai.event.ChangesMissedEvent;
+import de.tum.cit.aet.closed.ai.event.ProjectChangedEvent;
+import de.tum.cit.aet.closed.ai.event.UserChangedEvent;
+import de.tum.cit.aet.closed.ai.model.Project;
+import de.tum.cit.aet.closed.ai.model.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Reads users and projects through the second-level cache, configured as in
+ * application-shared.properties and with the regions of application.conf. Every read is a
+ * transaction of its own: an entry put into the cache is only read by sessions that start after it
+ * was put.
+ */
+@DataJpaTest(
+    properties = {
+      "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+      "spring.jpa.properties.hibernate.cache.region.factory_class=jcache",
+      "spring.jpa.properties.hibernate.javax.cache.provider="
+          + "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider",
+      "spring.jpa.properties.hibernate.javax.cache.missing_cache_strategy=fail",
+      "spring.jpa.properties.hibernate.generate_statistics=true"
+    })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+
+  @Autowired private EntityManager entityManager;
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  private TransactionTemplate transaction;
+  private Statistics statistics;
+  private SecondLevelCacheEviction eviction;
+  private Long userId;
+  private Long projectId;
+
+  @BeforeEach
+  void setUp() {
+    transaction = new TransactionTemplate(transactionManager);
+    statistics = entityManager.unwrap(Session.class).getSessionFactory().getStatistics();
+    eviction = new SecondLevelCacheEviction(entityManager.getEntityManagerFactory());
+
+    User user = new User();
+    user.setName("Cached user");
+    Project project = new Project();
+    project.setName("Cached project");
+    project.setColor("#000000");
+    transaction.executeWithoutResult(
+        status -> {
+          entityManager.persist(user);
+          entityManager.persist(project);
+        });
+    userId = user.getId();
+    projectId = project.getId();
+
+    // start every test with a cold cache
+    entityManager.getEntityManagerFactory().getCache().evictAll();
+    statistics.clear();
+  }
+
+  @Test
+  void findUser_ShouldQueryDatabaseOnlyOnce() {
+    find(User.class, userId);
+    User user = find(User.class, userId);
+
+    assertEquals("Cached user", user.getName());
+    assertEquals(1, statistics.getPrepareStatementCount());
+    assertRegion(User.CACHE_REGION, 1, 1);
+  }
+
+  @Test
+  void findProject_ShouldQueryDatabaseOnlyOnce() {
+    find(Project.class, projectId);
+    Project project = find(Project.class, projectId);
+
+    assertEquals("Cached project", project.getName());
+    assertEquals(1, statistics.getPrepareStatementCount());
+    assertRegion(Project.CACHE_REGION, 1, 1);
+  }
+
+  @Test
+  void findProject_AfterUpdate_ShouldReadUpdatedProjectFromCache() {
+    find(Project.class, projectId);
+    transaction.executeWithoutResult(
+        status -> entityManager.find(Project.class, projectId).setName("Renamed project"));
+    statistics.clear();
+
+    Project project = find(Project.class, projectId);
+
+    assertEquals("Renamed project", project.getName());
+    assertEquals(0, statistics.getPrepareStatementCount());
+    assertRegion(Project.CACHE_REGION, 1, 0);
+  }
+
+  @Test
+  void userChangedEvent_ShouldEvictUser() {
+    find(User.class, userId);
+
+    eviction.onUserChanged(new UserChangedEvent(userId));
+    find(User.class, userId);
+
+    assertEquals(2, statistics.getPrepareStatementCount());
+    assertRegion(User.CACHE_REGION, 0, 2);
+  }
+
+  @Test
+  void projectChangedEvent_ShouldEvictProject() {
+    find(Project.class, projectId);
+
+    eviction.onProjectChanged(new ProjectChangedEvent(projectId));
+    find(Project.class, projectId);
+
+    assertEquals(2, statistics.getPrepareStatementCount());
+    assertRegion(Project.CACHE_REGION, 0, 2);
+  }
+
+  @Test
+  void changesMissedEvent_ShouldEvictUsersAndProjects() {
+    find(User.class, userId);
+    find(Project.class, projectId);
+
+    eviction.onChangesMissed(new ChangesMissedEvent());
+    find(User.class, userId);
+    find(Project.class, projectId);
+
+    assertEquals(4, statistics.getPrepareStatementCount());
+    assertRegion(User.CACHE_REGION, 0, 2);
+    assertRegion(Project.CACHE_REGION, 0, 2);
+  }
+
+  private <T> T find(Class<T> type, Long id) {
+    return transaction.execute(status -> entityManager.find(type, id));
+  }
+
+  private void assertRegion(String region, long hits, long misses) {
+    CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+    assertEquals(hits, regionStatistics.getHitCount(), "Cache hits in region " + region);
+    assertEquals(misses, regionStatistics.getMissCount(), "Cache misses in region " + region);
+  }
+}
@@ -0,0 +1,90 @@
+package de.tum.cit.aet.closed.ai;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.tum.cit.aet.closed.ai.model.Project;
+import de.tum.cit.aet.closed.ai.model.Task;
+import de.tum.cit.aet.closed.ai.model.TaskComment;
+import de.tum.cit.aet.closed.ai.pagination.KeysetCursor;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import org.hibernate.Session;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+/**
+ * Counts the JDBC statements needed to append a comment to a task that already has many, which
+ * must not depend on the number of existing comments.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class TaskCommentStatementsTest {
+
+  private static final int EXISTING_COMMENTS = 400;
+
+  @Autowired private EntityManager entityManager;
+  @Autowired private TaskRepository taskRepository;
+  @Autowired private TaskCommentRepository taskCommentRepository;
+
+  private Statistics statistics;
+  private TaskService taskService;
+  private Long taskId;
+
+  @BeforeEach
+  void setUp() {
+    statistics = entityManager.unwrap(Session.class).getSessionFactory().getStatistics();
+    taskService = new TaskService(taskRepository, taskCommentRepository, null);
+
+    Project project = new Project();
+    project.setName("Comments");
+    project.setColor("#000000");
+    entityManager.persist(project);
+
+    Task task = new Task();
+    task.setTitle("Busy task");
+    task.setProject(project);
+    entityManager.persist(task);
+    taskId = task.getId();
+
+    for (int i = 0; i < EXISTING_COMMENTS; i++) {
+      taskService.addComment(taskId, "Comment " + i);
+    }
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  @Test
+  void addComment_ShouldNotRewriteExistingComments() {
+    statistics.clear();
+
+    taskService.addComment(taskId, "One more");
+    entityManager.flush();
+
+    assertEquals(1, statistics.getEntityInsertCount(), "Only the new comment should be inserted");
+    assertEquals(0, statistics.getEntityDeleteCount(), "No comment should be deleted");
+    // comment count update and insert, plus at most one sequence call
+    assertTrue(
+        statistics.getPrepareStatementCount() <= 3,
+        "Appending should not depend on the number of comments");
+    assertEquals(
+        EXISTING_COMMENTS + 1, taskRepository.findById(taskId).orElseThrow().getCommentCount());
+  }
+
+  @Test
+  void findComments_ShouldPageInWritingOrder() {
+    List<TaskComment> firstPage = taskService.findComments(taskId, null, 3);
+    TaskComment last = firstPage.getLast();
+    List<TaskComment> secondPage =
+        taskService.findComments(taskId, new KeysetCursor(last.getCreatedAt(), last.getId()), 3);
+
+    assertEquals(
+        List.of("Comment 0", "Comment 1", "Comment 2"),
+        firstPage.stream().map(TaskComment::getContent).toList());
+    assertEquals(
+        List.of("Comment 3", "Comment 4", "Comment 5"),
+        secondPage.stream().map(TaskComment::getContent).toList());
+  }
+}
@@ -1,33 +1,56 @@
 package de.tum.cit.aet.closed.ai;
 
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import de.tum.cit.aet.closed.ai.client.ProjectServiceClient;
 import de.tum.cit.aet.closed.ai.client.UserServiceClient;
+import de.tum.cit.aet.closed.ai.dto.BulkStatusUpdateResultDto;
 import de.tum.cit.aet.closed.ai.dto.ProjectDto;
+import de.tum.cit.aet.closed.ai.dto.TaskDto;
+import de.tum.cit.aet.closed.ai.dto.TaskSearchHitDto;
 import de.tum.cit.aet.closed.ai.dto.UserDto;
+import de.tum.cit.aet.closed.ai.etag.ETags;
+import de.tum.cit.aet.closed.ai.exception.PreconditionFailedException;
+import de.tum.cit.aet.closed.ai.exception.TaskNotFoundException;
+import de.tum.cit.aet.closed.ai.export.ExportWriter;
 import de.tum.cit.aet.closed.ai.model.Project;
 import de.tum.cit.aet.closed.ai.model.Task;
+import de.tum.cit.aet.closed.ai.model.TaskComment;
 import de.tum.cit.aet.closed.ai.model.TaskStatus;
 import de.tum.cit.aet.closed.ai.model.User;
+import de.tum.cit.aet.closed.ai.pagination.KeysetCursor;
+import de.tum.cit.aet.closed.ai.pagination.RankCursor;
+import de.tum.cit.aet.closed.ai.patch.MergePatch;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.server.ResponseStatusException;
 
 @ExtendWith(MockitoExtension.class)
 public class TaskControllerTest {
@@ -40,6 +63,12 @@ public class TaskControllerTest {
 
   @Mock private ProjectServiceClient projectServiceClient;
 
+  @Mock private TaskSearchService taskSearchService;
+
+  @Spy private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+  @Spy private ConcurrentCalls concurrentCalls = new ConcurrentCalls(16, Duration.ofSeconds(5));
+
   @InjectMocks private TaskController taskController;
 
   private Task testTask1;
@@ -76,7 +105,7 @@ public class TaskControllerTest {
     testTask1.setTitle("Test Task 1");
     testTask1.setDescription("Description 1");
     testTask1.setStatus(TaskStatus.OPEN);
-    testTask1.setComments(Collections.singletonList("Comment 1"));
+    testTask1.setCommentCount(1);
     testTask1.setAttachments(Collections.singletonList("Attachment 1"));
     testTask1.setAssignee(testUser);
     testTask1.setProject(testProject);
@@ -86,7 +115,6 @@ public class TaskControllerTest {
     testTask2.setTitle("Test Task 2");
     testTask2.setDescription("Description 2");
     testTask2.setStatus(TaskStatus.IN_PROGRESS);
-    testTask2.setComments(Collections.singletonList("Comment 2"));
     testTask2.setAttachments(Collections.singletonList("Attachment 2"));
     testTask2.setAssignee(testUser);
     testTask2.setProject(testProject);
@@ -95,9 +123,9 @@ public class TaskControllerTest {
   }
 
   @Test
-  void getAllTasks_ShouldReturnAllTasks() throws Exception {
+  void getAllTasks_WithoutLimitOrCursor_ShouldReturnAllTasks() throws Exception {
     // Mock service method
-    when(taskService.findAll()).thenReturn(taskList);
+    when(taskService.findAll(null, null, null)).thenReturn(taskList);
 
     // Perform GET request and validate response
     mockMvc
@@ -113,21 +141,88 @@ public class TaskControllerTest {
         .andExpect(jsonPath("$[1].title", is("Test Task 2")))
         .andExpect(jsonPath("$[1].description", is("Description 2")))
         .andExpect(jsonPath("$[1].taskStatus", is("IN_PROGRESS")))
-        .andExpect(jsonPath("$[1].assigneeId", is(1)));
+        .andExpect(jsonPath("$[1].assigneeId", is(1)))
+        .andExpect(header().doesNotExist(KeysetCursor.NEXT_CURSOR_HEADER));
 
     // Verify service method was called
-    verify(taskService, times(1)).findAll();
+    verify(taskService, times(1)).findAll(null, null, null);
+    verify(taskService, never()).findPage(any(), any(), any(), any(), anyInt());
+  }
+
+  @Test
+  void getAllTasks_WithCursorOnly_ShouldReturnDefaultPageSize() throws Exception {
+    // Arrange
+    KeysetCursor cursor = new KeysetCursor(Instant.parse("2025-06-01T10:00:00Z"), 5L);
+    when(taskService.findPage(null, null, null, cursor, TaskController.DEFAULT_PAGE_SIZE + 1))
+        .thenReturn(List.of(testTask2));
+
+    // Perform GET request and validate response
+    mockMvc
+        .perform(get("/tasks").param("cursor", cursor.encode()))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", hasSize(1)))
+        .andExpect(header().doesNotExist(KeysetCursor.NEXT_CURSOR_HEADER));
+  }
+
+  @Test
+  void getAllTasks_WhenMoreTasksExist_ShouldReturnNextCursor() throws Exception {
+    // Arrange
+    Instant updatedAt = Instant.parse("2025-06-01T10:00:00Z");
+    testTask1.setUpdatedAt(updatedAt);
+    when(taskService.findPage(TaskStatus.OPEN, 1L, 1L, null, 2)).thenReturn(taskList);
+
+    // Perform GET request and validate response
+    mockMvc
+        .perform(
+            get("/tasks")
+                .param("status", "OPEN")
+                .param("assigneeId", "1")
+                .param("projectId", "1")
+                .param("limit", "1"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", hasSize(1)))
+        .andExpect(jsonPath("$[0].id", is(1)))
+        .andExpect(
+            header()
+                .string(
+                    KeysetCursor.NEXT_CURSOR_HEADER, new KeysetCursor(updatedAt, 1L).encode()));
+  }
+
+  @Test
+  void getAllTasks_WithCursor_ShouldContinueAfterCursor() throws Exception {
+    // Arrange
+    KeysetCursor cursor = new KeysetCursor(Instant.parse("2025-06-01T10:00:00Z"), 5L);
+    when(taskService.findPage(null, null, null, cursor, TaskController.MAX_PAGE_SIZE + 1))
+        .thenReturn(List.of(testTask2));
+
+    // Perform GET request and validate response
+    mockMvc
+        .perform(get("/tasks").param("cursor", cursor.encode()).param("limit", "100000"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", hasSize(1)))
+        .andExpect(jsonPath("$[0].id", is(2)));
+  }
+
+  @Test
+  void getAllTasks_WithMalformedCursor_ShouldReturnBadRequest() throws Exception {
+    mockMvc.perform(get("/tasks").param("cursor", "%%%")).andExpect(status().isBadRequest());
+
+    verify(taskService, never()).findPage(any(), any(), any(), any(), anyInt());
   }
 
   @Test
   void getTaskById_WhenTaskExists_ShouldReturnTask() throws Exception {
     // Mock service method
+    Instant updatedAt = Instant.parse("2025-06-01T10:00:00Z");
+    when(taskService.findUpdatedAt(1L)).thenReturn(Optional.of(updatedAt));
     when(taskService.findById(1L)).thenReturn(Optional.of(testTask1));
 
     // Perform GET request and validate response
     mockMvc
         .perform(get("/tasks/1"))
         .andExpect(status().isOk())
+        .andExpect(header().string("ETag", ETags.of(1L, updatedAt)))
+        .andExpect(header().exists("Last-Modified"))
         .andExpect(jsonPath("$.id", is(1)))
         .andExpect(jsonPath("$.title", is("Test Task 1")))
         .andExpect(jsonPath("$.description", is("Description 1")))
@@ -141,13 +236,59 @@ public class TaskControllerTest {
   @Test
   void getTaskById_WhenTaskDoesNotExist_ShouldReturnNotFound() throws Exception {
     // Mock service method
-    when(taskService.findById(99L)).thenReturn(Optional.empty());
+    when(taskService.findUpdatedAt(99L)).thenReturn(Optional.empty());
 
     // Perform GET request and validate response
     mockMvc.perform(get("/tasks/99")).andExpect(status().isNotFound());
 
-    // Verify service method was called
-    verify(taskService, times(1)).findById(99L);
+    // Verify the task was never loaded
+    verify(taskService, never()).findById(anyLong());
+  }
+
+  @Test
+  void getTaskById_WhenETagMatches_ShouldReturnNotModifiedWithoutLoadingTask() throws Exception {
+    // Mock service method
+    Instant updatedAt = Instant.parse("2025-06-01T10:00:00Z");
+    when(taskService.findUpdatedAt(1L)).thenReturn(Optional.of(updatedAt));
+
+    // Perform conditional GET request and validate response
+    mockMvc
+        .perform(get("/tasks/1").header("If-None-Match", ETags.of(1L, updatedAt)))
+        .andExpect(status().isNotModified())
+        .andExpect(content().string(""));
+
+    // Verify the task was never loaded
+    verify(taskService, never()).findById(anyLong());
+  }
+
+  @Test
+  void getTaskById_WhenNotModifiedSince_ShouldReturnNotModified() throws Exception {
+    // Mock service method
+    when(taskService.findUpdatedAt(1L))
+        .thenReturn(Optional.of(Instant.parse("2025-06-01T10:00:00Z")));
+
+    // Perform conditional GET request and validate response
+    mockMvc
+        .perform(get("/tasks/1").header("If-Modified-Since", "Sun, 01 Jun 2025 10:00:00 GMT"))
+        .andExpect(status().isNotModified());
+
+    verify(taskService, never()).findById(anyLong());
+  }
+
+  @Test
+  void getAllTasks_WhenETagMatches_ShouldReturnNotModifiedWithoutLoadingPage() throws Exception {
+    // Mock service method
+    when(taskService.listETag(TaskStatus.OPEN, null, null)).thenReturn("\"2-1748772000000000\"");
+
+    // Perform conditional GET request and validate response
+    mockMvc
+        .perform(
+            get("/tasks").param("status", "OPEN").header("If-None-Match", "\"2-1748772000000000\""))
+        .andExpect(status().isNotModified());
+
+    // Verify the tasks were never loaded
+    verify(taskService, never()).findAll(any(), any(), any());
+    verify(taskService, never()).findPage(any(), any(), any(), any(), anyInt());
   }
 
   @Test
@@ -155,7 +296,7 @@ public class TaskControllerTest {
     // Mock service methods
     when(taskService.findById(1L)).thenReturn(Optional.of(testTask1));
     when(userServiceClient.findById(2L)).thenReturn(Optional.of(UserDto.fromUser(testUser2)));
-    when(taskService.save(any(Task.class))).thenReturn(testTask1);
+    when(taskService.update(any(Task.class))).thenReturn(testTask1);
 
     // Perform PUT request and validate response
     mockMvc
@@ -169,11 +310,52 @@ public class TaskControllerTest {
         .andExpect(jsonPath("$.title", is("Updated Task")))
         .andExpect(jsonPath("$.description", is("Updated Description")))
         .andExpect(jsonPath("$.taskStatus", is("IN_PROGRESS")))
-        .andExpect(jsonPath("$.assigneeId", is(2)));
+        .andExpect(jsonPath("$.assigneeId", is(2)))
+        // comments are only added through POST /tasks/{id}/comments
+        .andExpect(jsonPath("$.comments", hasSize(0)))
+        .andExpect(jsonPath("$.commentCount", is(1)));
 
     // Verify service methods were called
     verify(taskService, times(1)).findById(1L);
-    verify(taskService, times(1)).save(any(Task.class));
+    verify(taskService, times(1)).update(any(Task.class));
+  }
+
+  @Test
+  void updateTask_WithUnchangedAssignee_ShouldNotLookUpAssignee() throws Exception {
+    // Mock service methods
+    when(taskService.findById(1L)).thenReturn(Optional.of(testTask1));
+    when(taskService.update(testTask1)).thenReturn(testTask1);
+
+    // Perform PUT request and validate response
+    mockMvc
+        .perform(
+            put("/tasks/1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"Updated Task\",\"taskStatus\":\"DONE\",\"assigneeId\":1}"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.assigneeId", is(1)));
+
+    // Verify user-service was not asked for the current assignee
+    verifyNoInteractions(userServiceClient);
+  }
+
+  @Test
+  void updateTask_WhenIfMatchIsStale_ShouldReturnPreconditionFailed() throws Exception {
+    // Mock service method
+    testTask1.setUpdatedAt(Instant.parse("2025-06-01T10:00:00Z"));
+    when(taskService.findById(1L)).thenReturn(Optional.of(testTask1));
+
+    // Perform conditional PUT request and validate response
+    mockMvc
+        .perform(
+            put("/tasks/1")
+                .header("If-Match", ETags.of(1L, Instant.parse("2025-05-01T10:00:00Z")))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"Updated Task\",\"taskStatus\":\"DONE\"}"))
+        .andExpect(status().isPreconditionFailed());
+
+    // Verify the task was not written
+    verify(taskService, never()).update(any(Task.class));
   }
 
   @Test
@@ -192,7 +374,144 @@ public class TaskControllerTest {
 
     // Verify service method was called
     verify(taskService, times(1)).findById(99L);
-    verify(taskService, never()).save(any(Task.class));
+    verify(taskService, never()).update(any(Task.class));
+  }
+
+  @Test
+  void patchTask_ShouldOnlyChangeSuppliedFields() throws Exception {
+    // Mock service methods
+    Instant updatedAt = Instant.parse("2025-06-01T10:00:00Z");
+    testTask1.setUpdatedAt(updatedAt);
+    when(taskService.findById(1L)).thenReturn(Optional.of(testTask1));
+    when(taskService.update(testTask1)).thenReturn(testTask1);
+
+    // Perform PATCH request and validate response
+    mockMvc
+        .perform(
+            patch("/tasks/1")
+                .header("If-Match", ETags.of(1L, updatedAt))
+                .contentType(MergePatch.MEDIA_TYPE)
+                .content("{\"title\":\"Patched Task\",\"description\":null}"))
+        .andExpect(status().isOk())
+        .andExpect(header().string("ETag", ETags.of(1L, updatedAt)))
+        .andExpect(jsonPath("$.title", is("Patched Task")))
+        .andExpect(jsonPath("$.description", nullValue()))
+        .andExpect(jsonPath("$.taskStatus", is("OPEN")))
+        .andExpect(jsonPath("$.attachments", contains("Attachment 1")))
+        .andExpect(jsonPath("$.assigneeId", is(1)));
+
+    // Verify the assignee was not looked up again
+    verifyNoInteractions(userServiceClient);
+  }
+
+  @Test
+  void patchTask_WithAssigneeId_ShouldReplaceAssignee() throws Exception {
+    // Mock service methods
+    when(taskService.findById(1L)).thenReturn(Optional.of(testTask1));
+    when(userServiceClient.findById(2L)).thenReturn(Optional.of(UserDto.fromUser(testUser2)));
+    when(taskService.update(testTask1)).thenReturn(testTask1);
+
+    // Perform PATCH request and validate response
+    mockMvc
+        .perform(
+            patch("/tasks/1").contentType(MergePatch.MEDIA_TYPE).content("{\"assigneeId\":2}"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.title", is("Test Task 1")))
+        .andExpect(jsonPath("$.assigneeId", is(2)));
+  }
+
+  @Test
+  void patchTask_WhenTaskDoesNotExist_ShouldCancelAssigneeLookup() throws Exception {
+    // Mock service methods: the assignee lookup blocks until it is cancelled
+    CountDownLatch lookupStarted = new CountDownLatch(1);
+    CountDownLatch lookupInterrupted = new CountDownLatch(1);
+    when(userServiceClient.findById(2L))
+        .thenAnswer(
+            invocation -> {
+              lookupStarted.countDown();
+              try {
+                Thread.sleep(Duration.ofSeconds(10));
+              } catch (InterruptedException e) {
+                lookupInterrupted.countDown();
+              }
+              return Optional.empty();
+            });
+    when(taskService.findById(99L))
+        .thenAnswer(
+            invocation -> {
+              lookupStarted.await(5, TimeUnit.SECONDS);
+              return Optional.empty();
+            });
+
+    // Perform PATCH request and validate response
+    mockMvc
+        .perform(
+            patch("/tasks/99").contentType(MergePatch.MEDIA_TYPE).content("{\"assigneeId\":2}"))
+        .andExpect(status().isNotFound());
+
+    // Verify the lookup was interrupted instead of outliving the request
+    assertThat(lookupInterrupted.await(5, TimeUnit.SECONDS), is(true));
+  }
+
+  @Test
+  void patchTask_WhenIfMatchIsStale_ShouldReturnPreconditionFailed() throws Exception {
+    // Mock service method
+    testTask1.setUpdatedAt(Instant.parse("2025-06-01T10:00:00Z"));
+    when(taskService.findById(1L)).thenReturn(Optional.of(testTask1));
+
+    // Perform conditional PATCH request and validate response
+    mockMvc
+        .perform(
+            patch("/tasks/1")
+                .header("If-Match", ETags.of(1L, Instant.parse("2025-05-01T10:00:00Z")))
+                .contentType(MergePatch.MEDIA_TYPE)
+                .content("{\"title\":\"Patched Task\"}"))
+        .andExpect(status().isPreconditionFailed());
+
+    // Verify the task was not written
+    verify(taskService, never()).update(any(Task.class));
+  }
+
+  @Test
+  void patchTask_WhenChangedConcurrently_ShouldReturnPreconditionFailed() throws Exception {
+    // Mock service methods
+    when(taskService.findById(1L)).thenReturn(Optional.of(testTask1));
+    when(taskService.update(testTask1))
+        .thenThrow(new PreconditionFailedException("Task 1 was changed concurrently"));
+
+    // Perform PATCH request and validate response
+    mockMvc
+        .perform(
+            patch("/tasks/1")
+                .contentType(MergePatch.MEDIA_TYPE)
+                .content("{\"taskStatus\":\"DONE\"}"))
+        .andExpect(status().isPreconditionFailed());
+  }
+
+  @Test
+  void patchTask_WithReadOnlyField_ShouldReturnBadRequest() throws Exception {
+    // Perform PATCH request and validate response
+    mockMvc
+        .perform(
+            patch("/tasks/1").contentType(MergePatch.MEDIA_TYPE).content("{\"commentCount\":5}"))
+        .andExpect(status().isBadRequest());
+
+    // Verify the task was never loaded
+    verify(taskService, never()).findById(anyLong());
+  }
+
+  @Test
+  void patchTask_WhenTitleIsRemoved_ShouldReturnBadRequest() throws Exception {
+    // Mock service method
+    when(taskService.findById(1L)).thenReturn(Optional.of(testTask1));
+
+    // Perform PATCH request and validate response
+    mockMvc
+        .perform(patch("/tasks/1").contentType(MergePatch.MEDIA_TYPE).content("{\"title\":null}"))
+        .andExpect(status().isBadRequest());
+
+    // Verify the task was not written
+    verify(taskService, never()).update(any(Task.class));
   }
 
   @Test
@@ -248,11 +567,158 @@ public class TaskControllerTest {
     verify(taskService, times(1)).setStatus(1L, TaskStatus.DONE);
   }
 
+  @Test
+  void changeStatuses_ShouldUpdateAllTasksInOneCall() throws Exception {
+    // Mock service method
+    when(taskService.setStatus(List.of(1L, 2L, 99L), TaskStatus.DONE))
+        .thenReturn(new BulkStatusUpdateResultDto(TaskStatus.DONE, List.of(1L, 2L), List.of(99L)));
+
+    // Perform PATCH request and validate response
+    mockMvc
+        .perform(
+            patch("/tasks/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"taskIds\":[1,2,99],\"status\":\"DONE\"}"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.status", is("DONE")))
+        .andExpect(jsonPath("$.updatedIds", contains(1, 2)))
+        .andExpect(jsonPath("$.notFoundIds", contains(99)));
+
+    // Verify service method was called
+    verify(taskService, times(1)).setStatus(List.of(1L, 2L, 99L), TaskStatus.DONE);
+  }
+
+  @Test
+  void changeStatuses_WithoutStatus_ShouldReturnBadRequest() throws Exception {
+    mockMvc
+        .perform(
+            patch("/tasks/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"taskIds\":[1,2]}"))
+        .andExpect(status().isBadRequest());
+
+    verify(taskService, never()).setStatus(anyList(), any(TaskStatus.class));
+  }
+
+  @Test
+  void changeStatuses_WithTooManyTasks_ShouldReturnBadRequest() throws Exception {
+    String ids = String.join(",", Collections.nCopies(TaskController.MAX_BULK_SIZE + 1, "1"));
+
+    mockMvc
+        .perform(
+            patch("/tasks/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"taskIds\":[" + ids + "],\"status\":\"DONE\"}"))
+        .andExpect(status().isBadRequest());
+
+    verify(taskService, never()).setStatus(anyList(), any(TaskStatus.class));
+  }
+
+  @Test
+  void searchTasks_WhenMoreHitsExist_ShouldReturnHighlightsAndNextCursor() throws Exception {
+    // Mock service method
+    when(taskSearchService.search("budget", null, 2))
+        .thenReturn(
+            List.of(
+                new TaskSearchHitDto(TaskDto.fromTask(testTask1), "<mark>budget</mark>", 0.5f),
+                new TaskSearchHitDto(TaskDto.fromTask(testTask2), null, 0.25f)));
+
+    // Perform GET request and validate response
+    mockMvc
+        .perform(get("/tasks/search").param("q", " budget ").param("limit", "1"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", hasSize(1)))
+        .andExpect(jsonPath("$[0].task.id", is(1)))
+        .andExpect(jsonPath("$[0].highlight", is("<mark>budget</mark>")))
+        .andExpect(
+            header().string(KeysetCursor.NEXT_CURSOR_HEADER, new RankCursor(0.5f, 1L).encode()));
+  }
+
+  @Test
+  void searchTasks_WithCursor_ShouldContinueAfterCursor() throws Exception {
+    // Mock service method
+    RankCursor cursor = new RankCursor(0.5f, 1L);
+    when(taskSearchService.search("budget", cursor, TaskController.DEFAULT_SEARCH_PAGE_SIZE + 1))
+        .thenReturn(List.of());
+
+    // Perform GET request and validate response
+    mockMvc
+        .perform(get("/tasks/search").param("q", "budget").param("cursor", cursor.encode()))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", hasSize(0)))
+        .andExpect(header().doesNotExist(KeysetCursor.NEXT_CURSOR_HEADER));
+  }
+
+  @Test
+  void searchTasks_WithBlankQuery_ShouldReturnBadRequest() throws Exception {
+    // Perform GET request and validate response
+    mockMvc.perform(get("/tasks/search").param("q", "  ")).andExpect(status().isBadRequest());
+
+    // Verify no search was run
+    verifyNoInteractions(taskSearchService);
+  }
+
+  @Test
+  void exportTasks_ShouldStreamOneJsonLinePerTask() throws Exception {
+    // Mock service method
+    doAnswer(
+            invocation -> {
+              ExportWriter<TaskDto> writer = invocation.getArgument(0);
+              writer.write(TaskDto.fromTask(testTask1));
+              writer.write(TaskDto.fromTask(testTask2));
+              return null;
+            })
+        .when(taskService)
+        .export(any());
+
+    // Perform GET request and validate response
+    String body =
+        mockMvc
+            .perform(get("/tasks/export"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+            .andExpect(header().string("Content-Disposition", containsString("tasks.ndjson")))
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+    String[] lines = body.split("\n");
+    assertThat(lines.length, is(2));
+    assertThat(objectMapper.readValue(lines[0], TaskDto.class).id(), is(1L));
+    assertThat(objectMapper.readValue(lines[1], TaskDto.class).id(), is(2L));
+  }
+
+  @Test
+  void exportTasks_AsCsv_ShouldWriteHeaderAndRows() throws Exception {
+    // Mock service method
+    doAnswer(
+            invocation -> {
+              ExportWriter<TaskDto> writer = invocation.getArgument(0);
+              writer.write(TaskDto.fromTask(testTask1));
+              return null;
+            })
+        .when(taskService)
+        .export(any());
+
+    // Perform GET request and validate response
+    mockMvc
+        .perform(get("/tasks/export").param("format", "CSV"))
+        .andExpect(status().isOk())
+        .andExpect(content().contentTypeCompatibleWith("text/csv"))
+        .andExpect(
+            content()
+                .string(
+                    startsWith(
+                        "id,title,description,status,createdAt,updatedAt,assigneeId,commentCount,"
+                            + "attachments\r\n1,Test Task 1,")));
+  }
+
   @Test
   void getTasksByAssignee_WhenUserExists_ShouldReturnTasks() throws Exception {
     // Mock service methods
     when(userServiceClient.findById(1L)).thenReturn(Optional.of(UserDto.fromUser(testUser)));
-    when(taskService.findByAssignee(1L)).thenReturn(taskList);
+    when(taskService.findDtosByAssignee(1L))
+        .thenReturn(taskList.stream().map(TaskDto::fromTask).toList());
 
     // Perform GET request and validate response
     mockMvc
@@ -266,7 +732,7 @@ public class TaskControllerTest {
 
     // Verify service methods were called
     verify(userServiceClient, times(1)).findById(1L);
-    verify(taskService, times(1)).findByAssignee(1L);
+    verify(taskService, times(1)).findDtosByAssignee(1L);
   }
 
   @Test
@@ -275,11 +741,52 @@ public class TaskControllerTest {
     when(userServiceClient.findById(99L)).thenReturn(Optional.empty());
 
     // Perform GET request and validate response
-    mockMvc.perform(get("/tasks/by-assignee/99")).andExpect(status().isNotFound());
+    mockMvc
+        .perform(get("/tasks/by-assignee/99"))
+        .andExpect(status().isNotFound())
+        .andExpect(header().doesNotExist("ETag"));
 
     // Verify service method was called
     verify(userServiceClient, times(1)).findById(99L);
-    verify(taskService, never()).findByAssignee(anyLong());
+  }
+
+  @Test
+  void getTasksByAssignee_ShouldLoadTasksWhileUserServiceAnswers() throws Exception {
+    // Mock service methods: user-service only answers once the tasks are being loaded
+    CountDownLatch tasksLoading = new CountDownLatch(1);
+    when(userServiceClient.findById(1L))
+        .thenAnswer(
+            invocation -> {
+              if (!tasksLoading.await(5, TimeUnit.SECONDS)) {
+                throw new AssertionError("Tasks were not loaded concurrently");
+              }
+              return Optional.of(UserDto.fromUser(testUser));
+            });
+    when(taskService.findDtosByAssignee(1L))
+        .thenAnswer(
+            invocation -> {
+              tasksLoading.countDown();
+              return taskList.stream().map(TaskDto::fromTask).toList();
+            });
+
+    // Perform GET request and validate response
+    mockMvc
+        .perform(get("/tasks/by-assignee/1"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", hasSize(2)));
+
+    // Verify the tasks were loaded only once
+    verify(taskService, times(1)).findDtosByAssignee(1L);
+  }
+
+  @Test
+  void getTasksByAssignee_WhenUserServiceFails_ShouldNotReturnTasks() throws Exception {
+    // Mock service method
+    when(userServiceClient.findById(1L))
+        .thenThrow(new ResponseStatusException(HttpStatus.BAD_GATEWAY));
+
+    // Perform GET request and validate response
+    mockMvc.perform(get("/tasks/by-assignee/1")).andExpect(status().isBadGateway());
   }
 
   @Test
@@ -287,12 +794,15 @@ public class TaskControllerTest {
     // Mock service methods
     when(projectServiceClient.findById(1L))
         .thenReturn(Optional.of(ProjectDto.fromProject(testProject)));
-    when(taskService.findByProject(1L)).thenReturn(taskList);
+    when(taskService.listETag(null, null, 1L)).thenReturn("\"2-1748772000000000\"");
+    when(taskService.findDtosByProject(1L))
+        .thenReturn(taskList.stream().map(TaskDto::fromTask).toList());
 
     // Perform GET request and validate response
     mockMvc
         .perform(get("/tasks/by-project/1"))
         .andExpect(status().isOk())
+        .andExpect(header().string("ETag", "\"2-1748772000000000\""))
         .andExpect(jsonPath("$", hasSize(2)))
         .andExpect(jsonPath("$[0].id", is(1)))
         .andExpect(jsonPath("$[0].title", is("Test Task 1")))
@@ -301,7 +811,23 @@ public class TaskControllerTest {
 
     // Verify service methods were called
     verify(projectServiceClient, times(1)).findById(1L);
-    verify(taskService, times(1)).findByProject(1L);
+    verify(taskService, times(1)).findDtosByProject(1L);
+  }
+
+  @Test
+  void getTasksByProject_WhenETagMatches_ShouldReturnNotModified() throws Exception {
+    // Mock service methods
+    when(projectServiceClient.findById(1L))
+        .thenReturn(Optional.of(ProjectDto.fromProject(testProject)));
+    when(taskService.listETag(null, null, 1L)).thenReturn("\"2-1748772000000000\"");
+
+    // Perform conditional GET request and validate response
+    mockMvc
+        .perform(get("/tasks/by-project/1").header("If-None-Match", "\"2-1748772000000000\""))
+        .andExpect(status().isNotModified());
+
+    // Verify the tasks were never loaded
+    verify(taskService, never()).findDtosByProject(anyLong());
   }
 
   @Test
@@ -310,10 +836,117 @@ public class TaskControllerTest {
     when(projectServiceClient.findById(99L)).thenReturn(Optional.empty());
 
     // Perform GET request and validate response
-    mockMvc.perform(get("/tasks/by-project/99")).andExpect(status().isNotFound());
+    mockMvc
+        .perform(get("/tasks/by-project/99"))
+        .andExpect(status().isNotFound())
+        .andExpect(header().doesNotExist("ETag"));
 
     // Verify service method was called
     verify(projectServiceClient, times(1)).findById(99L);
-    verify(taskService, never()).findByProject(anyLong());
+  }
+
+  @Test
+  void getTasksByProject_WhenETagMatchesButProjectDoesNotExist_ShouldReturnNotFound()
+      throws Exception {
+    // Mock service methods
+    when(projectServiceClient.findById(99L)).thenReturn(Optional.empty());
+    when(taskService.listETag(null, null, 99L)).thenReturn("\"0-0\"");
+
+    // Perform conditional GET request and validate response
+    mockMvc
+        .perform(get("/tasks/by-project/99").header("If-None-Match", "\"0-0\""))
+        .andExpect(status().isNotFound());
+
+    // Verify the tasks were never loaded
+    verify(taskService, never()).findDtosByProject(anyLong());
+  }
+
+  @Test
+  void addComment_ShouldReturnCreatedComment() throws Exception {
+    // Mock service method
+    TaskComment comment = comment(10L, "Looks good");
+    when(taskService.addComment(1L, "Looks good")).thenReturn(comment);
+
+    // Perform POST request and validate response
+    mockMvc
+        .perform(
+            post("/tasks/1/comments")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"content\":\"Looks good\"}"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.id", is(10)))
+        .andExpect(jsonPath("$.taskId", is(1)))
+        .andExpect(jsonPath("$.content", is("Looks good")));
+
+    // Verify the task was never loaded
+    verify(taskService, never()).findById(anyLong());
+  }
+
+  @Test
+  void addComment_WithBlankContent_ShouldReturnBadRequest() throws Exception {
+    // Perform POST request and validate response
+    mockMvc
+        .perform(
+            post("/tasks/1/comments")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"content\":\"  \"}"))
+        .andExpect(status().isBadRequest());
+
+    // Verify service method was never called
+    verify(taskService, never()).addComment(anyLong(), anyString());
+  }
+
+  @Test
+  void addComment_WhenTaskDoesNotExist_ShouldReturnNotFound() throws Exception {
+    // Mock service method
+    when(taskService.addComment(99L, "Hello"))
+        .thenThrow(new TaskNotFoundException("No Task found with ID 99"));
+
+    // Perform POST request and validate response
+    mockMvc
+        .perform(
+            post("/tasks/99/comments")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"content\":\"Hello\"}"))
+        .andExpect(status().isNotFound());
+  }
+
+  @Test
+  void getComments_WhenMoreCommentsExist_ShouldReturnNextCursor() throws Exception {
+    // Mock service method
+    TaskComment first = comment(10L, "First");
+    TaskComment second = comment(11L, "Second");
+    when(taskService.findComments(1L, null, 2)).thenReturn(List.of(first, second));
+
+    // Perform GET request and validate response
+    mockMvc
+        .perform(get("/tasks/1/comments").param("limit", "1"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", hasSize(1)))
+        .andExpect(jsonPath("$[0].content", is("First")))
+        .andExpect(
+            header()
+                .string(
+                    KeysetCursor.NEXT_CURSOR_HEADER,
+                    new KeysetCursor(first.getCreatedAt(), 10L).encode()));
+  }
+
+  @Test
+  void getComments_WhenTaskDoesNotExist_ShouldReturnNotFound() throws Exception {
+    // Mock service method
+    when(taskService.findComments(99L, null, TaskController.DEFAULT_PAGE_SIZE + 1))
+        .thenThrow(new TaskNotFoundException("No Task found with ID 99"));
+
+    // Perform GET request and validate response
+    mockMvc.perform(get("/tasks/99/comments")).andExpect(status().isNotFound());
+  }
+
+  private TaskComment comment(Long id, String content) {
+    TaskComment comment = new TaskComment();
+    comment.setId(id);
+    comment.setTask(testTask1);
+    comment.setContent(content);
+    comment.setCreatedAt(Instant.parse("2025-06-01T10:00:00Z").plusSeconds(id));
+    return comment;
   }
 }
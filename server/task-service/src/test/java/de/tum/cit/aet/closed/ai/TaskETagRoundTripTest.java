@@ -0,0 +1,124 @@
+package de.tum.cit.aet.closed.ai;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import de.tum.cit.aet.closed.ai.model.Project;
+import de.tum.cit.aet.closed.ai.model.Task;
+import de.tum.cit.aet.closed.ai.model.TaskStatus;
+import de.tum.cit.aet.closed.ai.patch.MergePatch;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Updates a task stored in PostgreSQL and reads it back. The ETag returned by PUT and PATCH has to
+ * be the one GET computes from the stored row, or the next conditional update fails with 412. The
+ * round trip is repeated, as a timestamp that PostgreSQL rounds differently only shows up in about
+ * every other update.
+ */
+@SpringBootTest(
+    properties = {"spring.flyway.enabled=true", "spring.jpa.hibernate.ddl-auto=validate"})
+@AutoConfigureMockMvc
+@Testcontainers(disabledWithoutDocker = true)
+class TaskETagRoundTripTest {
+
+  private static final int ROUND_TRIPS = 20;
+
+  @Container @ServiceConnection
+  static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+  @Autowired private MockMvc mockMvc;
+  @Autowired private EntityManager entityManager;
+  @Autowired private TransactionTemplate transactionTemplate;
+
+  private Long taskId;
+
+  @BeforeEach
+  void setUp() {
+    taskId =
+        transactionTemplate.execute(
+            status -> {
+              Project project = new Project();
+              project.setName("Round trip");
+              project.setColor("#000000");
+              entityManager.persist(project);
+              Task task = new Task();
+              task.setTitle("Task");
+              task.setStatus(TaskStatus.OPEN);
+              task.setProject(project);
+              entityManager.persist(task);
+              return task.getId();
+            });
+  }
+
+  @Test
+  void updateTask_ShouldReturnETagOfStoredTask() throws Exception {
+    String etag = getETag();
+    for (int i = 0; i < ROUND_TRIPS; i++) {
+      // Act
+      String updated =
+          writeETag(
+              put("/tasks/" + taskId)
+                  .header(HttpHeaders.IF_MATCH, etag)
+                  .contentType(MediaType.APPLICATION_JSON)
+                  .content(
+                      "{\"title\":\"Task " + i + "\",\"taskStatus\":\"OPEN\",\"attachments\":[]}"));
+      etag = getETag();
+
+      // Assert
+      assertEquals(updated, etag, "ETag of PUT " + i + " should match the stored task");
+    }
+  }
+
+  @Test
+  void patchTask_ShouldReturnETagOfStoredTask() throws Exception {
+    String etag = getETag();
+    for (int i = 0; i < ROUND_TRIPS; i++) {
+      // Act
+      String patched =
+          writeETag(
+              patch("/tasks/" + taskId)
+                  .header(HttpHeaders.IF_MATCH, etag)
+                  .contentType(MergePatch.MEDIA_TYPE)
+                  .content("{\"title\":\"Task " + i + "\"}"));
+      etag = getETag();
+
+      // Assert
+      assertEquals(patched, etag, "ETag of PATCH " + i + " should match the stored task");
+    }
+  }
+
+  private String getETag() throws Exception {
+    return mockMvc
+        .perform(get("/tasks/" + taskId))
+        .andExpect(status().isOk())
+        .andReturn()
+        .getResponse()
+        .getHeader(HttpHeaders.ETAG);
+  }
+
+  private String writeETag(RequestBuilder request) throws Exception {
+    return mockMvc
+        .perform(request)
+        .andExpect(status().isOk())
+        .andReturn()
+        .getResponse()
+        .getHeader(HttpHeaders.ETAG);
+  }
+}
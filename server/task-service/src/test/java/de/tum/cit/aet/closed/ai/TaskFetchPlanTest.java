@@ -0,0 +1,157 @@
+package de.tum.cit.aet.closed.ai;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import de.tum.cit.aet.closed.ai.dto.TaskDto;
+import de.tum.cit.aet.closed.ai.export.ExportWriter;
+import de.tum.cit.aet.closed.ai.model.Project;
+import de.tum.cit.aet.closed.ai.model.Task;
+import de.tum.cit.aet.closed.ai.model.TaskStatus;
+import de.tum.cit.aet.closed.ai.model.User;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import org.hibernate.Session;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * Counts the JDBC statements needed to load task lists and turn them into {@link TaskDto}s, which
+ * touches the attachments of every task. One query for the tasks plus one for the attachments is
+ * expected, however many tasks are returned; comments are not read at all.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class TaskFetchPlanTest {
+
+  private static final int TASK_COUNT = 60;
+  private static final long EXPECTED_STATEMENTS = 2;
+
+  @Autowired private EntityManager entityManager;
+  @Autowired private TaskRepository taskRepository;
+
+  private Statistics statistics;
+  private Project project;
+  private User assignee;
+
+  @BeforeEach
+  void setUp() {
+    statistics = entityManager.unwrap(Session.class).getSessionFactory().getStatistics();
+
+    project = new Project();
+    project.setName("Fetch plan");
+    project.setColor("#000000");
+    entityManager.persist(project);
+
+    assignee = new User();
+    assignee.setName("Assignee");
+    entityManager.persist(assignee);
+
+    for (int i = 0; i < TASK_COUNT; i++) {
+      Task task = new Task();
+      task.setTitle("Task " + i);
+      task.setStatus(TaskStatus.OPEN);
+      task.setProject(project);
+      task.setAssignee(assignee);
+      task.setCommentCount(2);
+      task.addAttachment("attachment-" + i + ".pdf");
+      entityManager.persist(task);
+    }
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  @Test
+  void findAll_ShouldLoadCollectionsInConstantQueries() {
+    assertStatements(() -> taskRepository.findAll(), TASK_COUNT);
+  }
+
+  @Test
+  void findByProjectId_ShouldLoadCollectionsInConstantQueries() {
+    assertStatements(() -> taskRepository.findByProjectId(project.getId()), TASK_COUNT);
+  }
+
+  @Test
+  void findByAssigneeId_ShouldLoadCollectionsInConstantQueries() {
+    assertStatements(() -> taskRepository.findByAssigneeId(assignee.getId()), TASK_COUNT);
+  }
+
+  @Test
+  void findByStatus_ShouldLoadCollectionsInConstantQueries() {
+    assertStatements(() -> taskRepository.findByStatus(TaskStatus.OPEN), TASK_COUNT);
+  }
+
+  @Test
+  void findPage_ShouldLoadCollectionsInConstantQueries() {
+    assertStatements(
+        () -> taskRepository.findPage(null, null, null, null, null, PageRequest.of(0, 25)), 25);
+  }
+
+  @Test
+  void findDtosByProject_ShouldNotHydrateEntities() {
+    TaskService taskService = new TaskService(taskRepository, null, null);
+    statistics.clear();
+
+    List<TaskDto> dtos = taskService.findDtosByProject(project.getId());
+
+    assertEquals(TASK_COUNT, dtos.size());
+    dtos.forEach(
+        dto -> {
+          assertEquals(2, dto.commentCount());
+          assertEquals(1, dto.attachments().size());
+          assertEquals(assignee.getId(), dto.assigneeId());
+        });
+    assertEquals(EXPECTED_STATEMENTS, statistics.getPrepareStatementCount());
+    assertEquals(0, statistics.getEntityLoadCount(), "Projections should not load entities");
+    assertEquals(0, statistics.getCollectionLoadCount(), "Projections should not load collections");
+  }
+
+  @Test
+  void export_ShouldMergeCollectionsFromCursorsWithoutHydratingEntities() throws Exception {
+    TaskService taskService = new TaskService(taskRepository, null, null);
+    List<TaskDto> exported = new ArrayList<>();
+    statistics.clear();
+
+    taskService.export(
+        new ExportWriter<>() {
+          @Override
+          public void write(TaskDto item) {
+            exported.add(item);
+          }
+
+          @Override
+          public void close() {}
+        });
+
+    assertEquals(TASK_COUNT, exported.size());
+    exported.forEach(
+        dto -> {
+          assertEquals(2, dto.commentCount());
+          assertEquals(1, dto.attachments().size());
+          assertEquals(assignee.getId(), dto.assigneeId());
+        });
+    assertEquals(EXPECTED_STATEMENTS, statistics.getPrepareStatementCount());
+    assertEquals(0, statistics.getEntityLoadCount(), "Export should not load entities");
+  }
+
+  private void assertStatements(Supplier<List<Task>> query, int expectedTasks) {
+    statistics.clear();
+
+    List<TaskDto> dtos = query.get().stream().map(TaskDto::fromTask).toList();
+
+    assertEquals(expectedTasks, dtos.size());
+    dtos.forEach(
+        dto -> {
+          assertEquals(2, dto.commentCount());
+          assertEquals(1, dto.attachments().size());
+        });
+    assertEquals(
+        EXPECTED_STATEMENTS,
+        statistics.getPrepareStatementCount(),
+        "Tasks and attachments should each need exactly one query");
+  }
+}
@@ -0,0 +1,149 @@
+package de.tum.cit.aet.closed.ai;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import de.tum.cit.aet.closed.ai.etag.Fingerprint;
+import de.tum.cit.aet.closed.ai.model.Project;
+import de.tum.cit.aet.closed.ai.model.Task;
+import de.tum.cit.aet.closed.ai.model.TaskStatus;
+import de.tum.cit.aet.closed.ai.model.User;
+import jakarta.persistence.EntityManager;
+import java.util.Arrays;
+import java.util.List;
+import org.hibernate.Session;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Runs the filtered task queries of {@link TaskFilterRepository} and checks that filters which are
+ * not given are left out of the statement instead of being compared with null.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class TaskFilterRepositoryTest {
+
+  @Autowired private EntityManager entityManager;
+  @Autowired private TaskRepository taskRepository;
+
+  private Statistics statistics;
+  private Project project;
+  private Project otherProject;
+  private User assignee;
+  private Task openTask;
+  private Task doneTask;
+  private Task otherProjectTask;
+
+  @BeforeEach
+  void setUp() {
+    statistics = entityManager.unwrap(Session.class).getSessionFactory().getStatistics();
+
+    project = persistProject("Filters");
+    otherProject = persistProject("Other");
+    assignee = new User();
+    assignee.setName("Assignee");
+    entityManager.persist(assignee);
+
+    openTask = persistTask(TaskStatus.OPEN, project, assignee);
+    doneTask = persistTask(TaskStatus.DONE, project, null);
+    otherProjectTask = persistTask(TaskStatus.OPEN, otherProject, assignee);
+    entityManager.flush();
+    entityManager.clear();
+    statistics.clear();
+  }
+
+  @Test
+  void findPage_WithoutFilters_ShouldReturnAllTasksNewestFirst() {
+    // Act
+    List<Task> page = taskRepository.findPage(null, null, null, null, null, Pageable.unpaged());
+
+    // Assert
+    assertEquals(
+        ids(otherProjectTask, doneTask, openTask), page.stream().map(Task::getId).toList());
+    assertNoNullChecks();
+  }
+
+  @Test
+  void findPage_WithStatusAndProject_ShouldOnlyReturnMatchingTasks() {
+    // Act
+    List<Task> page =
+        taskRepository.findPage(
+            TaskStatus.OPEN, null, project.getId(), null, null, Pageable.unpaged());
+
+    // Assert
+    assertEquals(ids(openTask), page.stream().map(Task::getId).toList());
+    assertNoNullChecks();
+  }
+
+  @Test
+  void findPage_WithAssigneeAndCursor_ShouldContinueAfterCursor() {
+    // Arrange
+    Task first =
+        taskRepository
+            .findPage(null, assignee.getId(), null, null, null, PageRequest.of(0, 1))
+            .getFirst();
+
+    // Act
+    List<Task> page =
+        taskRepository.findPage(
+            null,
+            assignee.getId(),
+            null,
+            first.getUpdatedAt(),
+            first.getId(),
+            PageRequest.of(0, 1));
+
+    // Assert
+    assertEquals(otherProjectTask.getId(), first.getId());
+    assertEquals(ids(openTask), page.stream().map(Task::getId).toList());
+    assertNoNullChecks();
+  }
+
+  @Test
+  void fingerprint_ShouldCountTasksMatchingTheFilters() {
+    // Act
+    Fingerprint all = taskRepository.fingerprint(null, null, null);
+    Fingerprint open = taskRepository.fingerprint(TaskStatus.OPEN, null, project.getId());
+    Fingerprint none = taskRepository.fingerprint(TaskStatus.BACKLOG, null, null);
+
+    // Assert
+    assertEquals(3L, all.getRowCount().longValue());
+    assertEquals(1L, open.getRowCount().longValue());
+    assertEquals(0L, none.getRowCount().longValue());
+    assertNull(none.getLastModified(), "An empty set should have no last modification");
+    assertNoNullChecks();
+  }
+
+  private Project persistProject(String name) {
+    Project newProject = new Project();
+    newProject.setName(name);
+    newProject.setColor("#000000");
+    entityManager.persist(newProject);
+    return newProject;
+  }
+
+  private Task persistTask(TaskStatus status, Project taskProject, User taskAssignee) {
+    Task task = new Task();
+    task.setTitle("Task " + status);
+    task.setStatus(status);
+    task.setProject(taskProject);
+    task.setAssignee(taskAssignee);
+    entityManager.persist(task);
+    return task;
+  }
+
+  private static List<Long> ids(Task... tasks) {
+    return Arrays.stream(tasks).map(Task::getId).toList();
+  }
+
+  private void assertNoNullChecks() {
+    for (String query : statistics.getQueries()) {
+      assertFalse(query.contains("is null"), "Filters should not be compared with null: " + query);
+    }
+  }
+}
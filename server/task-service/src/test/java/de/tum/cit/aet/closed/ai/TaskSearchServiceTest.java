@@ -0,0 +1,95 @@
+package de.tum.cit.aet.closed.ai;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import de.tum.cit.aet.closed.ai.dto.TaskSearchHitDto;
+import de.tum.cit.aet.closed.ai.model.Project;
+import de.tum.cit.aet.closed.ai.model.Task;
+import de.tum.cit.aet.closed.ai.pagination.RankCursor;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+/**
+ * Runs the substring fallback that {@link TaskSearchService} uses on H2; the full-text path needs
+ * PostgreSQL and is not covered here.
+ */
+@DataJpaTest
+class TaskSearchServiceTest {
+
+  @Autowired private EntityManager entityManager;
+  @Autowired private TaskRepository taskRepository;
+
+  private TaskSearchService taskSearchService;
+  private Project project;
+
+  @BeforeEach
+  void setUp() {
+    taskSearchService =
+        new TaskSearchService(taskRepository, new TaskService(taskRepository, null, null), false);
+
+    project = new Project();
+    project.setName("Search");
+    project.setColor("#000000");
+    entityManager.persist(project);
+  }
+
+  @Test
+  void search_ShouldMatchTitleAndDescriptionIgnoringCase() {
+    // Arrange
+    Task inTitle = persist("Quarterly BUDGET review", null);
+    Task inDescription = persist("Planning", "Align the budget with finance");
+    persist("Unrelated", "Nothing to see");
+
+    // Act
+    List<TaskSearchHitDto> hits = taskSearchService.search("Budget", null, 10);
+
+    // Assert
+    assertEquals(
+        List.of(inDescription.getId(), inTitle.getId()),
+        hits.stream().map(hit -> hit.task().id()).toList());
+    assertNull(hits.getFirst().highlight());
+    assertEquals(0f, hits.getFirst().rank());
+  }
+
+  @Test
+  void search_WithCursor_ShouldContinueAfterCursor() {
+    // Arrange
+    Task first = persist("Fix login", null);
+    Task second = persist("Fix logout", null);
+
+    // Act
+    List<TaskSearchHitDto> hits =
+        taskSearchService.search("fix", new RankCursor(0, second.getId()), 10);
+
+    // Assert
+    assertEquals(List.of(first.getId()), hits.stream().map(hit -> hit.task().id()).toList());
+  }
+
+  @Test
+  void search_ShouldTreatWildcardsLiterally() {
+    // Arrange
+    Task percent = persist("Raise coverage to 100%", null);
+    persist("Raise coverage to 1000", null);
+
+    // Act
+    List<TaskSearchHitDto> hits = taskSearchService.search("100%", null, 10);
+
+    // Assert
+    assertEquals(List.of(percent.getId()), hits.stream().map(hit -> hit.task().id()).toList());
+  }
+
+  private Task persist(String title, String description) {
+    Task task = new Task();
+    task.setTitle(title);
+    task.setDescription(description);
+    task.setProject(project);
+    entityManager.persist(task);
+    entityManager.flush();
+    return task;
+  }
+}
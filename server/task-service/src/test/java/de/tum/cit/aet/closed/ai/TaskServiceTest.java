@@ -1,28 +1,47 @@
 package de.tum.cit.aet.closed.ai;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
+import de.tum.cit.aet.closed.ai.dto.BulkStatusUpdateResultDto;
+import de.tum.cit.aet.closed.ai.dto.TaskDto;
+import de.tum.cit.aet.closed.ai.dto.TaskElement;
+import de.tum.cit.aet.closed.ai.etag.Fingerprint;
+import de.tum.cit.aet.closed.ai.exception.PreconditionFailedException;
 import de.tum.cit.aet.closed.ai.exception.TaskNotFoundException;
 import de.tum.cit.aet.closed.ai.metrics.TaskMetrics;
 import de.tum.cit.aet.closed.ai.model.Project;
 import de.tum.cit.aet.closed.ai.model.Task;
+import de.tum.cit.aet.closed.ai.model.TaskComment;
 import de.tum.cit.aet.closed.ai.model.TaskStatus;
 import de.tum.cit.aet.closed.ai.model.User;
+import de.tum.cit.aet.closed.ai.pagination.KeysetCursor;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 @ExtendWith(MockitoExtension.class)
 public class TaskServiceTest {
 
   @Mock private TaskRepository taskRepository;
+  @Mock private TaskCommentRepository taskCommentRepository;
   @Mock private TaskMetrics taskMetrics;
 
   @InjectMocks private TaskService taskService;
@@ -63,17 +82,46 @@ public class TaskServiceTest {
   }
 
   @Test
-  void findAll_ShouldReturnAllTasks() {
+  void findAll_ShouldQueryAllMatchingTasksUnpaged() {
     // Arrange
     List<Task> expectedTasks = Arrays.asList(testTask1, testTask2);
-    when(taskRepository.findAll()).thenReturn(expectedTasks);
+    when(taskRepository.findPage(TaskStatus.OPEN, 1L, null, null, null, Pageable.unpaged()))
+        .thenReturn(expectedTasks);
 
     // Act
-    List<Task> actualTasks = taskService.findAll();
+    List<Task> actualTasks = taskService.findAll(TaskStatus.OPEN, 1L, null);
 
     // Assert
     assertEquals(expectedTasks, actualTasks);
-    verify(taskRepository).findAll();
+  }
+
+  @Test
+  void findPage_WithoutCursor_ShouldQueryFromStart() {
+    // Arrange
+    List<Task> expectedTasks = Arrays.asList(testTask1, testTask2);
+    when(taskRepository.findPage(null, 1L, null, null, null, PageRequest.of(0, 10)))
+        .thenReturn(expectedTasks);
+
+    // Act
+    List<Task> actualTasks = taskService.findPage(null, 1L, null, null, 10);
+
+    // Assert
+    assertEquals(expectedTasks, actualTasks);
+  }
+
+  @Test
+  void findPage_WithCursor_ShouldQueryAfterCursor() {
+    // Arrange
+    Instant updatedAt = Instant.parse("2025-06-01T10:00:00Z");
+    when(taskRepository.findPage(TaskStatus.OPEN, null, 1L, updatedAt, 7L, PageRequest.of(0, 25)))
+        .thenReturn(List.of(testTask1));
+
+    // Act
+    List<Task> actualTasks =
+        taskService.findPage(TaskStatus.OPEN, null, 1L, new KeysetCursor(updatedAt, 7L), 25);
+
+    // Assert
+    assertEquals(List.of(testTask1), actualTasks);
   }
 
   @Test
@@ -103,6 +151,29 @@ public class TaskServiceTest {
     verify(taskRepository).save(testTask1);
   }
 
+  @Test
+  void update_ShouldFlushAndReturnTask() {
+    // Arrange
+    when(taskRepository.saveAndFlush(testTask1)).thenReturn(testTask1);
+
+    // Act
+    Task updatedTask = taskService.update(testTask1);
+
+    // Assert
+    assertEquals(testTask1, updatedTask);
+    verify(taskRepository).saveAndFlush(testTask1);
+  }
+
+  @Test
+  void update_WhenTaskChangedConcurrently_ShouldThrowPreconditionFailed() {
+    // Arrange
+    when(taskRepository.saveAndFlush(testTask1))
+        .thenThrow(new ObjectOptimisticLockingFailureException(Task.class, 1L));
+
+    // Act & Assert
+    assertThrows(PreconditionFailedException.class, () -> taskService.update(testTask1));
+  }
+
   @Test
   void delete_ShouldCallRepositoryAndUpdateMetrics() {
     // Act
@@ -152,4 +223,251 @@ public class TaskServiceTest {
     verify(taskRepository).findById(99L);
     verify(taskRepository, never()).save(any(Task.class));
   }
+
+  @Test
+  void setStatus_ForMultipleTasks_ShouldUpdateExistingTasksInOneStatement() {
+    // Arrange
+    when(taskRepository.findExistingIds(Set.of(1L, 2L, 99L))).thenReturn(List.of(1L, 2L));
+    when(taskRepository.updateStatus(eq(List.of(1L, 2L)), eq(TaskStatus.DONE), any(Instant.class)))
+        .thenReturn(2);
+
+    // Act
+    BulkStatusUpdateResultDto result =
+        taskService.setStatus(List.of(1L, 2L, 2L, 99L), TaskStatus.DONE);
+
+    // Assert
+    assertEquals(TaskStatus.DONE, result.status());
+    assertEquals(List.of(1L, 2L), result.updatedIds());
+    assertEquals(List.of(99L), result.notFoundIds());
+    verify(taskRepository, times(1))
+        .updateStatus(eq(List.of(1L, 2L)), eq(TaskStatus.DONE), any(Instant.class));
+    verify(taskMetrics).incrementStatusChanges(2);
+  }
+
+  @Test
+  void setStatus_ForUnknownTasks_ShouldNotIssueUpdate() {
+    // Arrange
+    when(taskRepository.findExistingIds(Set.of(98L, 99L))).thenReturn(List.of());
+
+    // Act
+    BulkStatusUpdateResultDto result = taskService.setStatus(List.of(98L, 99L), TaskStatus.OPEN);
+
+    // Assert
+    assertTrue(result.updatedIds().isEmpty());
+    assertEquals(List.of(98L, 99L), result.notFoundIds());
+    verify(taskRepository, never()).updateStatus(anyCollection(), any(), any());
+    verify(taskMetrics, never()).incrementStatusChanges(anyInt());
+  }
+
+  @Test
+  void setStatus_ForNoTasks_ShouldNotQueryDatabase() {
+    // Act
+    BulkStatusUpdateResultDto result = taskService.setStatus(List.of(), TaskStatus.OPEN);
+
+    // Assert
+    assertTrue(result.updatedIds().isEmpty());
+    assertTrue(result.notFoundIds().isEmpty());
+    verifyNoInteractions(taskRepository);
+  }
+
+  @Test
+  void findDtosByProject_ShouldAttachAttachmentsAndCommentCountsToRows() {
+    // Arrange
+    when(taskRepository.findRowsByProjectId(1L))
+        .thenReturn(List.of(row(1L, "Test Task 1", 1L, 2), row(2L, "Test Task 2", null, 0)));
+    when(taskRepository.findAttachmentsByProjectId(1L))
+        .thenReturn(List.of(element(2L, "spec.pdf")));
+
+    // Act
+    List<TaskDto> dtos = taskService.findDtosByProject(1L);
+
+    // Assert
+    assertEquals(2, dtos.size());
+    assertEquals("Test Task 1", dtos.get(0).title());
+    assertEquals(1L, dtos.get(0).assigneeId());
+    assertEquals(2, dtos.get(0).commentCount());
+    assertTrue(dtos.get(0).comments().isEmpty());
+    assertTrue(dtos.get(0).attachments().isEmpty());
+    assertNull(dtos.get(1).assigneeId());
+    assertEquals(0, dtos.get(1).commentCount());
+    assertEquals(List.of("spec.pdf"), dtos.get(1).attachments());
+  }
+
+  @Test
+  void findDtosByIds_ShouldKeepRequestedOrderAndSkipMissingTasks() {
+    // Arrange
+    List<Long> ids = List.of(2L, 3L, 1L);
+    when(taskRepository.findRowsByIds(ids))
+        .thenReturn(List.of(row(1L, "Test Task 1", 1L, 0), row(2L, "Test Task 2", null, 0)));
+    when(taskRepository.findAttachmentsByTaskIds(ids)).thenReturn(List.of());
+
+    // Act
+    Map<Long, TaskDto> dtos = taskService.findDtosByIds(ids);
+
+    // Assert
+    assertEquals(List.of(2L, 1L), List.copyOf(dtos.keySet()));
+    assertEquals("Test Task 2", dtos.get(2L).title());
+  }
+
+  @Test
+  void findDtosByIds_ForNoIds_ShouldNotQueryDatabase() {
+    // Act & Assert
+    assertTrue(taskService.findDtosByIds(List.of()).isEmpty());
+    verifyNoInteractions(taskRepository);
+  }
+
+  @Test
+  void findDtosByAssignee_ShouldUseAssigneeQueries() {
+    // Arrange
+    when(taskRepository.findRowsByAssigneeId(1L))
+        .thenReturn(List.of(row(1L, "Test Task 1", 1L, 0)));
+    when(taskRepository.findAttachmentsByAssigneeId(1L)).thenReturn(List.of());
+
+    // Act
+    List<TaskDto> dtos = taskService.findDtosByAssignee(1L);
+
+    // Assert
+    assertEquals(1, dtos.size());
+    assertEquals(1L, dtos.getFirst().id());
+    verify(taskRepository, never()).findByAssigneeId(anyLong());
+  }
+
+  @Test
+  void addComment_ShouldInsertOneCommentAndCountIt() {
+    // Arrange
+    when(taskRepository.incrementCommentCount(eq(1L), any(Instant.class))).thenReturn(1);
+    when(taskRepository.getReferenceById(1L)).thenReturn(testTask1);
+    when(taskCommentRepository.save(any(TaskComment.class)))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+
+    // Act
+    TaskComment comment = taskService.addComment(1L, "Looks good");
+
+    // Assert
+    assertEquals(testTask1, comment.getTask());
+    assertEquals("Looks good", comment.getContent());
+    verify(taskCommentRepository, times(1)).save(comment);
+    verify(taskRepository, never()).findById(anyLong());
+  }
+
+  @Test
+  void addComment_WhenTaskDoesNotExist_ShouldThrowException() {
+    // Arrange
+    when(taskRepository.incrementCommentCount(eq(99L), any(Instant.class))).thenReturn(0);
+
+    // Act & Assert
+    assertThrows(TaskNotFoundException.class, () -> taskService.addComment(99L, "Hello"));
+    verifyNoInteractions(taskCommentRepository);
+  }
+
+  @Test
+  void findComments_WithCursor_ShouldQueryAfterCursor() {
+    // Arrange
+    KeysetCursor cursor = new KeysetCursor(Instant.parse("2025-06-01T10:00:00Z"), 5L);
+    TaskComment comment = new TaskComment();
+    when(taskCommentRepository.findPage(1L, cursor.timestamp(), 5L, PageRequest.of(0, 11)))
+        .thenReturn(List.of(comment));
+
+    // Act
+    List<TaskComment> result = taskService.findComments(1L, cursor, 11);
+
+    // Assert
+    assertEquals(List.of(comment), result);
+    verify(taskRepository, never()).existsById(anyLong());
+  }
+
+  @Test
+  void findComments_WhenTaskDoesNotExist_ShouldThrowException() {
+    // Arrange
+    when(taskCommentRepository.findPage(99L, null, null, PageRequest.of(0, 11)))
+        .thenReturn(List.of());
+    when(taskRepository.existsById(99L)).thenReturn(false);
+
+    // Act & Assert
+    assertThrows(TaskNotFoundException.class, () -> taskService.findComments(99L, null, 11));
+  }
+
+  @Test
+  void listETag_ShouldBeDerivedFromFingerprint() {
+    // Arrange
+    Instant lastModified = Instant.parse("2025-06-01T10:00:00Z");
+    when(taskRepository.fingerprint(null, null, 1L))
+        .thenReturn(
+            new Fingerprint() {
+              @Override
+              public Long getRowCount() {
+                return 2L;
+              }
+
+              @Override
+              public Instant getLastModified() {
+                return lastModified;
+              }
+            });
+
+    // Act
+    String etag = taskService.listETag(null, null, 1L);
+
+    // Assert
+    assertEquals("\"2-1748772000000000\"", etag);
+  }
+
+  private static TaskRepository.TaskRow row(
+      Long id, String title, Long assigneeId, int commentCount) {
+    return new TaskRepository.TaskRow() {
+      @Override
+      public Long getId() {
+        return id;
+      }
+
+      @Override
+      public String getTitle() {
+        return title;
+      }
+
+      @Override
+      public String getDescription() {
+        return null;
+      }
+
+      @Override
+      public TaskStatus getStatus() {
+        return TaskStatus.OPEN;
+      }
+
+      @Override
+      public Instant getCreatedAt() {
+        return null;
+      }
+
+      @Override
+      public Instant getUpdatedAt() {
+        return null;
+      }
+
+      @Override
+      public Long getAssigneeId() {
+        return assigneeId;
+      }
+
+      @Override
+      public int getCommentCount() {
+        return commentCount;
+      }
+    };
+  }
+
+  private static TaskElement element(Long taskId, String content) {
+    return new TaskElement() {
+      @Override
+      public Long getTaskId() {
+        return taskId;
+      }
+
+      @Override
+      public String getContent() {
+        return content;
+      }
+    };
+  }
 }
@@ -39,4 +39,15 @@ public class TaskMetricsTest {
     Counter counter = registry.find("tasks_deleted_total").counter();
     assertEquals(2.0, counter.count());
   }
+
+  @Test
+  public void testIncrementStatusChanges() {
+    // Arrange & Act
+    taskMetrics.incrementStatusChanges(1);
+    taskMetrics.incrementStatusChanges(200);
+
+    // Assert
+    Counter counter = registry.find("tasks_status_changes_total").counter();
+    assertEquals(201.0, counter.count());
+  }
 }
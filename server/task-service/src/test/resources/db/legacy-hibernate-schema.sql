@@ -0,0 +1,75 @@
+-- A database as Hibernate created it with ddl-auto=update before Flyway owned the schema: IDENTITY
+-- IDs, descriptions as large objects, comments as an element collection and no version or comment
+-- count on task. Loaded into an empty database by LegacySchemaMigrationTest.
+
+create table users (
+    id              bigint generated by default as identity,
+    created_at      timestamp(6) with time zone not null,
+    name            varchar(255)                not null,
+    profile_picture varchar(255),
+    updated_at      timestamp(6) with time zone not null,
+    primary key (id)
+);
+
+create table project (
+    id         bigint generated by default as identity,
+    color      varchar(255)                not null,
+    created_at timestamp(6) with time zone not null,
+    name       varchar(255)                not null,
+    updated_at timestamp(6) with time zone not null,
+    primary key (id)
+);
+
+create table task (
+    id          bigint generated by default as identity,
+    created_at  timestamp(6) with time zone not null,
+    description oid,
+    status      varchar(255) check (status in ('BACKLOG', 'OPEN', 'IN_PROGRESS', 'DONE')),
+    title       varchar(255)                not null,
+    updated_at  timestamp(6) with time zone not null,
+    assignee_id bigint,
+    project_id  bigint                      not null,
+    primary key (id)
+);
+
+create table task_attachments (
+    task_id    bigint not null,
+    attachment varchar(255)
+);
+
+create table task_comments (
+    task_id bigint not null,
+    comment varchar(255)
+);
+
+alter table if exists task add constraint fk_task_assignee
+    foreign key (assignee_id) references users;
+alter table if exists task add constraint fk_task_project
+    foreign key (project_id) references project;
+alter table if exists task_attachments add constraint fk_task_attachments_task
+    foreign key (task_id) references task;
+alter table if exists task_comments add constraint fk_task_comments_task
+    foreign key (task_id) references task;
+
+-- a single user, so that the highest user ID is the 1 a fresh sequence starts with
+insert into users (created_at, name, updated_at)
+values ('2025-01-01 10:00:00+00', 'Jane', '2025-01-01 10:00:00+00');
+
+insert into project (color, created_at, name, updated_at)
+values ('#ff0000', '2025-01-01 10:00:00+00', 'Legacy', '2025-01-01 10:00:00+00');
+
+insert into task (created_at, description, status, title, updated_at, assignee_id, project_id)
+values ('2025-01-02 10:00:00+00',
+        lo_from_bytea(0, convert_to('Align the budget with finance', 'UTF8')),
+        'OPEN', 'Planning', '2025-01-02 10:00:00+00', 1, 1);
+insert into task (created_at, description, status, title, updated_at, assignee_id, project_id)
+values ('2025-01-03 10:00:00+00', null, 'BACKLOG', 'Quarterly review', '2025-01-03 10:00:00+00',
+        null, 1);
+insert into task (created_at, description, status, title, updated_at, assignee_id, project_id)
+values ('2025-01-04 10:00:00+00', null, 'DONE', 'Release', '2025-01-04 10:00:00+00', 1, 1);
+
+insert into task_attachments (task_id, attachment) values (1, 'plan.pdf');
+
+insert into task_comments (task_id, comment) values (1, 'First');
+insert into task_comments (task_id, comment) values (1, 'Second');
+insert into task_comments (task_id, comment) values (3, 'Shipped');
@@ -1,16 +1,28 @@
 package de.tum.cit.aet.closed.ai;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import de.tum.cit.aet.closed.ai.dto.CreateUserDto;
 import de.tum.cit.aet.closed.ai.dto.UserDto;
+import de.tum.cit.aet.closed.ai.etag.ETags;
 import de.tum.cit.aet.closed.ai.exception.UserNotFoundException;
+import de.tum.cit.aet.closed.ai.export.CsvWriter;
+import de.tum.cit.aet.closed.ai.export.ExportFormat;
+import de.tum.cit.aet.closed.ai.export.ExportWriter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Instant;
 import java.util.List;
+import java.util.Objects;
 import lombok.AllArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
 
 @RestController
 @RequestMapping("/users")
@@ -19,15 +31,53 @@ import org.springframework.web.bind.annotation.*;
     name = "User Management",
     description = "Operations related to user management including CRUD operations")
 public class UserController {
+  static final int MAX_BATCH_SIZE = 1000;
+
+  static final List<CsvWriter.Column<UserDto>> CSV_COLUMNS =
+      List.of(
+          new CsvWriter.Column<>("id", UserDto::id),
+          new CsvWriter.Column<>("name", UserDto::name),
+          new CsvWriter.Column<>("profilePicture", UserDto::profilePicture),
+          new CsvWriter.Column<>("createdAt", UserDto::createdAt),
+          new CsvWriter.Column<>("updatedAt", UserDto::updatedAt));
+
   private final UserService userService;
+  private final ObjectMapper objectMapper;
 
   @GetMapping
   @Operation(summary = "Get all users", description = "Retrieve a list of all users in the system")
-  @ApiResponse(responseCode = "200", description = "Successfully retrieved list of users")
-  public List<UserDto> getAll() {
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved list of users"),
+        @ApiResponse(responseCode = "304", description = "Users unchanged since the given ETag")
+      })
+  public List<UserDto> getAll(WebRequest request) {
+    if (request.checkNotModified(userService.listETag())) {
+      return null;
+    }
     return userService.findAll().stream().map(UserDto::fromUser).toList();
   }
 
+  @GetMapping("/export")
+  @Operation(
+      summary = "Export all users",
+      description =
+          "Stream every user ordered by ID, as newline-delimited JSON (one UserDto per line) or as"
+              + " CSV. The response is written while the users are read, so its size is not"
+              + " limited by memory.")
+  @ApiResponse(responseCode = "200", description = "Users streamed successfully")
+  public void export(
+      @Parameter(description = "Output format") @RequestParam(defaultValue = "NDJSON")
+          ExportFormat format,
+      HttpServletResponse response)
+      throws IOException {
+    format.prepare(response, "users");
+    try (ExportWriter<UserDto> writer =
+        format.open(response.getOutputStream(), objectMapper, CSV_COLUMNS)) {
+      userService.export(writer);
+    }
+  }
+
   @GetMapping("/{id}")
   @Operation(
       summary = "Get user by ID",
@@ -35,17 +85,50 @@ public class UserController {
   @ApiResponses(
       value = {
         @ApiResponse(responseCode = "200", description = "User found and returned successfully"),
+        @ApiResponse(responseCode = "304", description = "User unchanged since the given ETag"),
         @ApiResponse(responseCode = "404", description = "User not found with the provided ID")
       })
   public UserDto getUser(
       @Parameter(description = "Unique identifier of the user", required = true) @PathVariable
-          Long id) {
+          Long id,
+      WebRequest request) {
+    Instant updatedAt =
+        userService
+            .findUpdatedAt(id)
+            .orElseThrow(() -> new UserNotFoundException("No user with ID " + id));
+    if (request.checkNotModified(ETags.of(id, updatedAt), ETags.lastModified(updatedAt))) {
+      return null;
+    }
     return userService
         .findById(id)
         .map(UserDto::fromUser)
         .orElseThrow(() -> new UserNotFoundException("No user with ID " + id));
   }
 
+  @PostMapping("/batch")
+  @Operation(
+      summary = "Get users by IDs",
+      description =
+          "Retrieve up to "
+              + MAX_BATCH_SIZE
+              + " users in one request. Unknown IDs are omitted from the result.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved known users"),
+        @ApiResponse(responseCode = "400", description = "Too many user IDs provided")
+      })
+  public List<UserDto> getUsers(@RequestBody List<Long> ids) {
+    if (ids.size() > MAX_BATCH_SIZE) {
+      throw new ResponseStatusException(
+          HttpStatus.BAD_REQUEST, "At most " + MAX_BATCH_SIZE + " users can be requested at once");
+    }
+    List<Long> distinctIds = ids.stream().filter(Objects::nonNull).distinct().toList();
+    if (distinctIds.isEmpty()) {
+      return List.of();
+    }
+    return userService.findAllById(distinctIds).stream().map(UserDto::fromUser).toList();
+  }
+
   @PostMapping
   @Operation(
       summary = "Create a new user",
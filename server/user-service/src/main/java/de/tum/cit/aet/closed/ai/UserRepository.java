@@ -1,9 +1,31 @@
 package de.tum.cit.aet.closed.ai;
 
+import de.tum.cit.aet.closed.ai.etag.Fingerprint;
+import de.tum.cit.aet.closed.ai.export.ExportWriter;
 import de.tum.cit.aet.closed.ai.model.User;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface UserRepository extends JpaRepository<User, Long> {
   Optional<User> findByName(String name);
+
+  @Query("select u.updatedAt from User u where u.id = :id")
+  Optional<Instant> findUpdatedAtById(Long id);
+
+  @Query("select count(u) as rowCount, max(u.updatedAt) as lastModified from User u")
+  Fingerprint fingerprint();
+
+  /** Every user ordered by ID, read through a forward-only cursor for exports. */
+  @Query("select u from User u order by u.id")
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ExportWriter.FETCH_SIZE),
+    @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  Stream<User> streamAll();
 }
@@ -1,17 +1,31 @@
 package de.tum.cit.aet.closed.ai;
 
+import de.tum.cit.aet.closed.ai.dto.UserDto;
+import de.tum.cit.aet.closed.ai.etag.ETags;
+import de.tum.cit.aet.closed.ai.event.UserChangedEvent;
+import de.tum.cit.aet.closed.ai.export.ExportWriter;
 import de.tum.cit.aet.closed.ai.metrics.UserMetrics;
 import de.tum.cit.aet.closed.ai.model.User;
+import jakarta.persistence.EntityManager;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @AllArgsConstructor
 public class UserService {
   private final UserRepository userRepository;
   private final UserMetrics userMetrics;
+  private final ApplicationEventPublisher eventPublisher;
+  private final EntityManager entityManager;
 
   public List<User> findAll() {
     return userRepository.findAll();
@@ -21,13 +35,44 @@ public class UserService {
     return userRepository.findById(id);
   }
 
+  public List<User> findAllById(Collection<Long> ids) {
+    return userRepository.findAllById(ids);
+  }
+
+  public Optional<Instant> findUpdatedAt(Long id) {
+    return userRepository.findUpdatedAtById(id);
+  }
+
+  /** ETag of the user list, from a single count/max query. */
+  public String listETag() {
+    return ETags.of(userRepository.fingerprint());
+  }
+
+  /**
+   * Writes every user to {@code writer} from a forward-only cursor, detaching each user once
+   * written so the persistence context does not grow with the number of users.
+   */
+  @Transactional(readOnly = true)
+  public void export(ExportWriter<UserDto> writer) throws IOException {
+    try (Stream<User> users = userRepository.streamAll()) {
+      for (Iterator<User> it = users.iterator(); it.hasNext(); ) {
+        User user = it.next();
+        writer.write(UserDto.fromUser(user));
+        entityManager.detach(user);
+      }
+    }
+  }
+
   public User save(User user) {
-    return userRepository.save(user);
+    User savedUser = userRepository.save(user);
+    eventPublisher.publishEvent(new UserChangedEvent(savedUser.getId()));
+    return savedUser;
   }
 
   public void delete(Long id) {
     userRepository.deleteById(id);
     userMetrics.incrementUsersDeleted();
+    eventPublisher.publishEvent(new UserChangedEvent(id));
   }
 
   public User create(String name, String profilePicture) {
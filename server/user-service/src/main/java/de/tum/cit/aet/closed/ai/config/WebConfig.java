@@ -1,6 +1,7 @@
 package de.tum.cit.aet.closed.ai.config;
 
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -17,6 +18,7 @@ public class WebConfig implements WebMvcConfigurer {
             "https://closed-ai.student.k8s.aet.cit.tum.de")
         .allowedMethods("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS")
         .allowedHeaders("*")
+        .exposedHeaders(HttpHeaders.ETAG, HttpHeaders.LAST_MODIFIED)
         .allowCredentials(true)
         .maxAge(3600);
   }
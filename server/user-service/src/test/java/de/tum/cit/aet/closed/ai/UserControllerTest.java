@@ -2,12 +2,18 @@ package de.tum.cit.aet.closed.ai;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.tum.cit.aet.closed.ai.dto.UserDto;
+import de.tum.cit.aet.closed.ai.export.ExportWriter;
 import de.tum.cit.aet.closed.ai.model.User;
+import java.time.Instant;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,6 +21,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
@@ -23,10 +30,14 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 @ExtendWith(MockitoExtension.class)
 class UserControllerTest {
 
+  private static final Instant UPDATED_AT = Instant.parse("2025-06-01T10:00:00Z");
+
   private MockMvc mockMvc;
 
   @Mock private UserService userService;
 
+  @Spy private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
   @InjectMocks private UserController userController;
 
   private User testUser1;
@@ -74,14 +85,63 @@ class UserControllerTest {
   }
 
   @Test
-  void getUserById_WhenUserExists_ShouldReturnUser() throws Exception {
+  void exportUsers_ShouldStreamOneJsonLinePerUser() throws Exception {
+    // Mock service method
+    doAnswer(
+            invocation -> {
+              ExportWriter<UserDto> writer = invocation.getArgument(0);
+              writer.write(UserDto.fromUser(testUser1));
+              writer.write(UserDto.fromUser(testUser2));
+              return null;
+            })
+        .when(userService)
+        .export(any());
+
+    // Perform GET request and validate response
+    mockMvc
+        .perform(get("/users/export"))
+        .andExpect(status().isOk())
+        .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+        .andExpect(header().string("Content-Disposition", containsString("users.ndjson")))
+        .andExpect(
+            content()
+                .string(
+                    allOf(startsWith("{\"id\":1,"), containsString("}\n{\"id\":2,"))));
+  }
+
+  @Test
+  void exportUsers_AsCsv_ShouldWriteHeaderAndRows() throws Exception {
     // Mock service method
+    doAnswer(
+            invocation -> {
+              ExportWriter<UserDto> writer = invocation.getArgument(0);
+              writer.write(UserDto.fromUser(testUser1));
+              return null;
+            })
+        .when(userService)
+        .export(any());
+
+    // Perform GET request and validate response
+    mockMvc
+        .perform(get("/users/export").param("format", "CSV"))
+        .andExpect(status().isOk())
+        .andExpect(
+            content()
+                .string(startsWith("id,name,profilePicture,createdAt,updatedAt\r\n1,")));
+  }
+
+  @Test
+  void getUserById_WhenUserExists_ShouldReturnUser() throws Exception {
+    // Mock service methods
+    when(userService.findUpdatedAt(1L)).thenReturn(Optional.of(UPDATED_AT));
     when(userService.findById(1L)).thenReturn(Optional.of(testUser1));
 
     // Perform GET request and validate response
     mockMvc
         .perform(get("/users/1"))
         .andExpect(status().isOk())
+        .andExpect(header().string("ETag", "\"1-1748772000000000\""))
+        .andExpect(header().exists("Last-Modified"))
         .andExpect(jsonPath("$.id", is(1)))
         .andExpect(jsonPath("$.name", is("Test User 1")))
         .andExpect(jsonPath("$.profilePicture", is("profile1.jpg")));
@@ -93,13 +153,96 @@ class UserControllerTest {
   @Test
   void getUserById_WhenUserDoesNotExist_ShouldReturnNotFound() throws Exception {
     // Mock service method
-    when(userService.findById(99L)).thenReturn(Optional.empty());
+    when(userService.findUpdatedAt(99L)).thenReturn(Optional.empty());
 
     // Perform GET request and validate response
     mockMvc.perform(get("/users/99")).andExpect(status().isNotFound());
 
-    // Verify service method was called
-    verify(userService, times(1)).findById(99L);
+    // Verify the user was never loaded
+    verify(userService, never()).findById(99L);
+  }
+
+  @Test
+  void getUserById_WhenETagMatches_ShouldReturnNotModified() throws Exception {
+    // Mock service method
+    when(userService.findUpdatedAt(1L)).thenReturn(Optional.of(UPDATED_AT));
+
+    // Perform GET request and validate response
+    mockMvc
+        .perform(get("/users/1").header("If-None-Match", "\"1-1748772000000000\""))
+        .andExpect(status().isNotModified())
+        .andExpect(content().string(""));
+
+    // Verify the user was never loaded
+    verify(userService, never()).findById(1L);
+  }
+
+  @Test
+  void getUserById_WhenNotModifiedSince_ShouldReturnNotModified() throws Exception {
+    // Mock service method
+    when(userService.findUpdatedAt(1L)).thenReturn(Optional.of(UPDATED_AT));
+
+    // Perform GET request and validate response
+    mockMvc
+        .perform(get("/users/1").header("If-Modified-Since", "Sun, 01 Jun 2025 10:00:00 GMT"))
+        .andExpect(status().isNotModified());
+
+    // Verify the user was never loaded
+    verify(userService, never()).findById(1L);
+  }
+
+  @Test
+  void getAllUsers_WhenETagMatches_ShouldReturnNotModified() throws Exception {
+    // Mock service method
+    when(userService.listETag()).thenReturn("\"2-1748772000000000\"");
+
+    // Perform GET request and validate response
+    mockMvc
+        .perform(get("/users").header("If-None-Match", "\"2-1748772000000000\""))
+        .andExpect(status().isNotModified());
+
+    // Verify no users were loaded
+    verify(userService, never()).findAll();
+  }
+
+  @Test
+  void getUsersByIds_ShouldReturnKnownUsersInOneCall() throws Exception {
+    // Mock service method
+    when(userService.findAllById(List.of(1L, 2L, 99L))).thenReturn(userList);
+
+    // Perform POST request and validate response
+    mockMvc
+        .perform(
+            post("/users/batch").contentType(MediaType.APPLICATION_JSON).content("[1,2,2,99]"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", hasSize(2)))
+        .andExpect(jsonPath("$[0].id", is(1)))
+        .andExpect(jsonPath("$[1].id", is(2)));
+
+    // Verify service method was called once with distinct IDs
+    verify(userService, times(1)).findAllById(List.of(1L, 2L, 99L));
+  }
+
+  @Test
+  void getUsersByIds_WithEmptyList_ShouldNotQueryService() throws Exception {
+    mockMvc
+        .perform(post("/users/batch").contentType(MediaType.APPLICATION_JSON).content("[]"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$", hasSize(0)));
+
+    verify(userService, never()).findAllById(anyList());
+  }
+
+  @Test
+  void getUsersByIds_WithTooManyIds_ShouldReturnBadRequest() throws Exception {
+    String ids = String.join(",", Collections.nCopies(UserController.MAX_BATCH_SIZE + 1, "1"));
+
+    mockMvc
+        .perform(
+            post("/users/batch").contentType(MediaType.APPLICATION_JSON).content("[" + ids + "]"))
+        .andExpect(status().isBadRequest());
+
+    verify(userService, never()).findAllById(anyList());
   }
 
   @Test
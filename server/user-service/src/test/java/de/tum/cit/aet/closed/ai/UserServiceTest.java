@@ -3,17 +3,26 @@ package de.tum.cit.aet.closed.ai;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import de.tum.cit.aet.closed.ai.dto.UserDto;
+import de.tum.cit.aet.closed.ai.etag.Fingerprint;
+import de.tum.cit.aet.closed.ai.event.UserChangedEvent;
+import de.tum.cit.aet.closed.ai.export.ExportWriter;
 import de.tum.cit.aet.closed.ai.metrics.UserMetrics;
 import de.tum.cit.aet.closed.ai.model.User;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 public class UserServiceTest {
@@ -22,6 +31,10 @@ public class UserServiceTest {
 
   @Mock private UserMetrics userMetrics;
 
+  @Mock private ApplicationEventPublisher eventPublisher;
+
+  @Mock private EntityManager entityManager;
+
   @InjectMocks private UserService userService;
 
   private User testUser1;
@@ -82,6 +95,45 @@ public class UserServiceTest {
     verify(userRepository).findById(99L);
   }
 
+  @Test
+  void findAllById_ShouldReturnUsersFromSingleQuery() {
+    // Arrange
+    List<User> expectedUsers = Arrays.asList(testUser1, testUser2);
+    when(userRepository.findAllById(List.of(1L, 2L))).thenReturn(expectedUsers);
+
+    // Act
+    List<User> actualUsers = userService.findAllById(List.of(1L, 2L));
+
+    // Assert
+    assertEquals(expectedUsers, actualUsers);
+    verify(userRepository).findAllById(List.of(1L, 2L));
+  }
+
+  @Test
+  void listETag_ShouldBeDerivedFromFingerprint() {
+    // Arrange
+    Instant lastModified = Instant.parse("2025-06-01T10:00:00Z");
+    when(userRepository.fingerprint())
+        .thenReturn(
+            new Fingerprint() {
+              @Override
+              public Long getRowCount() {
+                return 2L;
+              }
+
+              @Override
+              public Instant getLastModified() {
+                return lastModified;
+              }
+            });
+
+    // Act
+    String etag = userService.listETag();
+
+    // Assert
+    assertEquals("\"2-1748772000000000\"", etag);
+  }
+
   @Test
   void save_ShouldSaveAndReturnUser() {
     // Arrange
@@ -93,6 +145,7 @@ public class UserServiceTest {
     // Assert
     assertEquals(testUser1, savedUser);
     verify(userRepository).save(testUser1);
+    verify(eventPublisher).publishEvent(new UserChangedEvent(1L));
   }
 
   @Test
@@ -103,6 +156,7 @@ public class UserServiceTest {
     // Assert
     verify(userRepository).deleteById(1L);
     verify(userMetrics).incrementUsersDeleted();
+    verify(eventPublisher).publishEvent(new UserChangedEvent(1L));
   }
 
   @Test
@@ -134,4 +188,28 @@ public class UserServiceTest {
     verify(userRepository).save(any(User.class));
     verify(userMetrics).incrementUsersCreated();
   }
+
+  @Test
+  void export_ShouldWriteAndDetachEachUser() throws Exception {
+    // Arrange
+    when(userRepository.streamAll()).thenReturn(Stream.of(testUser1, testUser2));
+    List<UserDto> exported = new ArrayList<>();
+
+    // Act
+    userService.export(
+        new ExportWriter<>() {
+          @Override
+          public void write(UserDto item) {
+            exported.add(item);
+          }
+
+          @Override
+          public void close() {}
+        });
+
+    // Assert
+    assertEquals(List.of(1L, 2L), exported.stream().map(UserDto::id).toList());
+    verify(entityManager).detach(testUser1);
+    verify(entityManager).detach(testUser2);
+  }
 }